@@ -2,9 +2,23 @@ package chess;
 
 import chess.engine.board.Board;
 import chess.gui.Table;
+import chess.uci.UciEngine;
+
+import java.io.IOException;
+import java.util.Arrays;
 
 public class JChess {
-    public static void main(String[] args) {
+    public static final String UCI_MODE = "uci";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && UCI_MODE.equals(args[0])) {
+            UciEngine.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        startGui();
+    }
+
+    private static void startGui() {
         System.out.println(Table.PieceImagesDirResourceName);
         System.out.println(Table.HighlightImageDirResourceName);
         Board board = Board.createStandardBoard();
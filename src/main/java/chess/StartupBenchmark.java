@@ -0,0 +1,138 @@
+package chess;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class StartupBenchmark {
+    private static final int DEFAULT_RUNS = 10;
+    private static final String DEFAULT_COMMAND = "go depth 3";
+
+    private final String javaExecutable;
+    private final String classPath;
+    private final String command;
+
+    public StartupBenchmark(final String javaExecutable, final String classPath, final String command) {
+        this.javaExecutable = javaExecutable;
+        this.classPath = classPath;
+        this.command = command;
+    }
+
+    public long[][] measure(final int runs, final List<String> jvmOptions) throws IOException, InterruptedException {
+        final long[][] timings = new long[runs][];
+        for (int i = 0; i < runs; i++) {
+            timings[i] = launch(jvmOptions);
+        }
+        return timings;
+    }
+
+    public long[] launch(final List<String> jvmOptions) throws IOException, InterruptedException {
+        final List<String> processCommand = new ArrayList<>();
+        processCommand.add(javaExecutable);
+        processCommand.addAll(jvmOptions);
+        processCommand.add("-cp");
+        processCommand.add(classPath);
+        processCommand.add(JChess.class.getName());
+        processCommand.add(JChess.UCI_MODE);
+        final long start = System.nanoTime();
+        final Process process = new ProcessBuilder(processCommand)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        final PrintStream engineInput = new PrintStream(process.getOutputStream(), true, "UTF-8");
+        final BufferedReader engineOutput = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        engineInput.println("uci");
+        engineInput.println("isready");
+        waitFor(engineOutput, "readyok");
+        final long ready = System.nanoTime();
+        engineInput.println("position startpos");
+        engineInput.println(command);
+        waitFor(engineOutput, "bestmove");
+        final long firstResult = System.nanoTime();
+        engineInput.println("quit");
+        process.waitFor();
+        return new long[] {ready - start, firstResult - start};
+    }
+
+    private static void waitFor(final BufferedReader engineOutput, final String prefix) throws IOException {
+        String line;
+        while ((line = engineOutput.readLine()) != null) {
+            if (line.startsWith(prefix)) {
+                return;
+            }
+        }
+        throw new IOException("Engine exited before " + prefix);
+    }
+
+    private static String summarize(final long[][] timings, final int column) {
+        final long[] values = new long[timings.length];
+        long total = 0;
+        for (int i = 0; i < timings.length; i++) {
+            values[i] = timings[i][column];
+            total += values[i];
+        }
+        Arrays.sort(values);
+        return String.format("min %.1f ms  median %.1f ms  mean %.1f ms",
+                values[0] / 1e6, values[values.length / 2] / 1e6, total / 1e6 / values.length);
+    }
+
+    private static void report(final String label, final long[][] timings) {
+        System.out.println(label + " readyok:  " + summarize(timings, 0));
+        System.out.println(label + " bestmove: " + summarize(timings, 1));
+    }
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        int runs = DEFAULT_RUNS;
+        String archive = null;
+        String command = DEFAULT_COMMAND;
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        String classPath = System.getProperty("java.class.path");
+        for (final String arg : args) {
+            final int separator = arg.indexOf('=');
+            if (separator < 0) {
+                System.err.println("usage: StartupBenchmark [runs=N] [archive=jchess.jsa] [command=\"go depth 3\"]"
+                        + " [java=path] [cp=classpath]");
+                return;
+            }
+            final String key = arg.substring(0, separator);
+            final String value = arg.substring(separator + 1);
+            switch (key) {
+                case "runs":
+                    runs = Math.max(1, Integer.parseInt(value));
+                    break;
+                case "archive":
+                    archive = value;
+                    break;
+                case "command":
+                    command = value;
+                    break;
+                case "java":
+                    java = value;
+                    break;
+                case "cp":
+                    classPath = value;
+                    break;
+                default:
+                    System.err.println("unknown option " + key);
+                    return;
+            }
+        }
+
+        final StartupBenchmark benchmark = new StartupBenchmark(java, classPath, command);
+        benchmark.launch(new ArrayList<String>());
+        report("default", benchmark.measure(runs, new ArrayList<String>()));
+        if (archive != null) {
+            if (!new File(archive).exists()) {
+                benchmark.launch(Arrays.asList("-XX:ArchiveClassesAtExit=" + archive));
+                System.out.println("wrote " + archive);
+            }
+            report("appcds ", benchmark.measure(runs, Arrays.asList("-XX:SharedArchiveFile=" + archive)));
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package chess.analysis;
+
+import chess.engine.board.Board;
+import chess.engine.board.BoardUtils;
+import chess.engine.board.Move;
+import chess.engine.board.MoveCodec;
+import chess.engine.player.MoveTransition;
+import chess.engine.player.ai.AlphaBeta;
+import chess.engine.player.ai.SearchInfo;
+import chess.engine.player.ai.SearchLimits;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+public class AnalysisCache implements Closeable {
+    public static final int DEFAULT_MAX_ENTRIES = 1 << 20;
+    public static final long DEFAULT_MAX_BYTES = 64L << 20;
+    private static final int MAGIC = 0x4A434143;
+    private static final short VERSION = 2;
+    private static final short SINGLE_LINE_VERSION = 1;
+    private static final long MULTI_PV_SALT = 0x9E3779B97F4A7C15L;
+    private static final int SEGMENT_COUNT = 16;
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final Segment[] segments;
+    private final Path file;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    public AnalysisCache(final int maxEntries, final long maxBytes) {
+        this(maxEntries, maxBytes, null);
+    }
+
+    private AnalysisCache(final int maxEntries, final long maxBytes, final Path file) {
+        this.segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(Math.max(1, maxEntries / SEGMENT_COUNT), Math.max(1, maxBytes / SEGMENT_COUNT));
+        }
+        this.file = file;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    public static AnalysisCache open(final Path file, final int maxEntries, final long maxBytes) throws IOException {
+        final AnalysisCache cache = new AnalysisCache(maxEntries, maxBytes, file);
+        if (Files.exists(file)) {
+            cache.load(file);
+        }
+        return cache;
+    }
+
+    public SearchInfo search(final AlphaBeta search, final Board board, final SearchLimits limits) {
+        final int multiPv = search.getMultiPv();
+        if (!limits.hasTimeLimit() && !limits.hasNodeLimit()) {
+            final SearchInfo cached = get(board, limits.getDepth(), multiPv);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        final SearchInfo searchInfo = search.search(board, limits);
+        put(board, searchInfo, multiPv);
+        return searchInfo;
+    }
+
+    public SearchInfo get(final Board board, final int depth) {
+        return get(board, depth, 1);
+    }
+
+    public SearchInfo get(final Board board, final int depth, final int multiPv) {
+        final long key = key(board.getZobristHash(), multiPv);
+        final Segment segment = segmentOf(key);
+        final Entry entry;
+        synchronized (segment) {
+            entry = segment.entries.get(key);
+        }
+        if (entry == null || entry.multiPv != multiPv || entry.depth < depth) {
+            misses.increment();
+            return null;
+        }
+        final List<Move> principalVariation = replay(board, entry.principalVariation);
+        if (principalVariation == null) {
+            synchronized (segment) {
+                segment.remove(key);
+            }
+            misses.increment();
+            return null;
+        }
+        if (dependsOnHistory(board, entry.depth, principalVariation)) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return new SearchInfo(entry.depth, entry.score, entry.nodes, 0, principalVariation);
+    }
+
+    public void put(final Board board, final SearchInfo searchInfo) {
+        put(board, searchInfo, 1);
+    }
+
+    public void put(final Board board, final SearchInfo searchInfo, final int multiPv) {
+        if (searchInfo == null || searchInfo.getPrincipalVariation().isEmpty()
+                || dependsOnHistory(board, searchInfo.getDepth(), searchInfo.getPrincipalVariation())) {
+            return;
+        }
+        final List<Move> principalVariation = searchInfo.getPrincipalVariation();
+        final short[] codes = new short[principalVariation.size()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = MoveCodec.encode(principalVariation.get(i));
+        }
+        put(new Entry(key(board.getZobristHash(), multiPv), multiPv, searchInfo.getDepth(), searchInfo.getScore(),
+                searchInfo.getNodes(), codes));
+    }
+
+    private static boolean dependsOnHistory(final Board board,
+                                            final int depth,
+                                            final List<Move> principalVariation) {
+        if (board.getHalfMoveClock() + depth >= BoardUtils.FIFTY_MOVE_RULE_PLIES) {
+            return true;
+        }
+        Board current = board;
+        for (final Move move : principalVariation) {
+            final MoveTransition transition = current.currentPlayer().makeMove(move);
+            if (!transition.getMoveStatus().isDone()) {
+                return false;
+            }
+            current = transition.getTransitionBoard();
+            if (current.isRepetition() || current.isFiftyMoveRule()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void put(final Entry entry) {
+        final Segment segment = segmentOf(entry.key);
+        synchronized (segment) {
+            final Entry existing = segment.entries.get(entry.key);
+            if (existing != null && existing.depth > entry.depth) {
+                return;
+            }
+            segment.remove(entry.key);
+            segment.entries.put(entry.key, entry);
+            segment.bytes += entry.bytes();
+            evictions.add(segment.evict());
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (final Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.entries.size();
+            }
+        }
+        return size;
+    }
+
+    public long getBytes() {
+        long bytes = 0;
+        for (final Segment segment : segments) {
+            synchronized (segment) {
+                bytes += segment.bytes;
+            }
+        }
+        return bytes;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public void clear() {
+        for (final Segment segment : segments) {
+            synchronized (segment) {
+                segment.entries.clear();
+                segment.bytes = 0;
+            }
+        }
+    }
+
+    public void save(final Path path) throws IOException {
+        final List<Entry> snapshot = new ArrayList<>();
+        for (final Segment segment : segments) {
+            synchronized (segment) {
+                snapshot.addAll(segment.entries.values());
+            }
+        }
+        final Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (final DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeInt(snapshot.size());
+            for (final Entry entry : snapshot) {
+                out.writeLong(entry.key);
+                out.writeByte(entry.multiPv);
+                out.writeByte(entry.depth);
+                out.writeInt(entry.score);
+                out.writeLong(entry.nodes);
+                out.writeByte(entry.principalVariation.length);
+                for (final short code : entry.principalVariation) {
+                    out.writeShort(code);
+                }
+            }
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    public void load(final Path path) throws IOException {
+        try (final DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(path)))) {
+            final int magic = in.readInt();
+            final short version = in.readShort();
+            if (magic != MAGIC || (version != VERSION && version != SINGLE_LINE_VERSION)) {
+                throw new IOException("Not an analysis cache: " + path);
+            }
+            final int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                final long key = in.readLong();
+                final int multiPv = version == SINGLE_LINE_VERSION ? 1 : in.readUnsignedByte();
+                final int depth = in.readUnsignedByte();
+                final int score = in.readInt();
+                final long nodes = in.readLong();
+                final short[] codes = new short[in.readUnsignedByte()];
+                for (int j = 0; j < codes.length; j++) {
+                    codes[j] = in.readShort();
+                }
+                put(new Entry(key, multiPv, depth, score, nodes, codes));
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (file != null) {
+            save(file);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "entries " + size() + " bytes " + getBytes() + " hits " + getHits()
+                + " misses " + getMisses() + " evictions " + getEvictions();
+    }
+
+    private static long key(final long hash, final int multiPv) {
+        return hash ^ (multiPv - 1) * MULTI_PV_SALT;
+    }
+
+    private Segment segmentOf(final long key) {
+        return segments[(int) (key >>> 60) & (SEGMENT_COUNT - 1)];
+    }
+
+    private static List<Move> replay(final Board board, final short[] codes) {
+        final List<Move> moves = new ArrayList<>(codes.length);
+        Board current = board;
+        for (final short code : codes) {
+            final Move move = MoveCodec.decode(current, code);
+            if (move == Move.NULL_MOVE) {
+                break;
+            }
+            final MoveTransition transition = current.currentPlayer().makeMove(move);
+            if (!transition.getMoveStatus().isDone()) {
+                break;
+            }
+            moves.add(move);
+            current = transition.getTransitionBoard();
+        }
+        return moves.isEmpty() ? null : moves;
+    }
+
+    private static final class Segment {
+        private final int maxEntries;
+        private final long maxBytes;
+        private final LinkedHashMap<Long, Entry> entries;
+        private long bytes;
+
+        Segment(final int maxEntries, final long maxBytes) {
+            this.maxEntries = maxEntries;
+            this.maxBytes = maxBytes;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        }
+
+        void remove(final long key) {
+            final Entry removed = entries.remove(key);
+            if (removed != null) {
+                bytes -= removed.bytes();
+            }
+        }
+
+        int evict() {
+            int evicted = 0;
+            final Iterator<Map.Entry<Long, Entry>> iterator = entries.entrySet().iterator();
+            while ((entries.size() > maxEntries || bytes > maxBytes) && iterator.hasNext()) {
+                bytes -= iterator.next().getValue().bytes();
+                iterator.remove();
+                evicted++;
+            }
+            return evicted;
+        }
+    }
+
+    private static final class Entry {
+        private final long key;
+        private final int multiPv;
+        private final int depth;
+        private final int score;
+        private final long nodes;
+        private final short[] principalVariation;
+
+        Entry(final long key,
+              final int multiPv,
+              final int depth,
+              final int score,
+              final long nodes,
+              final short[] principalVariation) {
+            this.key = key;
+            this.multiPv = multiPv;
+            this.depth = depth;
+            this.score = score;
+            this.nodes = nodes;
+            this.principalVariation = principalVariation;
+        }
+
+        int bytes() {
+            return ENTRY_OVERHEAD_BYTES + 2 * principalVariation.length;
+        }
+    }
+}
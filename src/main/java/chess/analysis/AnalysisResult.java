@@ -0,0 +1,73 @@
+package chess.analysis;
+
+import chess.engine.board.Board;
+import chess.engine.board.Move;
+import chess.engine.player.ai.SearchInfo;
+import chess.pgn.FenUtilities;
+import chess.uci.UciEngine;
+
+public final class AnalysisResult {
+    private final long index;
+    private final Board board;
+    private final SearchInfo searchInfo;
+    private final String error;
+
+    AnalysisResult(final long index, final Board board, final SearchInfo searchInfo, final String error) {
+        this.index = index;
+        this.board = board;
+        this.searchInfo = searchInfo;
+        this.error = error;
+    }
+
+    public long getIndex() {
+        return index;
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public SearchInfo getSearchInfo() {
+        return searchInfo;
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public Move getBestMove() {
+        return searchInfo != null ? searchInfo.getBestMove() : Move.NULL_MOVE;
+    }
+
+    public int getScore() {
+        return searchInfo != null ? searchInfo.getScore() : 0;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(index).append('\t').append(board != null ? FenUtilities.createFENFromGame(board) : "-").append('\t');
+        if (error != null) {
+            return sb.append("error\t").append(error).toString();
+        }
+        sb.append(UciEngine.toUci(getBestMove())).append('\t');
+        if (searchInfo.isMateScore()) {
+            sb.append("mate ").append(searchInfo.getMateInMoves());
+        } else {
+            sb.append("cp ").append(searchInfo.getScore());
+        }
+        sb.append('\t').append(searchInfo.getDepth())
+          .append('\t').append(searchInfo.getNodes())
+          .append('\t').append(searchInfo.getTimeMillis())
+          .append('\t');
+        for (final Move move : searchInfo.getPrincipalVariation()) {
+            sb.append(UciEngine.toUci(move)).append(' ');
+        }
+        sb.setLength(sb.length() - 1);
+        return sb.toString();
+    }
+}
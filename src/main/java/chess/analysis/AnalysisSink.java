@@ -0,0 +1,8 @@
+package chess.analysis;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface AnalysisSink extends Closeable {
+    void write(AnalysisResult result) throws IOException;
+}
@@ -0,0 +1,395 @@
+package chess.analysis;
+
+import chess.engine.board.Board;
+import chess.engine.metrics.MetricsReporter;
+import chess.engine.player.ai.AlphaBeta;
+import chess.engine.player.ai.SearchInfo;
+import chess.engine.player.ai.SearchLimits;
+import chess.engine.player.ai.StandardBoardEvaluator;
+import chess.engine.player.ai.TranspositionTable;
+import chess.pgn.FenUtilities;
+import chess.tablebase.Tablebases;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class BatchAnalyzer {
+    private static final Job END_OF_POSITIONS = new Job(-1, null, null);
+
+    private final int threadCount;
+    private final int queueCapacity;
+    private final boolean ordered;
+    private final SearchLimits limits;
+    private final TranspositionTable transpositionTable;
+    private final Tablebases tablebases;
+    private final AnalysisCache analysisCache;
+
+    private BatchAnalyzer(final Builder builder) {
+        threadCount = builder.threadCount;
+        queueCapacity = builder.queueCapacity;
+        ordered = builder.ordered;
+        limits = builder.limits;
+        transpositionTable = new TranspositionTable(builder.hashSizeMb);
+        tablebases = builder.tablebases;
+        analysisCache = builder.analysisCache;
+    }
+
+    public long analyze(final Iterator<Board> positions, final AnalysisSink sink) throws IOException {
+        return new Run(sink, ordered).run(jobsOf(positions));
+    }
+
+    public long analyzeFens(final Iterator<String> fens, final AnalysisSink sink) throws IOException {
+        return new Run(sink, ordered).run(new Iterator<Job>() {
+            private long index;
+
+            @Override
+            public boolean hasNext() {
+                return fens.hasNext();
+            }
+
+            @Override
+            public Job next() {
+                return new Job(index++, null, fens.next());
+            }
+        });
+    }
+
+    public List<AnalysisResult> analyze(final Collection<Board> positions) throws IOException {
+        final List<AnalysisResult> results = new ArrayList<>(positions.size());
+        final AnalysisSink collector = new AnalysisSink() {
+            @Override
+            public void write(final AnalysisResult result) {
+                results.add(result);
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        new Run(collector, true).run(jobsOf(positions.iterator()));
+        return results;
+    }
+
+    public TranspositionTable getTranspositionTable() {
+        return transpositionTable;
+    }
+
+    private static Iterator<Job> jobsOf(final Iterator<Board> positions) {
+        return new Iterator<Job>() {
+            private long index;
+
+            @Override
+            public boolean hasNext() {
+                return positions.hasNext();
+            }
+
+            @Override
+            public Job next() {
+                return new Job(index++, positions.next(), null);
+            }
+        };
+    }
+
+    static String positionOf(final String line) {
+        final String[] fields = line.trim().split("\\s+");
+        if (fields.length < 4) {
+            return line;
+        }
+        final boolean hasCounters = fields.length >= 6
+                && fields[4].matches("\\d+") && fields[5].matches("\\d+");
+        final StringBuilder fen = new StringBuilder();
+        for (int i = 0; i < (hasCounters ? 6 : 4); i++) {
+            fen.append(i == 0 ? "" : " ").append(fields[i]);
+        }
+        return hasCounters ? fen.toString() : fen.append(" 0 1").toString();
+    }
+
+    private final class Run {
+        private final AnalysisSink sink;
+        private final boolean ordered;
+        private final BlockingQueue<Job> jobQueue;
+        private final Map<Long, AnalysisResult> pending;
+        private final AtomicLong completed;
+        private long nextIndex;
+        private volatile Throwable failure;
+
+        Run(final AnalysisSink sink, final boolean ordered) {
+            this.sink = sink;
+            this.ordered = ordered;
+            this.jobQueue = new ArrayBlockingQueue<>(queueCapacity);
+            this.pending = new HashMap<>();
+            this.completed = new AtomicLong();
+        }
+
+        long run(final Iterator<Job> jobs) throws IOException {
+            final List<Thread> workerThreads = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                final Thread workerThread = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        analyzeJobs();
+                    }
+                }, "batch-analyzer-" + i);
+                workerThread.start();
+                workerThreads.add(workerThread);
+            }
+            try {
+                try {
+                    while (failure == null && jobs.hasNext()) {
+                        jobQueue.put(jobs.next());
+                    }
+                } finally {
+                    for (int i = 0; i < threadCount; i++) {
+                        jobQueue.put(END_OF_POSITIONS);
+                    }
+                }
+                for (final Thread workerThread : workerThreads) {
+                    workerThread.join();
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Analysis interrupted", e);
+            }
+            if (failure != null) {
+                throw new IOException("Analysis failed", failure);
+            }
+            return completed.get();
+        }
+
+        private void analyzeJobs() {
+            final AlphaBeta search = new AlphaBeta(new StandardBoardEvaluator(), transpositionTable, 1, limits.getDepth());
+            search.setTablebases(tablebases);
+            try {
+                Job job;
+                while ((job = jobQueue.take()) != END_OF_POSITIONS) {
+                    if (failure != null) {
+                        continue;
+                    }
+                    try {
+                        emit(analyze(search, job));
+                    } catch (final IOException | RuntimeException e) {
+                        failure = e;
+                    }
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = e;
+            }
+        }
+
+        private AnalysisResult analyze(final AlphaBeta search, final Job job) {
+            Board board = job.board;
+            try {
+                if (board == null) {
+                    board = FenUtilities.createGameFromFEN(positionOf(job.fen));
+                }
+                if (board.isGameOver()) {
+                    return new AnalysisResult(job.index, board, null, "game over");
+                }
+                final SearchInfo searchInfo = analysisCache != null
+                        ? analysisCache.search(search, board, limits)
+                        : search.search(board, limits);
+                return new AnalysisResult(job.index, board, searchInfo, null);
+            } catch (final RuntimeException e) {
+                return new AnalysisResult(job.index, board, null,
+                        (job.fen != null ? job.fen + ": " : "") + e.getMessage());
+            }
+        }
+
+        private void emit(final AnalysisResult result) throws IOException {
+            synchronized (pending) {
+                if (!ordered) {
+                    sink.write(result);
+                    completed.incrementAndGet();
+                    return;
+                }
+                pending.put(result.getIndex(), result);
+                AnalysisResult next;
+                while ((next = pending.remove(nextIndex)) != null) {
+                    sink.write(next);
+                    completed.incrementAndGet();
+                    nextIndex++;
+                }
+            }
+        }
+    }
+
+    private static final class Job {
+        private final long index;
+        private final Board board;
+        private final String fen;
+
+        Job(final long index, final Board board, final String fen) {
+            this.index = index;
+            this.board = board;
+            this.fen = fen;
+        }
+    }
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: BatchAnalyzer <positions.epd> <results.tsv> "
+                    + "[threads=N] [hash=MB] [depth=D] [movetime=ms] [nodes=N] [ordered=true|false] [cache=file]");
+            return;
+        }
+        final MetricsReporter metricsReporter = MetricsReporter.startIfEnabled(System.err);
+        final Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 2; i < args.length; i++) {
+            final int separator = args[i].indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected key=value but got " + args[i]);
+            }
+            options.put(args[i].substring(0, separator), args[i].substring(separator + 1));
+        }
+        final Builder builder = new Builder();
+        if (options.containsKey("threads")) {
+            builder.setThreadCount(Integer.parseInt(options.get("threads")));
+        }
+        if (options.containsKey("hash")) {
+            builder.setHashSizeMb(Integer.parseInt(options.get("hash")));
+        }
+        if (options.containsKey("ordered")) {
+            builder.setOrdered(Boolean.parseBoolean(options.get("ordered")));
+        }
+        if (options.containsKey("depth") || options.containsKey("movetime") || options.containsKey("nodes")) {
+            builder.setLimits(SearchLimits.of(
+                    options.containsKey("depth") ? Integer.parseInt(options.get("depth")) : SearchLimits.MAX_DEPTH,
+                    options.containsKey("movetime") ? Long.parseLong(options.get("movetime")) : -1,
+                    options.containsKey("nodes") ? Long.parseLong(options.get("nodes")) : -1));
+        }
+        final AnalysisCache analysisCache = options.containsKey("cache")
+                ? AnalysisCache.open(Paths.get(options.get("cache")),
+                        AnalysisCache.DEFAULT_MAX_ENTRIES, AnalysisCache.DEFAULT_MAX_BYTES)
+                : null;
+        final BatchAnalyzer analyzer = builder.setAnalysisCache(analysisCache).build();
+
+        final long startTime = System.currentTimeMillis();
+        try (final BufferedReader reader = Files.newBufferedReader(Paths.get(args[0]), StandardCharsets.UTF_8);
+             final BufferedWriter writer = Files.newBufferedWriter(Paths.get(args[1]), StandardCharsets.UTF_8)) {
+            final Iterator<String> lines = new Iterator<String>() {
+                private String nextLine = advance();
+
+                private String advance() {
+                    try {
+                        String line;
+                        while ((line = reader.readLine()) != null) {
+                            line = line.trim();
+                            if (!line.isEmpty() && !line.startsWith("#")) {
+                                return line;
+                            }
+                        }
+                        return null;
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return nextLine != null;
+                }
+
+                @Override
+                public String next() {
+                    final String line = nextLine;
+                    nextLine = advance();
+                    return line;
+                }
+            };
+            final long analyzed = analyzer.analyzeFens(lines, new AnalysisSink() {
+                @Override
+                public void write(final AnalysisResult result) throws IOException {
+                    writer.write(result.toString());
+                    writer.newLine();
+                }
+
+                @Override
+                public void close() {
+                }
+            });
+            System.err.println("analyzed " + analyzed + " positions in "
+                    + (System.currentTimeMillis() - startTime) + " ms");
+        } finally {
+            if (analysisCache != null) {
+                System.err.println("analysis cache: " + analysisCache);
+                analysisCache.close();
+            }
+            if (metricsReporter != null) {
+                metricsReporter.report();
+                metricsReporter.close();
+            }
+        }
+    }
+
+    public static class Builder {
+        private int threadCount;
+        private int hashSizeMb;
+        private int queueCapacity;
+        private boolean ordered;
+        private SearchLimits limits;
+        private Tablebases tablebases;
+        private AnalysisCache analysisCache;
+
+        public Builder() {
+            this.threadCount = Runtime.getRuntime().availableProcessors();
+            this.hashSizeMb = TranspositionTable.DEFAULT_SIZE_MB;
+            this.queueCapacity = 256;
+            this.ordered = true;
+            this.limits = SearchLimits.depth(4);
+        }
+
+        public Builder setThreadCount(final int threadCount) {
+            this.threadCount = Math.max(1, threadCount);
+            return this;
+        }
+
+        public Builder setHashSizeMb(final int hashSizeMb) {
+            this.hashSizeMb = Math.max(1, hashSizeMb);
+            return this;
+        }
+
+        public Builder setQueueCapacity(final int queueCapacity) {
+            this.queueCapacity = Math.max(1, queueCapacity);
+            return this;
+        }
+
+        public Builder setOrdered(final boolean ordered) {
+            this.ordered = ordered;
+            return this;
+        }
+
+        public Builder setLimits(final SearchLimits limits) {
+            this.limits = limits;
+            return this;
+        }
+
+        public Builder setTablebases(final Tablebases tablebases) {
+            this.tablebases = tablebases;
+            return this;
+        }
+
+        public Builder setAnalysisCache(final AnalysisCache analysisCache) {
+            this.analysisCache = analysisCache;
+            return this;
+        }
+
+        public BatchAnalyzer build() {
+            return new BatchAnalyzer(this);
+        }
+    }
+}
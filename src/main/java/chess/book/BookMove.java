@@ -0,0 +1,32 @@
+package chess.book;
+
+import chess.engine.board.Move;
+
+public class BookMove {
+    private final Move move;
+    private final int weight;
+    private final int learn;
+
+    BookMove(final Move move, final int weight, final int learn) {
+        this.move = move;
+        this.weight = weight;
+        this.learn = learn;
+    }
+
+    public Move getMove() {
+        return move;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public int getLearn() {
+        return learn;
+    }
+
+    @Override
+    public String toString() {
+        return move + " (" + weight + ")";
+    }
+}
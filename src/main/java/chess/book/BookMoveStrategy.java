@@ -0,0 +1,29 @@
+package chess.book;
+
+import chess.engine.board.Board;
+import chess.engine.board.Move;
+import chess.engine.player.ai.MoveStrategy;
+
+import java.util.Random;
+
+public class BookMoveStrategy implements MoveStrategy {
+    private final OpeningBook book;
+    private final MoveStrategy fallback;
+    private final Random random;
+
+    public BookMoveStrategy(final OpeningBook book, final MoveStrategy fallback) {
+        this(book, fallback, new Random());
+    }
+
+    public BookMoveStrategy(final OpeningBook book, final MoveStrategy fallback, final Random random) {
+        this.book = book;
+        this.fallback = fallback;
+        this.random = random;
+    }
+
+    @Override
+    public Move execute(final Board board) {
+        final Move bookMove = book.selectMove(board, random);
+        return bookMove != Move.NULL_MOVE ? bookMove : fallback.execute(board);
+    }
+}
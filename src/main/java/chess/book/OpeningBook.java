@@ -0,0 +1,176 @@
+package chess.book;
+
+import chess.engine.board.Board;
+import chess.engine.board.Move;
+import chess.engine.pieces.Piece;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+public class OpeningBook implements Closeable {
+    public static final PositionHasher ZOBRIST_HASHER = new PositionHasher() {
+        @Override
+        public long hash(final Board board) {
+            return board.getZobristHash();
+        }
+    };
+
+    static final int ENTRY_BYTES = 16;
+    static final int PROMOTE_TO_QUEEN = 4;
+
+    private static final int SEGMENT_SHIFT = 30;
+    private static final int ENTRIES_PER_SEGMENT = (1 << SEGMENT_SHIFT) / ENTRY_BYTES;
+    private static final int SQUARE_MASK = 0x3F;
+    private static final int PROMOTION_SHIFT = 12;
+    private static final Comparator<BookMove> BY_WEIGHT = new Comparator<BookMove>() {
+        @Override
+        public int compare(final BookMove first, final BookMove second) {
+            return Integer.compare(second.getWeight(), first.getWeight());
+        }
+    };
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+    private final long entryCount;
+    private final PositionHasher hasher;
+
+    public OpeningBook(final Path path, final PositionHasher hasher) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.hasher = hasher;
+        final long size = channel.size();
+        if (size % ENTRY_BYTES != 0) {
+            channel.close();
+            throw new IOException("Not a book file: " + path);
+        }
+        this.entryCount = size / ENTRY_BYTES;
+        this.segments = new MappedByteBuffer[(int) ((entryCount + ENTRIES_PER_SEGMENT - 1) / ENTRIES_PER_SEGMENT)];
+        for (int i = 0; i < segments.length; i++) {
+            final long start = (long) i << SEGMENT_SHIFT;
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(1L << SEGMENT_SHIFT, size - start));
+        }
+    }
+
+    public static OpeningBook open(final Path path) throws IOException {
+        return new OpeningBook(path, ZOBRIST_HASHER);
+    }
+
+    public long getEntryCount() {
+        return entryCount;
+    }
+
+    public PositionHasher getHasher() {
+        return hasher;
+    }
+
+    public List<BookMove> getBookMoves(final Board board) {
+        final long key = hasher.hash(board);
+        final List<BookMove> bookMoves = new ArrayList<>();
+        for (long entry = lowerBound(key); entry < entryCount && keyAt(entry) == key; entry++) {
+            final MappedByteBuffer segment = segmentOf(entry);
+            final int offset = offsetOf(entry);
+            final Move move = decodeMove(board, segment.getShort(offset + 8) & 0xFFFF);
+            if (move != Move.NULL_MOVE && board.currentPlayer().makeMove(move).getMoveStatus().isDone()) {
+                bookMoves.add(new BookMove(move, segment.getShort(offset + 10) & 0xFFFF, segment.getInt(offset + 12)));
+            }
+        }
+        Collections.sort(bookMoves, BY_WEIGHT);
+        return bookMoves;
+    }
+
+    public Move getBestMove(final Board board) {
+        final List<BookMove> bookMoves = getBookMoves(board);
+        return bookMoves.isEmpty() ? Move.NULL_MOVE : bookMoves.get(0).getMove();
+    }
+
+    public Move selectMove(final Board board, final Random random) {
+        final List<BookMove> bookMoves = getBookMoves(board);
+        int totalWeight = 0;
+        for (final BookMove bookMove : bookMoves) {
+            totalWeight += bookMove.getWeight();
+        }
+        if (totalWeight == 0) {
+            return Move.NULL_MOVE;
+        }
+        int pick = random.nextInt(totalWeight);
+        for (final BookMove bookMove : bookMoves) {
+            pick -= bookMove.getWeight();
+            if (pick < 0) {
+                return bookMove.getMove();
+            }
+        }
+        return Move.NULL_MOVE;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private long lowerBound(final long key) {
+        long low = 0;
+        long high = entryCount;
+        while (low < high) {
+            final long middle = (low + high) >>> 1;
+            if (Long.compareUnsigned(keyAt(middle), key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private long keyAt(final long entry) {
+        return segmentOf(entry).getLong(offsetOf(entry));
+    }
+
+    private MappedByteBuffer segmentOf(final long entry) {
+        return segments[(int) (entry / ENTRIES_PER_SEGMENT)];
+    }
+
+    private static int offsetOf(final long entry) {
+        return (int) (entry % ENTRIES_PER_SEGMENT) * ENTRY_BYTES;
+    }
+
+    static int toPolyglotSquare(final int coordinate) {
+        return coordinate ^ 56;
+    }
+
+    static int encodeMove(final Move move) {
+        int destination = move.getDestinationCoordinate();
+        if (move.isCastlingMove()) {
+            destination = ((Move.CastleMove) move).getCastleRook().getPiecePosition();
+        }
+        int code = toPolyglotSquare(move.getCurrentCoordinate()) << 6 | toPolyglotSquare(destination);
+        if (move instanceof Move.PawnPromotion) {
+            code |= PROMOTE_TO_QUEEN << PROMOTION_SHIFT;
+        }
+        return code;
+    }
+
+    static Move decodeMove(final Board board, final int code) {
+        final int promotion = code >>> PROMOTION_SHIFT & 0x7;
+        if (promotion != 0 && promotion != PROMOTE_TO_QUEEN) {
+            return Move.NULL_MOVE;
+        }
+        final int current = toPolyglotSquare(code >>> 6 & SQUARE_MASK);
+        int destination = toPolyglotSquare(code & SQUARE_MASK);
+        final Piece movedPiece = board.getTile(current).getPiece();
+        if (movedPiece != null
+                && movedPiece.getPieceType() == Piece.PieceType.KING
+                && board.getTile(destination).isTileOccupied()
+                && board.getTile(destination).getPiece().getPieceAlliance() == movedPiece.getPieceAlliance()) {
+            destination = destination > current ? current + 2 : current - 2;
+        }
+        return Move.MoveFactory.createMove(board, current, destination);
+    }
+}
@@ -0,0 +1,204 @@
+package chess.book;
+
+import chess.engine.board.Board;
+import chess.engine.player.MoveTransition;
+import chess.pgn.PGNGame;
+import chess.pgn.PGNReader;
+import chess.pgn.PGNUtilities;
+import chess.pgn.ParsePGNException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class OpeningBookBuilder {
+    public static final int DEFAULT_MAX_PLY = 24;
+
+    private static final int MAX_WEIGHT = 0xFFFF;
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int WIN_SCORE = 2;
+    private static final int DRAW_SCORE = 1;
+
+    private final PositionHasher hasher;
+    private final Map<Long, Map<Integer, int[]>> positions;
+    private int maxPly;
+    private int minGames;
+    private int gamesAdded;
+
+    public OpeningBookBuilder() {
+        this(OpeningBook.ZOBRIST_HASHER);
+    }
+
+    public OpeningBookBuilder(final PositionHasher hasher) {
+        this.hasher = hasher;
+        this.positions = new HashMap<>();
+        this.maxPly = DEFAULT_MAX_PLY;
+        this.minGames = 1;
+    }
+
+    public OpeningBookBuilder setMaxPly(final int maxPly) {
+        this.maxPly = Math.max(1, maxPly);
+        return this;
+    }
+
+    public OpeningBookBuilder setMinGames(final int minGames) {
+        this.minGames = Math.max(1, minGames);
+        return this;
+    }
+
+    public int getGamesAdded() {
+        return gamesAdded;
+    }
+
+    public boolean addGame(final PGNGame game) {
+        final byte result = game.getResultCode();
+        if (result == PGNGame.RESULT_UNKNOWN) {
+            return false;
+        }
+        try {
+            Board board = PGNUtilities.createStartingBoard(game);
+            int ply = 0;
+            for (final String san : game.getMoves()) {
+                if (ply++ >= maxPly) {
+                    break;
+                }
+                final MoveTransition transition = PGNUtilities.playMove(board, san);
+                record(board, transition, result);
+                board = transition.getTransitionBoard();
+            }
+        } catch (final ParsePGNException e) {
+            return false;
+        }
+        gamesAdded++;
+        return true;
+    }
+
+    public int addGames(final Path pgnPath) throws IOException {
+        int added = 0;
+        try (final PGNReader reader = PGNReader.open(pgnPath)) {
+            while (reader.hasNext()) {
+                if (addGame(reader.next())) {
+                    added++;
+                }
+            }
+        }
+        return added;
+    }
+
+    public long write(final Path bookPath) throws IOException {
+        final List<Long> keys = new ArrayList<>(positions.keySet());
+        Collections.sort(keys, new Comparator<Long>() {
+            @Override
+            public int compare(final Long first, final Long second) {
+                return Long.compareUnsigned(first, second);
+            }
+        });
+        long entries = 0;
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        try (final FileChannel channel = FileChannel.open(bookPath,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (final Long key : keys) {
+                for (final int[] entry : bookEntries(positions.get(key))) {
+                    if (buffer.remaining() < OpeningBook.ENTRY_BYTES) {
+                        drain(channel, buffer);
+                    }
+                    buffer.putLong(key);
+                    buffer.putShort((short) entry[0]);
+                    buffer.putShort((short) entry[1]);
+                    buffer.putInt(0);
+                    entries++;
+                }
+            }
+            drain(channel, buffer);
+        }
+        return entries;
+    }
+
+    private void record(final Board board, final MoveTransition transition, final byte result) {
+        final long key = hasher.hash(board);
+        Map<Integer, int[]> moves = positions.get(key);
+        if (moves == null) {
+            moves = new HashMap<>(4);
+            positions.put(key, moves);
+        }
+        final int code = OpeningBook.encodeMove(transition.getMove());
+        int[] stats = moves.get(code);
+        if (stats == null) {
+            stats = new int[2];
+            moves.put(code, stats);
+        }
+        stats[0]++;
+        stats[1] += scoreFor(board.currentPlayer().getAlliance().isWhite(), result);
+    }
+
+    private List<int[]> bookEntries(final Map<Integer, int[]> moves) {
+        int maxScore = 0;
+        for (final int[] stats : moves.values()) {
+            maxScore = Math.max(maxScore, stats[1]);
+        }
+        final List<int[]> entries = new ArrayList<>(moves.size());
+        for (final Map.Entry<Integer, int[]> move : moves.entrySet()) {
+            final int[] stats = move.getValue();
+            if (stats[0] < minGames || stats[1] == 0) {
+                continue;
+            }
+            final int weight = maxScore > MAX_WEIGHT
+                    ? Math.max(1, (int) ((long) stats[1] * MAX_WEIGHT / maxScore))
+                    : stats[1];
+            entries.add(new int[]{move.getKey(), weight});
+        }
+        Collections.sort(entries, new Comparator<int[]>() {
+            @Override
+            public int compare(final int[] first, final int[] second) {
+                return Integer.compare(second[1], first[1]);
+            }
+        });
+        return entries;
+    }
+
+    private static int scoreFor(final boolean whiteToMove, final byte result) {
+        if (result == PGNGame.RESULT_DRAW) {
+            return DRAW_SCORE;
+        }
+        final boolean whiteWon = result == PGNGame.RESULT_WHITE_WINS;
+        return whiteWon == whiteToMove ? WIN_SCORE : 0;
+    }
+
+    private static void drain(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: OpeningBookBuilder <games.pgn> <book.bin> [maxPly] [minGames] [polyglot-randoms]");
+            return;
+        }
+        final OpeningBookBuilder builder = args.length > 4
+                ? new OpeningBookBuilder(PolyglotHasher.load(Paths.get(args[4])))
+                : new OpeningBookBuilder();
+        if (args.length > 2) {
+            builder.setMaxPly(Integer.parseInt(args[2]));
+        }
+        if (args.length > 3) {
+            builder.setMinGames(Integer.parseInt(args[3]));
+        }
+        final int games = builder.addGames(Paths.get(args[0]));
+        final long entries = builder.write(Paths.get(args[1]));
+        System.err.println("added " + games + " games, wrote " + entries + " book entries");
+    }
+}
@@ -0,0 +1,99 @@
+package chess.book;
+
+import chess.engine.board.Board;
+import chess.engine.board.BoardUtils;
+import chess.engine.board.Tile;
+import chess.engine.pieces.Pawn;
+import chess.engine.pieces.Piece;
+import chess.pgn.FenUtilities;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class PolyglotHasher implements PositionHasher {
+    public static final int RANDOM_COUNT = 781;
+
+    private static final int CASTLE_OFFSET = 768;
+    private static final int EN_PASSANT_OFFSET = 772;
+    private static final int TURN_OFFSET = 780;
+    private static final Pattern HEX_VALUE = Pattern.compile("0[xX]([0-9a-fA-F]{1,16})");
+
+    private final long[] randoms;
+
+    public PolyglotHasher(final long[] randoms) {
+        if (randoms.length != RANDOM_COUNT) {
+            throw new IllegalArgumentException("Expected " + RANDOM_COUNT + " random keys, got " + randoms.length);
+        }
+        this.randoms = randoms.clone();
+    }
+
+    public static PolyglotHasher load(final Path path) throws IOException {
+        final Matcher matcher = HEX_VALUE.matcher(new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+        final long[] randoms = new long[RANDOM_COUNT];
+        int count = 0;
+        while (matcher.find()) {
+            if (count == RANDOM_COUNT) {
+                throw new IOException("More than " + RANDOM_COUNT + " random keys in " + path);
+            }
+            randoms[count++] = Long.parseUnsignedLong(matcher.group(1), 16);
+        }
+        if (count != RANDOM_COUNT) {
+            throw new IOException("Expected " + RANDOM_COUNT + " random keys in " + path + ", got " + count);
+        }
+        return new PolyglotHasher(randoms);
+    }
+
+    @Override
+    public long hash(final Board board) {
+        long key = 0;
+        for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+            final Tile tile = board.getTile(i);
+            if (tile.isTileOccupied()) {
+                final Piece piece = tile.getPiece();
+                final int kind = piece.getPieceType().ordinal() * 2 + (piece.getPieceAlliance().isWhite() ? 1 : 0);
+                key ^= randoms[kind * BoardUtils.NUM_TILES + OpeningBook.toPolyglotSquare(i)];
+            }
+        }
+
+        final int castlingRights = FenUtilities.castlingRights(board);
+        if ((castlingRights & FenUtilities.WHITE_KING_SIDE_CASTLE) != 0) {
+            key ^= randoms[CASTLE_OFFSET];
+        }
+        if ((castlingRights & FenUtilities.WHITE_QUEEN_SIDE_CASTLE) != 0) {
+            key ^= randoms[CASTLE_OFFSET + 1];
+        }
+        if ((castlingRights & FenUtilities.BLACK_KING_SIDE_CASTLE) != 0) {
+            key ^= randoms[CASTLE_OFFSET + 2];
+        }
+        if ((castlingRights & FenUtilities.BLACK_QUEEN_SIDE_CASTLE) != 0) {
+            key ^= randoms[CASTLE_OFFSET + 3];
+        }
+
+        final Pawn enPassantPawn = board.getEnPassantPawn();
+        if (enPassantPawn != null && canCaptureEnPassant(board, enPassantPawn)) {
+            key ^= randoms[EN_PASSANT_OFFSET + enPassantPawn.getPiecePosition() % BoardUtils.NUM_TILES_PER_ROW];
+        }
+        if (board.currentPlayer().getAlliance().isWhite()) {
+            key ^= randoms[TURN_OFFSET];
+        }
+        return key;
+    }
+
+    private static boolean canCaptureEnPassant(final Board board, final Pawn enPassantPawn) {
+        final int position = enPassantPawn.getPiecePosition();
+        final int file = position % BoardUtils.NUM_TILES_PER_ROW;
+        return (file > 0 && isCapturingPawn(board, position - 1, enPassantPawn))
+                || (file < BoardUtils.NUM_TILES_PER_ROW - 1 && isCapturingPawn(board, position + 1, enPassantPawn));
+    }
+
+    private static boolean isCapturingPawn(final Board board, final int coordinate, final Pawn enPassantPawn) {
+        final Tile tile = board.getTile(coordinate);
+        return tile.isTileOccupied()
+                && tile.getPiece().getPieceType() == Piece.PieceType.PAWN
+                && tile.getPiece().getPieceAlliance() != enPassantPawn.getPieceAlliance();
+    }
+}
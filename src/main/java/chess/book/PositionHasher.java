@@ -0,0 +1,7 @@
+package chess.book;
+
+import chess.engine.board.Board;
+
+public interface PositionHasher {
+    long hash(Board board);
+}
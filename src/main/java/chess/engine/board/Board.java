@@ -1,43 +1,59 @@
 package chess.engine.board;
 
 import chess.engine.Alliance;
+import chess.engine.metrics.EngineMetrics;
 import chess.engine.pieces.*;
 import chess.engine.player.BlackPlayer;
 import chess.engine.player.Player;
 import chess.engine.player.WhitePlayer;
-import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Iterables;
 
 import java.util.*;
 
 public class Board {
-    private final List<Tile> gameBoard;
-    private final Collection<Piece> whitePieces;
-    private final Collection<Piece> blackPieces;
+    private final Tile[] gameBoard;
+    private final PieceList whitePieces;
+    private final PieceList blackPieces;
+    private volatile MoveList allLegalMoves;
 
     private final WhitePlayer whitePlayer;
     private final BlackPlayer blackPlayer;
     private final Player currentPlayer;
 
     private final Pawn enPassantPawn;
+    private final int halfMoveClock;
+    private final int fullMoveNumber;
+    private final long zobristHash;
+    private final PositionHistory positionHistory;
 
      private Board(final Builder builder) {
-         gameBoard = createGameBoard(builder);
-         whitePieces = calculateActivePieces(gameBoard, Alliance.WHITE);
-         blackPieces = calculateActivePieces(gameBoard, Alliance.BLACK);
+         gameBoard = createTiles(builder);
+         whitePieces = new PieceList();
+         blackPieces = new PieceList();
+         calculateActivePieces(gameBoard, whitePieces, blackPieces);
+         whitePieces.seal();
+         blackPieces.seal();
          enPassantPawn = builder.enPassantPawn;
-         final Collection<Move> whiteStandardLegalMoves = calculateLegalMoves(whitePieces);
-         final Collection<Move> blackStandardLegalMoves = calculateLegalMoves(blackPieces);
+         halfMoveClock = builder.halfMoveClock;
+         fullMoveNumber = builder.fullMoveNumber;
+         final MoveList whiteStandardLegalMoves = calculateLegalMoves(whitePieces);
+         final MoveList blackStandardLegalMoves = calculateLegalMoves(blackPieces);
+         whiteStandardLegalMoves.seal();
+         blackStandardLegalMoves.seal();
          whitePlayer = new WhitePlayer(this, whiteStandardLegalMoves, blackStandardLegalMoves);
          blackPlayer = new BlackPlayer(this, whiteStandardLegalMoves, blackStandardLegalMoves);
          currentPlayer = builder.nextMoveMaker.choosePlayer(whitePlayer, blackPlayer);
+         zobristHash = ZobristHashing.calculateHash(gameBoard, builder.nextMoveMaker, enPassantPawn);
+         positionHistory = PositionHistory.extend(builder.previousPositions, zobristHash, halfMoveClock);
+         if (EngineMetrics.ENABLED) {
+             EngineMetrics.boardConstructed();
+         }
      }
 
     @Override
     public String toString() {
          final StringBuilder sb = new StringBuilder();
          for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
-             final String tileText = this.gameBoard.get(i).toString();
+             final String tileText = this.gameBoard[i].toString();
              sb.append(String.format("%3s", tileText));
              if ((i + 1) % BoardUtils.NUM_TILES_PER_ROW == 0) {
                  sb.append("\n");
@@ -50,37 +66,47 @@ public class Board {
          return currentPlayer;
     }
 
-    private Collection<Move> calculateLegalMoves(final Collection<Piece> pieces) {
-         final List<Move> legalMoves = new ArrayList<>();
-         for (Piece piece : pieces) {
-             legalMoves.addAll(piece.calculateLegalMoves(this));
+    private MoveList calculateLegalMoves(final PieceList pieces) {
+         final MoveList legalMoves = new MoveList(pieces.size() * 4);
+         for (final Piece piece : pieces) {
+             final int generatedBefore = legalMoves.size();
+             piece.generateLegalMoves(this, legalMoves);
+             if (EngineMetrics.ENABLED) {
+                 EngineMetrics.movesGenerated(piece.getPieceType(), legalMoves.size() - generatedBefore);
+             }
          }
-         return ImmutableList.copyOf(legalMoves);
+         return legalMoves;
     }
 
-    private static Collection<Piece> calculateActivePieces(List<Tile> gameBoard, Alliance alliance) {
-         final List<Piece> activePieces = new ArrayList<>();
+    private static void calculateActivePieces(final Tile[] gameBoard,
+                                              final PieceList whitePieces,
+                                              final PieceList blackPieces) {
          for (final Tile tile : gameBoard) {
              if (tile.isTileOccupied()) {
-                 Piece piece = tile.getPiece();
-                 if (piece.getPieceAlliance() == alliance) {
-                     activePieces.add(tile.getPiece());
+                 final Piece piece = tile.getPiece();
+                 if (piece.getPieceAlliance() == Alliance.WHITE) {
+                     whitePieces.append(piece);
+                 } else {
+                     blackPieces.append(piece);
                  }
              }
          }
-         return ImmutableList.copyOf(activePieces);
     }
 
     public Tile getTile(int coordinate) {
-        return gameBoard.get(coordinate);
+        return gameBoard[coordinate];
     }
 
     public static List<Tile> createGameBoard(Builder builder) {
+         return Collections.unmodifiableList(Arrays.asList(createTiles(builder)));
+    }
+
+    private static Tile[] createTiles(Builder builder) {
          final Tile[] tiles = new Tile[BoardUtils.NUM_TILES];
          for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
-             tiles[i] = Tile.createTile(i, builder.boardConfig.get(i));
+             tiles[i] = Tile.createTile(i, builder.boardConfig[i]);
          }
-         return ImmutableList.copyOf(tiles);
+         return tiles;
     }
 
     public static Board createStandardBoard() {
@@ -132,28 +158,74 @@ public class Board {
     }
 
     public Iterable<Move> getAllLegalMove() {
-        return Iterables.unmodifiableIterable(Iterables.concat(
-                whitePlayer.getLegalMoves(),
-                blackPlayer.getLegalMoves()
-        ));
+        MoveList moves = allLegalMoves;
+        if (moves == null) {
+            moves = MoveList.concat(whitePlayer.getLegalMoves(), blackPlayer.getLegalMoves());
+            allLegalMoves = moves;
+        }
+        return moves;
     }
 
     public Pawn getEnPassantPawn() {
         return enPassantPawn;
     }
 
+    public int getHalfMoveClock() {
+        return halfMoveClock;
+    }
+
+    public int getFullMoveNumber() {
+        return fullMoveNumber;
+    }
+
+    public long getZobristHash() {
+        return zobristHash;
+    }
+
+    public PositionHistory getPositionHistory() {
+        return positionHistory;
+    }
+
+    public int getRepetitionCount() {
+        return positionHistory.getRepetitionCount();
+    }
+
+    public boolean isRepetition() {
+        return positionHistory.getRepetitionCount() >= 2;
+    }
+
+    public boolean isThreefoldRepetition() {
+        return positionHistory.getRepetitionCount() >= 3;
+    }
+
+    public boolean isFiftyMoveRule() {
+        return halfMoveClock >= BoardUtils.FIFTY_MOVE_RULE_PLIES;
+    }
+
+    public boolean isDrawByRule() {
+        return isThreefoldRepetition() || isFiftyMoveRule();
+    }
+
+    public boolean isGameOver() {
+        return currentPlayer.isInCheckMate() || currentPlayer.isInStaleMate() || isDrawByRule();
+    }
+
     public static class Builder {
 
-         private Map<Integer, Piece> boardConfig;
+         private final Piece[] boardConfig;
          private Alliance nextMoveMaker;
          private Pawn enPassantPawn;
+         private int halfMoveClock;
+         private int fullMoveNumber;
+         private PositionHistory previousPositions;
 
          public Builder() {
-             boardConfig = new HashMap<>();
+             boardConfig = new Piece[BoardUtils.NUM_TILES];
+             fullMoveNumber = 1;
          }
 
          public Builder setPiece(final Piece piece) {
-             boardConfig.put(piece.getPiecePosition(), piece);
+             boardConfig[piece.getPiecePosition()] = piece;
              return this;
          }
 
@@ -162,13 +234,29 @@ public class Board {
              return this;
          }
 
+         public Builder setHalfMoveClock(final int halfMoveClock) {
+             this.halfMoveClock = halfMoveClock;
+             return this;
+         }
+
+         public Builder setFullMoveNumber(final int fullMoveNumber) {
+             this.fullMoveNumber = fullMoveNumber;
+             return this;
+         }
+
 
         public Board build() {
             return new Board(this);
         }
 
-        public void setEnPassantPawn(Pawn movedPawn) {
+        public Builder setEnPassantPawn(Pawn movedPawn) {
             enPassantPawn = movedPawn;
+            return this;
+        }
+
+        public Builder setPreviousPositions(final PositionHistory previousPositions) {
+            this.previousPositions = previousPositions;
+            return this;
         }
     }
 }
@@ -25,6 +25,7 @@ public class BoardUtils {
 
     public static final int NUM_TILES = 64;
     public static final int NUM_TILES_PER_ROW = 8;
+    public static final int FIFTY_MOVE_RULE_PLIES = 100;
 
     private BoardUtils() {
         throw new RuntimeException("You can not instantiate me!");
@@ -0,0 +1,55 @@
+package chess.engine.board;
+
+import chess.engine.Alliance;
+import chess.engine.pieces.Piece;
+
+import java.util.Arrays;
+
+public final class CapturedPieces {
+    private static final int PIECE_TYPE_COUNT = Piece.PieceType.values().length;
+
+    private final int[][] counts;
+    private final int[] material;
+
+    public CapturedPieces() {
+        this.counts = new int[Alliance.values().length][PIECE_TYPE_COUNT];
+        this.material = new int[Alliance.values().length];
+    }
+
+    public void add(final Move move) {
+        update(move, 1);
+    }
+
+    public void remove(final Move move) {
+        update(move, -1);
+    }
+
+    public void clear() {
+        for (final int[] allianceCounts : counts) {
+            Arrays.fill(allianceCounts, 0);
+        }
+        Arrays.fill(material, 0);
+    }
+
+    public int getCount(final Alliance alliance, final Piece.PieceType pieceType) {
+        return counts[alliance.ordinal()][pieceType.ordinal()];
+    }
+
+    public int getMaterial(final Alliance alliance) {
+        return material[alliance.ordinal()];
+    }
+
+    public int getMaterialBalance() {
+        return material[Alliance.BLACK.ordinal()] - material[Alliance.WHITE.ordinal()];
+    }
+
+    private void update(final Move move, final int delta) {
+        if (!move.isAttack()) {
+            return;
+        }
+        final Piece capturedPiece = move.getAttackedPiece();
+        final int alliance = capturedPiece.getPieceAlliance().ordinal();
+        counts[alliance][capturedPiece.getPieceType().ordinal()] += delta;
+        material[alliance] += delta * capturedPiece.getPieceValue();
+    }
+}
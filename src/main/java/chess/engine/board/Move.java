@@ -95,9 +95,19 @@ public abstract class Move {
         // move the moved piece!
         builder.setPiece(movedPiece.movePiece(this));
         builder.setMoveMaker(board.currentPlayer().getOpponent().getAlliance());
+        setMoveCounters(builder);
         return builder.build();
     }
 
+    protected void setMoveCounters(final Builder builder) {
+        final boolean resetsHalfMoveClock = movedPiece.getPieceType() == Piece.PieceType.PAWN || isAttack();
+        builder.setHalfMoveClock(resetsHalfMoveClock ? 0 : board.getHalfMoveClock() + 1);
+        builder.setFullMoveNumber(board.currentPlayer().getAlliance().isBlack()
+                ? board.getFullMoveNumber() + 1
+                : board.getFullMoveNumber());
+        builder.setPreviousPositions(board.getPositionHistory());
+    }
+
     public static class MajorAttackMove extends AttackMove {
         public MajorAttackMove(final Board board,
                                final Piece pieceMoved,
@@ -244,6 +254,7 @@ public abstract class Move {
             }
             builder.setPiece(movedPiece.movePiece(this));
             builder.setMoveMaker(board.currentPlayer().getOpponent().getAlliance());
+            setMoveCounters(builder);
             return builder.build();
         }
     }
@@ -281,6 +292,7 @@ public abstract class Move {
             }
             builder.setPiece(promotedPawn.getPromotionPiece().movePiece(this));
             builder.setMoveMaker(pawnMovedBoard.currentPlayer().getAlliance());
+            setMoveCounters(builder);
             return builder.build();
         }
 
@@ -300,7 +312,7 @@ public abstract class Move {
         }
     }
 
-    private Board getBoard() {
+    public Board getBoard() {
         return board;
     }
 
@@ -326,6 +338,7 @@ public abstract class Move {
             builder.setPiece(movedPawn);
             builder.setEnPassantPawn(movedPawn);
             builder.setMoveMaker(board.currentPlayer().getOpponent().getAlliance());
+            setMoveCounters(builder);
             return builder.build();
         }
 
@@ -373,9 +386,9 @@ public abstract class Move {
                 builder.setPiece(piece);
             }
             builder.setPiece(movedPiece.movePiece(this));
-            //TODO look into the first move on normal pieces
-            builder.setPiece(new Rook(castleRookDestination, castleRook.getPieceAlliance()));
+            builder.setPiece(new Rook(castleRookDestination, castleRook.getPieceAlliance(), false));
             builder.setMoveMaker(board.currentPlayer().getOpponent().getAlliance());
+            setMoveCounters(builder);
             return builder.build();
         }
 
@@ -469,13 +482,11 @@ public abstract class Move {
         public static Move createMove(final Board board,
                                       final int currentCoordinate,
                                       final int destinationCoordinate) {
-            for (final Move move : board.getAllLegalMove()) {
-                if (move.getCurrentCoordinate() == currentCoordinate
-                        && move.getDestinationCoordinate() == destinationCoordinate) {
-                    return move;
-                }
+            final Move move = board.currentPlayer().findLegalMove(currentCoordinate, destinationCoordinate);
+            if (move != NULL_MOVE) {
+                return move;
             }
-            return NULL_MOVE;
+            return board.currentPlayer().getOpponent().findLegalMove(currentCoordinate, destinationCoordinate);
         }
 
     }
@@ -0,0 +1,38 @@
+package chess.engine.board;
+
+public class MoveCodec {
+    private static final int COORDINATE_MASK = 0x3F;
+    private static final int PROMOTION_FLAG = 1 << 12;
+
+    private MoveCodec() {
+        throw new RuntimeException("Not instantiable!");
+    }
+
+    public static int encodeSquares(final int currentCoordinate, final int destinationCoordinate) {
+        return currentCoordinate | destinationCoordinate << 6;
+    }
+
+    public static int encodeSquares(final Move move) {
+        return encodeSquares(move.getCurrentCoordinate(), move.getDestinationCoordinate());
+    }
+
+    public static short encode(final Move move) {
+        int code = encodeSquares(move);
+        if (move instanceof Move.PawnPromotion) {
+            code |= PROMOTION_FLAG;
+        }
+        return (short) code;
+    }
+
+    public static Move decode(final Board board, final int code) {
+        return Move.MoveFactory.createMove(board, currentCoordinate(code), destinationCoordinate(code));
+    }
+
+    public static int currentCoordinate(final int code) {
+        return code & COORDINATE_MASK;
+    }
+
+    public static int destinationCoordinate(final int code) {
+        return (code >>> 6) & COORDINATE_MASK;
+    }
+}
@@ -0,0 +1,104 @@
+package chess.engine.board;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+public final class MoveList extends AbstractList<Move> implements RandomAccess {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Move[] moves;
+    private int size;
+    private boolean sealed;
+
+    public MoveList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public MoveList(final int capacity) {
+        this.moves = new Move[Math.max(1, capacity)];
+    }
+
+    public static MoveList concat(final Collection<Move> first, final Collection<Move> second) {
+        final MoveList moveList = new MoveList(first.size() + second.size());
+        moveList.appendAll(first);
+        moveList.appendAll(second);
+        moveList.seal();
+        return moveList;
+    }
+
+    void seal() {
+        sealed = true;
+    }
+
+    public void append(final Move move) {
+        checkNotSealed();
+        if (size == moves.length) {
+            moves = Arrays.copyOf(moves, size * 2);
+        }
+        moves[size++] = move;
+    }
+
+    public void appendAll(final Collection<Move> other) {
+        checkNotSealed();
+        if (other instanceof MoveList) {
+            final MoveList moveList = (MoveList) other;
+            if (size + moveList.size > moves.length) {
+                moves = Arrays.copyOf(moves, Math.max(size + moveList.size, size * 2));
+            }
+            System.arraycopy(moveList.moves, 0, moves, size, moveList.size);
+            size += moveList.size;
+        } else {
+            for (final Move move : other) {
+                append(move);
+            }
+        }
+    }
+
+    private void checkNotSealed() {
+        if (sealed) {
+            throw new UnsupportedOperationException("Move list is shared by a board and cannot be changed");
+        }
+    }
+
+    @Override
+    public Move get(final int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " size " + size);
+        }
+        return moves[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(moves, size, Object[].class);
+    }
+
+    @Override
+    public Iterator<Move> iterator() {
+        return new Iterator<Move>() {
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public Move next() {
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                return moves[cursor++];
+            }
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package chess.engine.board;
+
+import chess.engine.pieces.Piece;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+public final class PieceList extends AbstractList<Piece> implements RandomAccess {
+    private static final int MAX_PIECES_PER_SIDE = 16;
+
+    private Piece[] pieces;
+    private int size;
+    private boolean sealed;
+
+    public PieceList() {
+        this.pieces = new Piece[MAX_PIECES_PER_SIDE];
+    }
+
+    void seal() {
+        sealed = true;
+    }
+
+    public void append(final Piece piece) {
+        if (sealed) {
+            throw new UnsupportedOperationException("Piece list is shared by a board and cannot be changed");
+        }
+        if (size == pieces.length) {
+            pieces = Arrays.copyOf(pieces, size * 2);
+        }
+        pieces[size++] = piece;
+    }
+
+    @Override
+    public Piece get(final int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " size " + size);
+        }
+        return pieces[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<Piece> iterator() {
+        return new Iterator<Piece>() {
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public Piece next() {
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                return pieces[cursor++];
+            }
+        };
+    }
+}
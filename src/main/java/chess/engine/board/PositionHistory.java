@@ -0,0 +1,41 @@
+package chess.engine.board;
+
+public final class PositionHistory {
+    private final long key;
+    private final PositionHistory previous;
+    private final int repetitionCount;
+
+    private PositionHistory(final long key, final PositionHistory previous, final int repetitionCount) {
+        this.key = key;
+        this.previous = previous;
+        this.repetitionCount = repetitionCount;
+    }
+
+    static PositionHistory extend(final PositionHistory previous, final long key, final int halfMoveClock) {
+        if (halfMoveClock == 0 || previous == null) {
+            return new PositionHistory(key, null, 1);
+        }
+        int repetitionCount = 1;
+        PositionHistory node = previous.previous;
+        while (node != null) {
+            if (node.key == key) {
+                repetitionCount = node.repetitionCount + 1;
+                break;
+            }
+            node = node.previous != null ? node.previous.previous : null;
+        }
+        return new PositionHistory(key, previous, repetitionCount);
+    }
+
+    public long getKey() {
+        return key;
+    }
+
+    public PositionHistory getPrevious() {
+        return previous;
+    }
+
+    public int getRepetitionCount() {
+        return repetitionCount;
+    }
+}
@@ -1,26 +1,22 @@
 package chess.engine.board;
 
 import chess.engine.pieces.Piece;
-import com.google.common.collect.ImmutableMap;
-
-import java.util.HashMap;
-import java.util.Map;
 
 public abstract class Tile {
     protected final int tileCoordinate;
 
-    private static final Map<Integer, EmptyTile> EMPTY_TILES_CACHES = createAllPossibleEmptyTiles();
+    private static final EmptyTile[] EMPTY_TILES_CACHES = createAllPossibleEmptyTiles();
 
-    private static Map<Integer, EmptyTile> createAllPossibleEmptyTiles() {
-        final Map<Integer, EmptyTile> emptyTileMap = new HashMap<>();
+    private static EmptyTile[] createAllPossibleEmptyTiles() {
+        final EmptyTile[] emptyTiles = new EmptyTile[BoardUtils.NUM_TILES];
         for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
-            emptyTileMap.put(i, new EmptyTile(i));
+            emptyTiles[i] = new EmptyTile(i);
         }
-        return ImmutableMap.copyOf(emptyTileMap);
+        return emptyTiles;
     }
 
     public static Tile createTile(final int coordinate, final Piece piece) {
-        return piece != null ? new OccupiedTile(coordinate, piece) : EMPTY_TILES_CACHES.get(coordinate);
+        return piece != null ? new OccupiedTile(coordinate, piece) : EMPTY_TILES_CACHES[coordinate];
     }
 
     private Tile(final int tileCoordinate) {
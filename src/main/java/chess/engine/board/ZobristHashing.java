@@ -0,0 +1,90 @@
+package chess.engine.board;
+
+import chess.engine.Alliance;
+import chess.engine.pieces.Piece;
+
+public final class ZobristHashing {
+    private static final long SEED = 0x2545F4914F6CDD1DL;
+
+    private static final long[][] PIECE_KEYS = new long[12][BoardUtils.NUM_TILES];
+    private static final long[] CASTLING_KEYS = new long[4];
+    private static final long[] EN_PASSANT_KEYS = new long[BoardUtils.NUM_TILES_PER_ROW];
+    private static final long BLACK_TO_MOVE_KEY;
+
+    static {
+        long state = SEED;
+        for (final long[] pieceKeys : PIECE_KEYS) {
+            for (int i = 0; i < pieceKeys.length; i++) {
+                state += 0x9E3779B97F4A7C15L;
+                pieceKeys[i] = mix(state);
+            }
+        }
+        for (int i = 0; i < CASTLING_KEYS.length; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            CASTLING_KEYS[i] = mix(state);
+        }
+        for (int i = 0; i < EN_PASSANT_KEYS.length; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            EN_PASSANT_KEYS[i] = mix(state);
+        }
+        state += 0x9E3779B97F4A7C15L;
+        BLACK_TO_MOVE_KEY = mix(state);
+    }
+
+    private ZobristHashing() {
+        throw new RuntimeException("Not instantiable!");
+    }
+
+    static long calculateHash(final Tile[] gameBoard,
+                              final Alliance moveMaker,
+                              final Piece enPassantPawn) {
+        long hash = 0L;
+        for (final Tile tile : gameBoard) {
+            if (tile.isTileOccupied()) {
+                hash ^= pieceKey(tile.getPiece());
+            }
+        }
+        hash ^= castlingKey(gameBoard, Alliance.WHITE, 60, 63, 0);
+        hash ^= castlingKey(gameBoard, Alliance.WHITE, 60, 56, 1);
+        hash ^= castlingKey(gameBoard, Alliance.BLACK, 4, 7, 2);
+        hash ^= castlingKey(gameBoard, Alliance.BLACK, 4, 0, 3);
+        if (enPassantPawn != null) {
+            hash ^= EN_PASSANT_KEYS[enPassantPawn.getPiecePosition() % BoardUtils.NUM_TILES_PER_ROW];
+        }
+        if (moveMaker == Alliance.BLACK) {
+            hash ^= BLACK_TO_MOVE_KEY;
+        }
+        return hash;
+    }
+
+    public static long pieceKey(final Piece piece) {
+        final int pieceIndex = piece.getPieceType().ordinal() * 2 + piece.getPieceAlliance().ordinal();
+        return PIECE_KEYS[pieceIndex][piece.getPiecePosition()];
+    }
+
+    private static long castlingKey(final Tile[] gameBoard,
+                                    final Alliance alliance,
+                                    final int kingCoordinate,
+                                    final int rookCoordinate,
+                                    final int keyIndex) {
+        return isUnmovedPiece(gameBoard[kingCoordinate], alliance, Piece.PieceType.KING)
+                && isUnmovedPiece(gameBoard[rookCoordinate], alliance, Piece.PieceType.ROOK)
+                ? CASTLING_KEYS[keyIndex]
+                : 0L;
+    }
+
+    private static boolean isUnmovedPiece(final Tile tile,
+                                          final Alliance alliance,
+                                          final Piece.PieceType pieceType) {
+        return tile.isTileOccupied()
+                && tile.getPiece().getPieceType() == pieceType
+                && tile.getPiece().getPieceAlliance() == alliance
+                && tile.getPiece().isFirstMove();
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
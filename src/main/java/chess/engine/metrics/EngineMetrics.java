@@ -0,0 +1,203 @@
+package chess.engine.metrics;
+
+import chess.engine.board.Move;
+import chess.engine.pieces.Piece;
+import chess.engine.player.MoveStatus;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class EngineMetrics implements EngineMetricsMXBean {
+    public static final boolean ENABLED = Boolean.getBoolean("chess.metrics");
+    public static final String OBJECT_NAME = "chess.engine:type=EngineMetrics";
+
+    private static final EngineMetrics INSTANCE = new EngineMetrics();
+    private static final Piece.PieceType[] PIECE_TYPES = Piece.PieceType.values();
+    private static final MoveStatus[] MOVE_STATUSES = MoveStatus.values();
+
+    private static final LongAdder BOARDS_CONSTRUCTED = new LongAdder();
+    private static final LongAdder[] MOVES_GENERATED = adders(PIECE_TYPES.length);
+    private static final LongAdder[] MOVE_OUTCOMES = adders(MOVE_STATUSES.length);
+    private static final ConcurrentMap<Class<?>, LongAdder> MOVES_EXECUTED = new ConcurrentHashMap<>();
+    private static final ClassValue<LongAdder> MOVE_EXECUTION_COUNTERS = new ClassValue<LongAdder>() {
+        @Override
+        protected LongAdder computeValue(final Class<?> type) {
+            final LongAdder counter = new LongAdder();
+            MOVES_EXECUTED.put(type, counter);
+            return counter;
+        }
+    };
+    private static final LongAdder SEARCHES = new LongAdder();
+    private static final LongAdder SEARCH_NODES = new LongAdder();
+    private static final LongAdder SEARCH_TIME_MILLIS = new LongAdder();
+    private static final LongAdder TRANSPOSITION_PROBES = new LongAdder();
+    private static final LongAdder TRANSPOSITION_HITS = new LongAdder();
+
+    private EngineMetrics() {
+    }
+
+    public static EngineMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    public static void boardConstructed() {
+        BOARDS_CONSTRUCTED.increment();
+    }
+
+    public static void movesGenerated(final Piece.PieceType pieceType, final int count) {
+        MOVES_GENERATED[pieceType.ordinal()].add(count);
+    }
+
+    public static void moveExecuted(final Move move) {
+        MOVE_EXECUTION_COUNTERS.get(move.getClass()).increment();
+    }
+
+    public static void moveOutcome(final MoveStatus moveStatus) {
+        MOVE_OUTCOMES[moveStatus.ordinal()].increment();
+    }
+
+    public static void searchCompleted(final long nodes, final long timeMillis) {
+        SEARCHES.increment();
+        SEARCH_NODES.add(nodes);
+        SEARCH_TIME_MILLIS.add(timeMillis);
+    }
+
+    public static void transpositionProbe(final boolean hit) {
+        TRANSPOSITION_PROBES.increment();
+        if (hit) {
+            TRANSPOSITION_HITS.increment();
+        }
+    }
+
+    public static void register() {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+        } catch (final InstanceAlreadyExistsException e) {
+            // registered by an earlier caller
+        } catch (final JMException e) {
+            throw new IllegalStateException("Cannot register " + OBJECT_NAME, e);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return ENABLED;
+    }
+
+    @Override
+    public long getBoardsConstructed() {
+        return BOARDS_CONSTRUCTED.sum();
+    }
+
+    @Override
+    public Map<String, Long> getMovesGenerated() {
+        final Map<String, Long> counts = new TreeMap<>();
+        for (final Piece.PieceType pieceType : PIECE_TYPES) {
+            counts.put(pieceType.name(), MOVES_GENERATED[pieceType.ordinal()].sum());
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getMovesExecuted() {
+        final Map<String, Long> counts = new TreeMap<>();
+        for (final Map.Entry<Class<?>, LongAdder> entry : MOVES_EXECUTED.entrySet()) {
+            counts.put(entry.getKey().getSimpleName(), entry.getValue().sum());
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getMoveOutcomes() {
+        final Map<String, Long> counts = new TreeMap<>();
+        for (final MoveStatus moveStatus : MOVE_STATUSES) {
+            counts.put(moveStatus.name(), MOVE_OUTCOMES[moveStatus.ordinal()].sum());
+        }
+        return counts;
+    }
+
+    @Override
+    public long getSearches() {
+        return SEARCHES.sum();
+    }
+
+    @Override
+    public long getSearchNodes() {
+        return SEARCH_NODES.sum();
+    }
+
+    @Override
+    public long getSearchTimeMillis() {
+        return SEARCH_TIME_MILLIS.sum();
+    }
+
+    @Override
+    public long getNodesPerSecond() {
+        final long timeMillis = getSearchTimeMillis();
+        return timeMillis > 0 ? getSearchNodes() * 1000 / timeMillis : 0;
+    }
+
+    @Override
+    public long getTranspositionProbes() {
+        return TRANSPOSITION_PROBES.sum();
+    }
+
+    @Override
+    public long getTranspositionHits() {
+        return TRANSPOSITION_HITS.sum();
+    }
+
+    @Override
+    public double getTranspositionHitRate() {
+        final long probes = getTranspositionProbes();
+        return probes > 0 ? (double) getTranspositionHits() / probes : 0;
+    }
+
+    @Override
+    public void reset() {
+        BOARDS_CONSTRUCTED.reset();
+        for (final LongAdder counter : MOVES_GENERATED) {
+            counter.reset();
+        }
+        for (final LongAdder counter : MOVE_OUTCOMES) {
+            counter.reset();
+        }
+        for (final LongAdder counter : MOVES_EXECUTED.values()) {
+            counter.reset();
+        }
+        SEARCHES.reset();
+        SEARCH_NODES.reset();
+        SEARCH_TIME_MILLIS.reset();
+        TRANSPOSITION_PROBES.reset();
+        TRANSPOSITION_HITS.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "boards " + getBoardsConstructed()
+                + " generated " + getMovesGenerated()
+                + " executed " + getMovesExecuted()
+                + " outcomes " + getMoveOutcomes()
+                + " searches " + getSearches()
+                + " nodes " + getSearchNodes()
+                + " nps " + getNodesPerSecond()
+                + String.format(" tt-hit-rate %.3f", getTranspositionHitRate());
+    }
+
+    private static LongAdder[] adders(final int count) {
+        final LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+}
@@ -0,0 +1,31 @@
+package chess.engine.metrics;
+
+import java.util.Map;
+
+public interface EngineMetricsMXBean {
+    boolean isEnabled();
+
+    long getBoardsConstructed();
+
+    Map<String, Long> getMovesGenerated();
+
+    Map<String, Long> getMovesExecuted();
+
+    Map<String, Long> getMoveOutcomes();
+
+    long getSearches();
+
+    long getSearchNodes();
+
+    long getSearchTimeMillis();
+
+    long getNodesPerSecond();
+
+    long getTranspositionProbes();
+
+    long getTranspositionHits();
+
+    double getTranspositionHitRate();
+
+    void reset();
+}
@@ -0,0 +1,72 @@
+package chess.engine.metrics;
+
+import java.io.Closeable;
+import java.io.PrintStream;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+public class MetricsReporter implements Closeable {
+    public static final String INTERVAL_PROPERTY = "chess.metrics.interval";
+
+    private final ScheduledExecutorService scheduler;
+    private final PrintStream output;
+    private long lastBoards;
+    private long lastNodes;
+    private long lastTimeNanos;
+
+    public MetricsReporter(final PrintStream output) {
+        this.output = output;
+        this.lastTimeNanos = System.nanoTime();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(final Runnable runnable) {
+                final Thread thread = new Thread(runnable, "metrics-reporter");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    public static MetricsReporter startIfEnabled(final PrintStream output) {
+        if (!EngineMetrics.ENABLED) {
+            return null;
+        }
+        EngineMetrics.register();
+        final MetricsReporter reporter = new MetricsReporter(output);
+        final long intervalSeconds = Long.getLong(INTERVAL_PROPERTY, 0L);
+        if (intervalSeconds > 0) {
+            reporter.start(intervalSeconds, TimeUnit.SECONDS);
+        }
+        return reporter;
+    }
+
+    public MetricsReporter start(final long interval, final TimeUnit unit) {
+        scheduler.scheduleAtFixedRate(new Runnable() {
+            @Override
+            public void run() {
+                report();
+            }
+        }, interval, interval, unit);
+        return this;
+    }
+
+    public synchronized void report() {
+        final EngineMetrics metrics = EngineMetrics.getInstance();
+        final long now = System.nanoTime();
+        final long boards = metrics.getBoardsConstructed();
+        final long nodes = metrics.getSearchNodes();
+        final double seconds = Math.max(1e-9, (now - lastTimeNanos) / 1e9);
+        output.println(String.format("metrics: boards/s %.0f search-nodes/s %.0f | %s",
+                (boards - lastBoards) / seconds, (nodes - lastNodes) / seconds, metrics));
+        lastBoards = boards;
+        lastNodes = nodes;
+        lastTimeNanos = now;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
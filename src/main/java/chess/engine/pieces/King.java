@@ -4,14 +4,10 @@ import chess.engine.Alliance;
 import chess.engine.board.Board;
 import chess.engine.board.BoardUtils;
 import chess.engine.board.Move;
+import chess.engine.board.MoveList;
 import chess.engine.board.Move.MajorAttackMove;
 import chess.engine.board.Move.MajorMove;
 import chess.engine.board.Tile;
-import com.google.common.collect.ImmutableList;
-
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
 
 public class King extends Piece {
     private static final int[] CANDIDATE_MOVE_COORDINATE = {-9, -8, -7, -1, 1, 7, 8, 9};
@@ -26,9 +22,7 @@ public class King extends Piece {
     }
 
     @Override
-    public Collection<Move> calculateLegalMoves(Board board) {
-        final List<Move> legalMoves = new ArrayList<>();
-
+    public void generateLegalMoves(final Board board, final MoveList legalMoves) {
         for (final int currentCandidateOffset : CANDIDATE_MOVE_COORDINATE) {
             final int  candidateDestinationCoordinate = piecePosition + currentCandidateOffset;
 
@@ -40,12 +34,12 @@ public class King extends Piece {
             if (BoardUtils.isValidTileCoordinate(candidateDestinationCoordinate)) {
                 final Tile candidateDestinationTile = board.getTile(candidateDestinationCoordinate);
                 if (!candidateDestinationTile.isTileOccupied()) {
-                    legalMoves.add(new MajorMove(board, this, candidateDestinationCoordinate));
+                    legalMoves.append(new MajorMove(board, this, candidateDestinationCoordinate));
                 } else {
                     final Piece pieceAtDestination = candidateDestinationTile.getPiece();
                     final Alliance pieceAlliance = pieceAtDestination.getPieceAlliance();
                     if (this.pieceAlliance != pieceAlliance) {
-                        legalMoves.add(new MajorAttackMove(board,
+                        legalMoves.append(new MajorAttackMove(board,
                                 this,
                                 candidateDestinationCoordinate,
                                 pieceAtDestination));
@@ -53,13 +47,12 @@ public class King extends Piece {
                 }
             }
         }
-        return ImmutableList.copyOf(legalMoves);
     }
 
     @Override
     public King movePiece(final Move move) {
         return new King(move.getDestinationCoordinate(),
-                move.getMovedPiece().getPieceAlliance());
+                move.getMovedPiece().getPieceAlliance(), false);
     }
 
     private static boolean isFirstColumnExclusion(final int currentPosition, final int candidateOffset) {
@@ -4,12 +4,8 @@ import chess.engine.Alliance;
 import chess.engine.board.Board;
 import chess.engine.board.BoardUtils;
 import chess.engine.board.Move;
+import chess.engine.board.MoveList;
 import chess.engine.board.Tile;
-import com.google.common.collect.ImmutableList;
-
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
 
 import static chess.engine.board.Move.*;
 
@@ -27,9 +23,7 @@ public class Knight extends Piece {
     }
 
     @Override
-    public Collection<Move> calculateLegalMoves(final Board board) {
-        final List<Move> legalMoves = new ArrayList<>();
-
+    public void generateLegalMoves(final Board board, final MoveList legalMoves) {
         for (final int currentCandidateOffset : CANDIDATE_MOVE_COORDINATE) {
             final int candidateDestinationCoordinate = this.piecePosition + currentCandidateOffset;
             if (BoardUtils.isValidTileCoordinate(candidateDestinationCoordinate)) {
@@ -41,12 +35,12 @@ public class Knight extends Piece {
                 }
                 final Tile candidateDestinationTile = board.getTile(candidateDestinationCoordinate);
                 if (!candidateDestinationTile.isTileOccupied()) {
-                    legalMoves.add(new MajorMove(board, this, candidateDestinationCoordinate));
+                    legalMoves.append(new MajorMove(board, this, candidateDestinationCoordinate));
                 } else {
                     final Piece pieceAtDestination = candidateDestinationTile.getPiece();
                     final Alliance pieceAlliance = pieceAtDestination.getPieceAlliance();
                     if (this.pieceAlliance != pieceAlliance) {
-                        legalMoves.add(new MajorAttackMove(board,
+                        legalMoves.append(new MajorAttackMove(board,
                                 this,
                                 candidateDestinationCoordinate,
                                 pieceAtDestination));
@@ -54,14 +48,12 @@ public class Knight extends Piece {
                 }
             }
         }
-
-        return ImmutableList.copyOf(legalMoves);
     }
 
     @Override
     public Knight movePiece(final Move move) {
         return new Knight(move.getDestinationCoordinate(),
-                move.getMovedPiece().getPieceAlliance());
+                move.getMovedPiece().getPieceAlliance(), false);
     }
 
     private static boolean isFirstColumnExclusion(final int currentPosition, final int candidateOffset) {
@@ -4,11 +4,7 @@ import chess.engine.Alliance;
 import chess.engine.board.Board;
 import chess.engine.board.BoardUtils;
 import chess.engine.board.Move;
-import com.google.common.collect.ImmutableList;
-
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
+import chess.engine.board.MoveList;
 
 import static chess.engine.board.Move.*;
 
@@ -31,9 +27,7 @@ public class Pawn extends Piece {
     }
 
     @Override
-    public Collection<Move> calculateLegalMoves(final Board board) {
-        final List<Move> legalMoves = new ArrayList<>();
-
+    public void generateLegalMoves(final Board board, final MoveList legalMoves) {
         for (final int currentCandidateOffset : CANDIDATE_MOVE_COORDINATE) {
             final int candidateDestinationCoordinate = piecePosition
                     + (this.getPieceAlliance().getDirection() * currentCandidateOffset);
@@ -43,10 +37,10 @@ public class Pawn extends Piece {
 
             if (currentCandidateOffset == 8 && !board.getTile(candidateDestinationCoordinate).isTileOccupied()) {
                 if(pieceAlliance.isPawnPromotionSquare(candidateDestinationCoordinate)) {
-                    legalMoves.add(new PawnPromotion(
+                    legalMoves.append(new PawnPromotion(
                             new PawnMove(board, this,candidateDestinationCoordinate)));
                 } else {
-                    legalMoves.add(new PawnMove(board, this, candidateDestinationCoordinate));
+                    legalMoves.append(new PawnMove(board, this, candidateDestinationCoordinate));
                 }
             } else if (currentCandidateOffset == 16 && this.isFirstMove()
                     && ((BoardUtils.SEVENTH_RANK[piecePosition] && pieceAlliance.isBlack())
@@ -55,7 +49,7 @@ public class Pawn extends Piece {
                         + (pieceAlliance.getDirection() * 8);
                 if (!board.getTile(behindCandidateDestinationCoordinate).isTileOccupied()
                         && !board.getTile(candidateDestinationCoordinate).isTileOccupied()) {
-                    legalMoves.add(new PawnJump(board, this, candidateDestinationCoordinate));
+                    legalMoves.append(new PawnJump(board, this, candidateDestinationCoordinate));
                 }
             } else if (currentCandidateOffset == 7
                     && !((BoardUtils.FIRST_COLUMN[piecePosition] && pieceAlliance.isBlack())
@@ -64,13 +58,13 @@ public class Pawn extends Piece {
                     final Piece pieceOnCandidate = board.getTile(candidateDestinationCoordinate).getPiece();
                     if (pieceAlliance != pieceOnCandidate.getPieceAlliance()) {
                         if(pieceAlliance.isPawnPromotionSquare(candidateDestinationCoordinate)) {
-                            legalMoves.add(new PawnPromotion(
+                            legalMoves.append(new PawnPromotion(
                                     new PawnAttackMove(board,
                                             this,
                                             candidateDestinationCoordinate,
                                             pieceOnCandidate)));
                         } else {
-                            legalMoves.add(new PawnAttackMove(
+                            legalMoves.append(new PawnAttackMove(
                                     board, this, candidateDestinationCoordinate, pieceOnCandidate));
                         }
                     }
@@ -79,7 +73,7 @@ public class Pawn extends Piece {
                             == (piecePosition + (pieceAlliance.getOppositeDirection()))) {
                         final Pawn pieceOnCandidate = board.getEnPassantPawn();
                         if(pieceAlliance != pieceOnCandidate.getPieceAlliance()) {
-                            legalMoves.add(new PawnEnPassantAttackMove(
+                            legalMoves.append(new PawnEnPassantAttackMove(
                                     board,
                                     this,
                                     candidateDestinationCoordinate,
@@ -94,13 +88,13 @@ public class Pawn extends Piece {
                     final Piece pieceOnCandidate = board.getTile(candidateDestinationCoordinate).getPiece();
                     if (pieceAlliance != pieceOnCandidate.getPieceAlliance()) {
                         if(pieceAlliance.isPawnPromotionSquare(candidateDestinationCoordinate)) {
-                            legalMoves.add(new PawnPromotion(
+                            legalMoves.append(new PawnPromotion(
                                     new PawnAttackMove(board,
                                             this,
                                             candidateDestinationCoordinate,
                                             pieceOnCandidate)));
                         } else {
-                            legalMoves.add(new PawnAttackMove(
+                            legalMoves.append(new PawnAttackMove(
                                     board, this, candidateDestinationCoordinate, pieceOnCandidate));
                         }
                     }
@@ -109,7 +103,7 @@ public class Pawn extends Piece {
                             == (piecePosition - (pieceAlliance.getOppositeDirection()))) {
                         final Pawn pieceOnCandidate = board.getEnPassantPawn();
                         if(pieceAlliance != pieceOnCandidate.getPieceAlliance()) {
-                            legalMoves.add(new PawnEnPassantAttackMove(
+                            legalMoves.append(new PawnEnPassantAttackMove(
                                     board,
                                     this,
                                     candidateDestinationCoordinate,
@@ -119,13 +113,12 @@ public class Pawn extends Piece {
                 }
             }
         }
-        return ImmutableList.copyOf(legalMoves);
     }
 
     @Override
     public Pawn movePiece(final Move move) {
         return new Pawn(move.getDestinationCoordinate(),
-                move.getMovedPiece().getPieceAlliance());
+                move.getMovedPiece().getPieceAlliance(), false);
     }
 
     @Override
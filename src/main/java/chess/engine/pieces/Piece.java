@@ -3,6 +3,7 @@ package chess.engine.pieces;
 import chess.engine.Alliance;
 import chess.engine.board.Board;
 import chess.engine.board.Move;
+import chess.engine.board.MoveList;
 
 import java.util.Collection;
 
@@ -74,7 +75,13 @@ public abstract class Piece {
         return cachedHashCode;
     }
 
-    public abstract Collection<Move> calculateLegalMoves(final Board board);
+    public Collection<Move> calculateLegalMoves(final Board board) {
+        final MoveList legalMoves = new MoveList();
+        generateLegalMoves(board, legalMoves);
+        return legalMoves;
+    }
+
+    public abstract void generateLegalMoves(final Board board, final MoveList legalMoves);
     public abstract Piece movePiece(final Move move);
 
     public enum PieceType {
@@ -3,14 +3,12 @@ package chess.engine.player;
 import chess.engine.Alliance;
 import chess.engine.board.Board;
 import chess.engine.board.Move;
+import chess.engine.board.MoveList;
 import chess.engine.board.Tile;
 import chess.engine.pieces.Piece;
 import chess.engine.pieces.Rook;
-import com.google.common.collect.ImmutableList;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 
 import static chess.engine.board.Move.*;
 
@@ -40,17 +38,17 @@ public class BlackPlayer extends Player {
     @Override
     protected Collection<Move> calculateKingCastles(final Collection<Move> playerLegals,
                                                     final Collection<Move> opponentsLegals) {
-        final List<Move> kingCastles = new ArrayList<>();
+        final MoveList kingCastles = new MoveList(2);
         if (playerKing.isFirstMove() && !isInCheck()) {
             // black's king side castle
             if (!board.getTile(5).isTileOccupied() && !board.getTile(6).isTileOccupied()) {
                 final Tile rookTile = board.getTile(7);
 
                 if (rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()) {
-                    if (!Player.calculateAttacksOnTile(5, getOpponent().getLegalMoves()).isEmpty()
-                            && !Player.calculateAttacksOnTile(6, getOpponent().getLegalMoves()).isEmpty()
+                    if (!isCastlingSquareAttacked(5, opponentsLegals)
+                            && !isCastlingSquareAttacked(6, opponentsLegals)
                             && rookTile.getPiece().getPieceType().isRook()) {
-                        kingCastles.add(new KingSideCastleMove(
+                        kingCastles.append(new KingSideCastleMove(
                                 board,
                                 playerKing,
                                 6,
@@ -67,11 +65,10 @@ public class BlackPlayer extends Player {
                     && !board.getTile(3).isTileOccupied()) {
                 final Tile rookTile = board.getTile(0);
                 if (rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()) {
-                    if (!Player.calculateAttacksOnTile(1, getOpponent().getLegalMoves()).isEmpty()
-                            && !Player.calculateAttacksOnTile(2, getOpponent().getLegalMoves()).isEmpty()
-                            && !Player.calculateAttacksOnTile(3, getOpponent().getLegalMoves()).isEmpty()
+                    if (!isCastlingSquareAttacked(2, opponentsLegals)
+                            && !isCastlingSquareAttacked(3, opponentsLegals)
                             && rookTile.getPiece().getPieceType().isRook()) {
-                        kingCastles.add(new QueenSideCastleMove(
+                        kingCastles.append(new QueenSideCastleMove(
                                 board,
                                 playerKing,
                                 2,
@@ -84,6 +81,6 @@ public class BlackPlayer extends Player {
             }
         }
 
-        return ImmutableList.copyOf(kingCastles);
+        return kingCastles;
     }
 }
@@ -0,0 +1,59 @@
+package chess.engine.player;
+
+import chess.engine.board.BoardUtils;
+import chess.engine.board.Move;
+import chess.engine.board.MoveCodec;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+final class MoveIndex {
+    private static final int EMPTY = -1;
+
+    private final int[] keys;
+    private final Move[] moves;
+    private final int mask;
+
+    MoveIndex(final Collection<Move> legalMoves) {
+        final int capacity = Integer.highestOneBit(Math.max(4, legalMoves.size()) * 2 - 1) << 1;
+        this.keys = new int[capacity];
+        this.moves = new Move[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(keys, EMPTY);
+        for (final Move move : legalMoves) {
+            final int key = key(move.getCurrentCoordinate(), move.getDestinationCoordinate());
+            int slot = slot(key);
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] == EMPTY) {
+                keys[slot] = key;
+                moves[slot] = move;
+            }
+        }
+    }
+
+    Move get(final int currentCoordinate, final int destinationCoordinate) {
+        if (!BoardUtils.isValidTileCoordinate(currentCoordinate)
+                || !BoardUtils.isValidTileCoordinate(destinationCoordinate)) {
+            return null;
+        }
+        final int key = key(currentCoordinate, destinationCoordinate);
+        int slot = slot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return moves[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    private int slot(final int key) {
+        return (key * 0x9E3779B1 >>> 16) & mask;
+    }
+
+    private static int key(final int currentCoordinate, final int destinationCoordinate) {
+        return MoveCodec.encodeSquares(currentCoordinate, destinationCoordinate);
+    }
+}
@@ -23,4 +23,8 @@ public class MoveTransition {
     public Board getTransitionBoard() {
         return transitionBoard;
     }
+
+    public Move getMove() {
+        return move;
+    }
 }
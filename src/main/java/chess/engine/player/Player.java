@@ -2,33 +2,30 @@ package chess.engine.player;
 
 import chess.engine.Alliance;
 import chess.engine.board.Board;
+import chess.engine.board.BoardUtils;
 import chess.engine.board.Move;
+import chess.engine.board.MoveList;
+import chess.engine.metrics.EngineMetrics;
 import chess.engine.pieces.King;
 import chess.engine.pieces.Piece;
-import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Iterables;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 
 public abstract class Player {
     protected final Board board;
     protected final King playerKing;
     protected final Collection<Move> legalMoves;
     private final boolean isInCheck;
+    private MoveIndex moveIndex;
 
     public Player(final Board board,
                   final Collection<Move> legalMoves,
                   final Collection<Move> opponentMoves) {
         this.board = board;
         playerKing = establishKing();
-        this.legalMoves = ImmutableList.copyOf(
-                Iterables.concat(
-                        legalMoves,
-                        calculateKingCastles(legalMoves, opponentMoves)));
-        isInCheck = !Player.calculateAttacksOnTile(playerKing.getPiecePosition(), opponentMoves).isEmpty();
-
+        isInCheck = Player.isTileAttacked(playerKing.getPiecePosition(), opponentMoves);
+        final Collection<Move> kingCastles = calculateKingCastles(legalMoves, opponentMoves);
+        this.legalMoves = kingCastles.isEmpty() ? legalMoves : MoveList.concat(legalMoves, kingCastles);
     }
 
     public King getPlayerKing() {
@@ -39,14 +36,35 @@ public abstract class Player {
         return legalMoves;
     }
 
-    protected static Collection<Move> calculateAttacksOnTile(int piecePosition, Collection<Move> moves) {
-        final List<Move> attackMoves = new ArrayList<>();
+    protected static boolean isTileAttacked(final int piecePosition, final Collection<Move> moves) {
         for (final Move move : moves) {
             if (piecePosition == move.getDestinationCoordinate()) {
-                attackMoves.add(move);
+                return true;
             }
         }
-        return ImmutableList.copyOf(attackMoves);
+        return false;
+    }
+
+    protected boolean isCastlingSquareAttacked(final int coordinate, final Collection<Move> opponentsLegals) {
+        for (final Move move : opponentsLegals) {
+            if (coordinate == move.getDestinationCoordinate()
+                    && move.getMovedPiece().getPieceType() != Piece.PieceType.PAWN) {
+                return true;
+            }
+        }
+        final int direction = getAlliance().getDirection();
+        return (!BoardUtils.FIRST_COLUMN[coordinate] && isEnemyPawn(coordinate + 8 * direction - 1))
+                || (!BoardUtils.EIGHTH_COLUMN[coordinate] && isEnemyPawn(coordinate + 8 * direction + 1));
+    }
+
+    private boolean isEnemyPawn(final int coordinate) {
+        if (!BoardUtils.isValidTileCoordinate(coordinate)) {
+            return false;
+        }
+        final Piece piece = board.getTile(coordinate).getPiece();
+        return piece != null
+                && piece.getPieceType() == Piece.PieceType.PAWN
+                && piece.getPieceAlliance() != getAlliance();
     }
 
     protected King establishKing() {
@@ -59,7 +77,22 @@ public abstract class Player {
     }
 
     public boolean isMoveLegal(Move move) {
-        return  legalMoves.contains(move);
+        final Move legalMove = getMoveIndex().get(move.getCurrentCoordinate(), move.getDestinationCoordinate());
+        return legalMove != null && (legalMove == move || legalMove.equals(move));
+    }
+
+    public Move findLegalMove(final int currentCoordinate, final int destinationCoordinate) {
+        final Move legalMove = getMoveIndex().get(currentCoordinate, destinationCoordinate);
+        return legalMove != null ? legalMove : Move.NULL_MOVE;
+    }
+
+    private MoveIndex getMoveIndex() {
+        MoveIndex index = moveIndex;
+        if (index == null) {
+            index = new MoveIndex(legalMoves);
+            moveIndex = index;
+        }
+        return index;
     }
 
     public boolean isInCheck() {
@@ -90,18 +123,30 @@ public abstract class Player {
 
     public MoveTransition makeMove(Move move) {
         if(!isMoveLegal(move)) {
+            if (EngineMetrics.ENABLED) {
+                EngineMetrics.moveOutcome(MoveStatus.ILLEGAL_MOVE);
+            }
             return new MoveTransition(board, move, MoveStatus.ILLEGAL_MOVE);
         }
 
+        if (EngineMetrics.ENABLED) {
+            EngineMetrics.moveExecuted(move);
+        }
         final Board transitionBoard = move.execute();
 
-        final Collection<Move> kingAttacks = Player.calculateAttacksOnTile(
+        if (Player.isTileAttacked(
                 transitionBoard.currentPlayer().getOpponent().getPlayerKing().getPiecePosition(),
-                transitionBoard.currentPlayer().getLegalMoves());
-        if (!kingAttacks.isEmpty()) {
+                transitionBoard.currentPlayer().getLegalMoves())) {
+            if (EngineMetrics.ENABLED) {
+                EngineMetrics.moveOutcome(MoveStatus.LEAVES_PLAYER_IN_CHECK);
+            }
             return new MoveTransition(board, move, MoveStatus.LEAVES_PLAYER_IN_CHECK);
         }
 
+        if (EngineMetrics.ENABLED) {
+            EngineMetrics.moveOutcome(MoveStatus.DONE);
+        }
+
         return new MoveTransition(transitionBoard, move, MoveStatus.DONE);
     }
 
@@ -3,16 +3,14 @@ package chess.engine.player;
 import chess.engine.Alliance;
 import chess.engine.board.Board;
 import chess.engine.board.Move;
+import chess.engine.board.MoveList;
 import chess.engine.board.Move.KingSideCastleMove;
 import chess.engine.board.Move.QueenSideCastleMove;
 import chess.engine.board.Tile;
 import chess.engine.pieces.Piece;
 import chess.engine.pieces.Rook;
-import com.google.common.collect.ImmutableList;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 
 public class WhitePlayer extends Player {
     public WhitePlayer(final Board board,
@@ -39,17 +37,17 @@ public class WhitePlayer extends Player {
     @Override
     protected Collection<Move> calculateKingCastles(final Collection<Move> playerLegals,
                                                     final Collection<Move> opponentsLegals) {
-        final List<Move> kingCastles = new ArrayList<>();
+        final MoveList kingCastles = new MoveList(2);
         if (playerKing.isFirstMove() && !isInCheck()) {
             // white's king side castle
             if (!board.getTile(61).isTileOccupied() && !board.getTile(62).isTileOccupied()) {
                 final Tile rookTile = board.getTile(63);
 
                 if (rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()) {
-                    if (!Player.calculateAttacksOnTile(61, getOpponent().getLegalMoves()).isEmpty()
-                            && !Player.calculateAttacksOnTile(62, getOpponent().getLegalMoves()).isEmpty()
+                    if (!isCastlingSquareAttacked(61, opponentsLegals)
+                            && !isCastlingSquareAttacked(62, opponentsLegals)
                             && rookTile.getPiece().getPieceType().isRook()) {
-                        kingCastles.add(new KingSideCastleMove(
+                        kingCastles.append(new KingSideCastleMove(
                                 board,
                                 playerKing,
                                 62,
@@ -67,11 +65,10 @@ public class WhitePlayer extends Player {
                 final Tile rookTile = board.getTile(56);
 
                 if (rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()) {
-                    if (!Player.calculateAttacksOnTile(59, getOpponent().getLegalMoves()).isEmpty()
-                            && !Player.calculateAttacksOnTile(58, getOpponent().getLegalMoves()).isEmpty()
-                            && !Player.calculateAttacksOnTile(57 , getOpponent().getLegalMoves()).isEmpty()
+                    if (!isCastlingSquareAttacked(59, opponentsLegals)
+                            && !isCastlingSquareAttacked(58, opponentsLegals)
                             && rookTile.getPiece().getPieceType().isRook()) {
-                        kingCastles.add(new QueenSideCastleMove(
+                        kingCastles.append(new QueenSideCastleMove(
                                 board,
                                 playerKing,
                                 58,
@@ -84,6 +81,6 @@ public class WhitePlayer extends Player {
             }
         }
 
-        return ImmutableList.copyOf(kingCastles);
+        return kingCastles;
     }
 }
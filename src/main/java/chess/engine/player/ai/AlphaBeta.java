@@ -0,0 +1,481 @@
+package chess.engine.player.ai;
+
+import chess.engine.board.Board;
+import chess.engine.board.Move;
+import chess.engine.board.MoveCodec;
+import chess.engine.metrics.EngineMetrics;
+import chess.engine.player.MoveTransition;
+import chess.tablebase.TablebaseResult;
+import chess.tablebase.Tablebases;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class AlphaBeta implements MoveStrategy {
+    public static final int MATE_SCORE = 100000;
+    private static final int INFINITY = MATE_SCORE + 1;
+    private static final int DEFAULT_DEPTH = 4;
+    private static final int MAX_QUIESCENCE_DEPTH = 4;
+    private static final int NODE_FLUSH_INTERVAL = 1024;
+
+    private final BoardEvaluator evaluator;
+    private final TranspositionTable transpositionTable;
+    private final int threadCount;
+    private final int defaultDepth;
+    private volatile SearchListener searchListener;
+    private volatile Tablebases tablebases;
+    private volatile int multiPv = 1;
+    private volatile boolean stopRequested;
+    private volatile boolean searchFinished;
+
+    public AlphaBeta() {
+        this(DEFAULT_DEPTH);
+    }
+
+    public AlphaBeta(final int defaultDepth) {
+        this(new StandardBoardEvaluator(),
+             new TranspositionTable(TranspositionTable.DEFAULT_SIZE_MB),
+             1,
+             defaultDepth);
+    }
+
+    public AlphaBeta(final BoardEvaluator evaluator,
+                     final TranspositionTable transpositionTable,
+                     final int threadCount,
+                     final int defaultDepth) {
+        this.evaluator = evaluator;
+        this.transpositionTable = transpositionTable;
+        this.threadCount = Math.max(1, threadCount);
+        this.defaultDepth = defaultDepth;
+    }
+
+    @Override
+    public Move execute(final Board board) {
+        return search(board, SearchLimits.depth(defaultDepth)).getBestMove();
+    }
+
+    public void setSearchListener(final SearchListener searchListener) {
+        this.searchListener = searchListener;
+    }
+
+    public void setTablebases(final Tablebases tablebases) {
+        this.tablebases = tablebases;
+    }
+
+    public void setMultiPv(final int multiPv) {
+        this.multiPv = Math.max(1, multiPv);
+    }
+
+    public int getMultiPv() {
+        return multiPv;
+    }
+
+    public TranspositionTable getTranspositionTable() {
+        return transpositionTable;
+    }
+
+    public void stop() {
+        stopRequested = true;
+    }
+
+    public SearchInfo search(final Board board, final SearchLimits limits) {
+        stopRequested = false;
+        searchFinished = false;
+        final long startTime = System.currentTimeMillis();
+        final long deadline = limits.hasTimeLimit() ? startTime + limits.getTimeLimitMillis() : Long.MAX_VALUE;
+        final SearchInfo tablebaseResult = probeRoot(board, startTime);
+        if (tablebaseResult != null) {
+            return tablebaseResult;
+        }
+
+        final long nodeLimit = limits.hasNodeLimit() ? limits.getNodeLimit() : Long.MAX_VALUE;
+        final AtomicLong sharedNodes = new AtomicLong();
+        final SearchWorker mainWorker = new SearchWorker(board, startTime, deadline, nodeLimit, sharedNodes, 0);
+        final List<SearchWorker> helpers = new ArrayList<>();
+        final List<Thread> helperThreads = new ArrayList<>();
+        for (int i = 1; i < threadCount; i++) {
+            final SearchWorker helper = new SearchWorker(board, startTime, deadline, nodeLimit, sharedNodes, i);
+            final Thread helperThread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    helper.iterate(SearchLimits.MAX_DEPTH, null);
+                }
+            }, "search-helper-" + i);
+            helperThread.setDaemon(true);
+            helpers.add(helper);
+            helperThreads.add(helperThread);
+            helperThread.start();
+        }
+
+        final SearchInfo result = mainWorker.iterate(limits.getDepth(), helpers);
+
+        searchFinished = true;
+        for (final Thread helperThread : helperThreads) {
+            try {
+                helperThread.join();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (EngineMetrics.ENABLED && result != null) {
+            EngineMetrics.searchCompleted(result.getNodes(), result.getTimeMillis());
+        }
+        return result;
+    }
+
+    private SearchInfo probeRoot(final Board board, final long startTime) {
+        final Tablebases probe = tablebases;
+        if (probe == null) {
+            return null;
+        }
+        final TablebaseResult result = probe.probe(board);
+        final Move move = probe.bestMove(board);
+        if (!result.isKnown() || move == Move.NULL_MOVE) {
+            return null;
+        }
+        final SearchInfo searchInfo = new SearchInfo(1, tablebaseScore(result, 0), 1,
+                System.currentTimeMillis() - startTime, Collections.singletonList(move));
+        final SearchListener listener = searchListener;
+        if (listener != null) {
+            listener.onSearchProgress(searchInfo);
+        }
+        return searchInfo;
+    }
+
+    private static int tablebaseScore(final TablebaseResult result, final int ply) {
+        switch (result.getOutcome()) {
+            case WIN:
+                return MATE_SCORE - ply - result.getPliesToMate();
+            case LOSS:
+                return -MATE_SCORE + ply + result.getPliesToMate();
+            default:
+                return 0;
+        }
+    }
+
+    static int packMove(final Move move) {
+        return MoveCodec.encodeSquares(move);
+    }
+
+    static Move unpackMove(final Board board, final int packedMove) {
+        return MoveCodec.decode(board, packedMove);
+    }
+
+    private static int sideToMoveSign(final Board board) {
+        return board.currentPlayer().getAlliance().isWhite() ? 1 : -1;
+    }
+
+    private static int toTableScore(final int score, final int ply) {
+        if (score > MATE_SCORE - SearchLimits.MAX_DEPTH * 2) {
+            return score + ply;
+        } else if (score < -MATE_SCORE + SearchLimits.MAX_DEPTH * 2) {
+            return score - ply;
+        }
+        return score;
+    }
+
+    private static int fromTableScore(final int score, final int ply) {
+        if (score > MATE_SCORE - SearchLimits.MAX_DEPTH * 2) {
+            return score - ply;
+        } else if (score < -MATE_SCORE + SearchLimits.MAX_DEPTH * 2) {
+            return score + ply;
+        }
+        return score;
+    }
+
+    private static Move[] orderMoves(final Collection<Move> moves,
+                                     final int ttMove,
+                                     final boolean capturesOnly) {
+        final Move[] ordered = new Move[moves.size()];
+        final int[] scores = new int[moves.size()];
+        int count = 0;
+        for (final Move move : moves) {
+            if (capturesOnly && !move.isAttack()) {
+                continue;
+            }
+            final int moveScore = scoreMove(move, ttMove);
+            int i = count++;
+            while (i > 0 && scores[i - 1] < moveScore) {
+                ordered[i] = ordered[i - 1];
+                scores[i] = scores[i - 1];
+                i--;
+            }
+            ordered[i] = move;
+            scores[i] = moveScore;
+        }
+        if (count == ordered.length) {
+            return ordered;
+        }
+        final Move[] trimmed = new Move[count];
+        System.arraycopy(ordered, 0, trimmed, 0, count);
+        return trimmed;
+    }
+
+    private static int scoreMove(final Move move, final int ttMove) {
+        if (packMove(move) == ttMove) {
+            return Integer.MAX_VALUE;
+        }
+        if (move.isAttack()) {
+            return 100000 + move.getAttackedPiece().getPieceValue() * 10
+                    - move.getMovedPiece().getPieceValue() / 100;
+        }
+        if (move.isCastlingMove()) {
+            return 50;
+        }
+        return 0;
+    }
+
+    private final class SearchWorker {
+        private final Board root;
+        private final long startTime;
+        private final long deadline;
+        private final long nodeLimit;
+        private final AtomicLong sharedNodes;
+        private final int workerId;
+        private final int lineCount;
+        private final int[] lineMoves;
+        private final int[] lineScores;
+        private int lines;
+        private long nodes;
+        private long flushedNodes;
+        private boolean aborted;
+
+        SearchWorker(final Board root,
+                     final long startTime,
+                     final long deadline,
+                     final long nodeLimit,
+                     final AtomicLong sharedNodes,
+                     final int workerId) {
+            this.root = root;
+            this.startTime = startTime;
+            this.deadline = deadline;
+            this.nodeLimit = nodeLimit;
+            this.sharedNodes = sharedNodes;
+            this.workerId = workerId;
+            this.lineCount = workerId == 0 ? multiPv : 1;
+            this.lineMoves = new int[lineCount];
+            this.lineScores = new int[lineCount];
+        }
+
+        SearchInfo iterate(final int maxDepth, final List<SearchWorker> helpers) {
+            SearchInfo completed = null;
+            int bestMove = TranspositionTable.NO_MOVE;
+            for (int depth = 1 + (workerId & 1); depth <= maxDepth; depth++) {
+                final int[] rootResult = searchRoot(depth, bestMove);
+                if (aborted && completed != null) {
+                    break;
+                }
+                if (rootResult[0] == TranspositionTable.NO_MOVE) {
+                    completed = new SearchInfo(depth, rootResult[1], totalNodes(helpers),
+                            System.currentTimeMillis() - startTime, new ArrayList<Move>());
+                    break;
+                }
+                bestMove = rootResult[0];
+                completed = new SearchInfo(depth, rootResult[1], totalNodes(helpers),
+                        System.currentTimeMillis() - startTime, principalVariation(bestMove, depth));
+                final SearchListener listener = searchListener;
+                if (helpers != null && listener != null) {
+                    listener.onSearchProgress(completed);
+                    for (int line = 1; line < lines && !aborted; line++) {
+                        listener.onSearchProgress(new SearchInfo(depth, lineScores[line], completed.getNodes(),
+                                completed.getTimeMillis(), principalVariation(lineMoves[line], depth), line + 1));
+                    }
+                }
+                if (aborted) {
+                    break;
+                }
+            }
+            return completed;
+        }
+
+        private long totalNodes(final List<SearchWorker> helpers) {
+            long total = nodes;
+            if (helpers != null) {
+                for (final SearchWorker helper : helpers) {
+                    total += helper.nodes;
+                }
+            }
+            return total;
+        }
+
+        private int[] searchRoot(final int depth, final int previousBest) {
+            int alpha = -INFINITY;
+            lines = 0;
+            for (final Move move : orderMoves(root.currentPlayer().getLegalMoves(), previousBest, false)) {
+                final MoveTransition transition = root.currentPlayer().makeMove(move);
+                if (!transition.getMoveStatus().isDone()) {
+                    continue;
+                }
+                final int score = -negamax(transition.getTransitionBoard(), depth - 1, -INFINITY, -alpha, 1);
+                if (aborted) {
+                    if (lines == 0) {
+                        lineMoves[0] = packMove(move);
+                        lineScores[0] = 0;
+                        lines = 1;
+                    }
+                    break;
+                }
+                if (lines < lineCount || score > alpha) {
+                    insertLine(packMove(move), score);
+                    if (lines == lineCount) {
+                        alpha = lineScores[lineCount - 1];
+                    }
+                }
+            }
+            final int bestMove = lines > 0 ? lineMoves[0] : TranspositionTable.NO_MOVE;
+            final int bestScore = lines > 0 ? lineScores[0] : -INFINITY;
+            if (bestMove == TranspositionTable.NO_MOVE && !aborted) {
+                return new int[] {TranspositionTable.NO_MOVE, root.currentPlayer().isInCheck() ? -MATE_SCORE : 0};
+            }
+            if (!aborted) {
+                transpositionTable.store(root.getZobristHash(), bestMove, depth, TranspositionTable.EXACT, bestScore);
+            }
+            return new int[] {bestMove, bestScore};
+        }
+
+        private void insertLine(final int move, final int score) {
+            int index = Math.min(lines, lineCount - 1);
+            while (index > 0 && lineScores[index - 1] < score) {
+                lineMoves[index] = lineMoves[index - 1];
+                lineScores[index] = lineScores[index - 1];
+                index--;
+            }
+            lineMoves[index] = move;
+            lineScores[index] = score;
+            lines = Math.min(lines + 1, lineCount);
+        }
+
+        private int negamax(final Board board, final int depth, int alpha, final int beta, final int ply) {
+            if (isAborted()) {
+                return 0;
+            }
+            if (board.isRepetition() || board.isFiftyMoveRule()) {
+                nodes++;
+                return 0;
+            }
+            final Tablebases probe = tablebases;
+            if (probe != null && probe.canProbe(board)) {
+                final TablebaseResult result = probe.probe(board);
+                if (result.isKnown()) {
+                    nodes++;
+                    return tablebaseScore(result, ply);
+                }
+            }
+            if (depth <= 0) {
+                return quiescence(board, alpha, beta, 0);
+            }
+            nodes++;
+            final long key = board.getZobristHash();
+            final long entry = transpositionTable.probe(key);
+            int ttMove = TranspositionTable.NO_MOVE;
+            if (entry != TranspositionTable.MISS) {
+                ttMove = TranspositionTable.moveOf(entry);
+                if (TranspositionTable.depthOf(entry) >= depth) {
+                    final int ttScore = fromTableScore(TranspositionTable.scoreOf(entry), ply);
+                    final int flag = TranspositionTable.flagOf(entry);
+                    if (flag == TranspositionTable.EXACT
+                            || (flag == TranspositionTable.LOWER_BOUND && ttScore >= beta)
+                            || (flag == TranspositionTable.UPPER_BOUND && ttScore <= alpha)) {
+                        return ttScore;
+                    }
+                }
+            }
+
+            final int originalAlpha = alpha;
+            int bestScore = -INFINITY;
+            int bestMove = TranspositionTable.NO_MOVE;
+            for (final Move move : orderMoves(board.currentPlayer().getLegalMoves(), ttMove, false)) {
+                final MoveTransition transition = board.currentPlayer().makeMove(move);
+                if (!transition.getMoveStatus().isDone()) {
+                    continue;
+                }
+                final int score = -negamax(transition.getTransitionBoard(), depth - 1, -beta, -alpha, ply + 1);
+                if (aborted) {
+                    return 0;
+                }
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestMove = packMove(move);
+                    if (score > alpha) {
+                        alpha = score;
+                        if (alpha >= beta) {
+                            break;
+                        }
+                    }
+                }
+            }
+            if (bestMove == TranspositionTable.NO_MOVE) {
+                return board.currentPlayer().isInCheck() ? -MATE_SCORE + ply : 0;
+            }
+            final int flag = bestScore <= originalAlpha
+                    ? TranspositionTable.UPPER_BOUND
+                    : bestScore >= beta ? TranspositionTable.LOWER_BOUND : TranspositionTable.EXACT;
+            transpositionTable.store(key, bestMove, depth, flag, toTableScore(bestScore, ply));
+            return bestScore;
+        }
+
+        private int quiescence(final Board board, int alpha, final int beta, final int quiescenceDepth) {
+            nodes++;
+            final int standPat = sideToMoveSign(board) * evaluator.evaluate(board, 0);
+            if (standPat >= beta || quiescenceDepth >= MAX_QUIESCENCE_DEPTH) {
+                return standPat;
+            }
+            alpha = Math.max(alpha, standPat);
+            for (final Move move : orderMoves(board.currentPlayer().getLegalMoves(), TranspositionTable.NO_MOVE, true)) {
+                final MoveTransition transition = board.currentPlayer().makeMove(move);
+                if (!transition.getMoveStatus().isDone()) {
+                    continue;
+                }
+                final int score = -quiescence(transition.getTransitionBoard(), -beta, -alpha, quiescenceDepth + 1);
+                if (isAborted()) {
+                    return 0;
+                }
+                if (score >= beta) {
+                    return score;
+                }
+                alpha = Math.max(alpha, score);
+            }
+            return alpha;
+        }
+
+        private boolean isAborted() {
+            if (!aborted && (stopRequested || searchFinished || searchedNodes() > nodeLimit
+                    || System.currentTimeMillis() > deadline)) {
+                aborted = true;
+            }
+            return aborted;
+        }
+
+        private long searchedNodes() {
+            final long pending = nodes - flushedNodes;
+            if (pending < NODE_FLUSH_INTERVAL) {
+                return sharedNodes.get() + pending;
+            }
+            flushedNodes = nodes;
+            return sharedNodes.addAndGet(pending);
+        }
+
+        private List<Move> principalVariation(final int bestMove, final int depth) {
+            final List<Move> principalVariation = new ArrayList<>();
+            Board board = root;
+            int packedMove = bestMove;
+            while (packedMove != TranspositionTable.NO_MOVE && principalVariation.size() < depth) {
+                final Move move = unpackMove(board, packedMove);
+                final MoveTransition transition = board.currentPlayer().makeMove(move);
+                if (!transition.getMoveStatus().isDone()) {
+                    break;
+                }
+                principalVariation.add(move);
+                board = transition.getTransitionBoard();
+                final long entry = transpositionTable.probe(board.getZobristHash());
+                packedMove = entry != TranspositionTable.MISS
+                        ? TranspositionTable.moveOf(entry)
+                        : TranspositionTable.NO_MOVE;
+            }
+            return principalVariation;
+        }
+    }
+}
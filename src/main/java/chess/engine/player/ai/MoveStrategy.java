@@ -0,0 +1,8 @@
+package chess.engine.player.ai;
+
+import chess.engine.board.Board;
+import chess.engine.board.Move;
+
+public interface MoveStrategy {
+    Move execute(Board board);
+}
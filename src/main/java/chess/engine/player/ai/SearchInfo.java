@@ -0,0 +1,79 @@
+package chess.engine.player.ai;
+
+import chess.engine.board.Move;
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
+public final class SearchInfo {
+    private final int depth;
+    private final int score;
+    private final long nodes;
+    private final long timeMillis;
+    private final List<Move> principalVariation;
+    private final int multiPv;
+
+    public SearchInfo(final int depth,
+                      final int score,
+                      final long nodes,
+                      final long timeMillis,
+                      final List<Move> principalVariation) {
+        this(depth, score, nodes, timeMillis, principalVariation, 1);
+    }
+
+    public SearchInfo(final int depth,
+                      final int score,
+                      final long nodes,
+                      final long timeMillis,
+                      final List<Move> principalVariation,
+                      final int multiPv) {
+        this.depth = depth;
+        this.score = score;
+        this.nodes = nodes;
+        this.timeMillis = timeMillis;
+        this.principalVariation = ImmutableList.copyOf(principalVariation);
+        this.multiPv = multiPv;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    public long getNodesPerSecond() {
+        return timeMillis > 0 ? nodes * 1000 / timeMillis : nodes;
+    }
+
+    public List<Move> getPrincipalVariation() {
+        return principalVariation;
+    }
+
+    public int getMultiPv() {
+        return multiPv;
+    }
+
+    public Move getBestMove() {
+        return principalVariation.isEmpty() ? Move.NULL_MOVE : principalVariation.get(0);
+    }
+
+    public boolean isMateScore() {
+        return Math.abs(score) > AlphaBeta.MATE_SCORE - SearchLimits.MAX_DEPTH * 2;
+    }
+
+    public int getMateInMoves() {
+        final int pliesToMate = AlphaBeta.MATE_SCORE - Math.abs(score);
+        final int movesToMate = (pliesToMate + 1) / 2;
+        return score > 0 ? movesToMate : -movesToMate;
+    }
+}
@@ -0,0 +1,68 @@
+package chess.engine.player.ai;
+
+public final class SearchLimits {
+    public static final int MAX_DEPTH = 64;
+    private static final long NO_TIME_LIMIT = -1;
+    private static final long NO_NODE_LIMIT = -1;
+
+    private final int depth;
+    private final long timeLimitMillis;
+    private final long nodeLimit;
+
+    private SearchLimits(final int depth, final long timeLimitMillis, final long nodeLimit) {
+        this.depth = Math.max(1, Math.min(depth, MAX_DEPTH));
+        this.timeLimitMillis = timeLimitMillis;
+        this.nodeLimit = nodeLimit;
+    }
+
+    public static SearchLimits depth(final int depth) {
+        return new SearchLimits(depth, NO_TIME_LIMIT, NO_NODE_LIMIT);
+    }
+
+    public static SearchLimits moveTime(final long timeLimitMillis) {
+        return new SearchLimits(MAX_DEPTH, timeLimitMillis, NO_NODE_LIMIT);
+    }
+
+    public static SearchLimits nodes(final long nodeLimit) {
+        return new SearchLimits(MAX_DEPTH, NO_TIME_LIMIT, nodeLimit);
+    }
+
+    public static SearchLimits infinite() {
+        return new SearchLimits(MAX_DEPTH, NO_TIME_LIMIT, NO_NODE_LIMIT);
+    }
+
+    public static SearchLimits of(final int depth, final long timeLimitMillis) {
+        return new SearchLimits(depth, timeLimitMillis, NO_NODE_LIMIT);
+    }
+
+    public static SearchLimits of(final int depth, final long timeLimitMillis, final long nodeLimit) {
+        return new SearchLimits(depth, timeLimitMillis, nodeLimit);
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getTimeLimitMillis() {
+        return timeLimitMillis;
+    }
+
+    public boolean hasTimeLimit() {
+        return timeLimitMillis >= 0;
+    }
+
+    public long getNodeLimit() {
+        return nodeLimit;
+    }
+
+    public boolean hasNodeLimit() {
+        return nodeLimit >= 0;
+    }
+
+    @Override
+    public String toString() {
+        return "depth " + depth
+                + (hasTimeLimit() ? " movetime " + timeLimitMillis : "")
+                + (hasNodeLimit() ? " nodes " + nodeLimit : "");
+    }
+}
@@ -0,0 +1,5 @@
+package chess.engine.player.ai;
+
+public interface SearchListener {
+    void onSearchProgress(SearchInfo searchInfo);
+}
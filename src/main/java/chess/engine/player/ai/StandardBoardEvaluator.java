@@ -0,0 +1,37 @@
+package chess.engine.player.ai;
+
+import chess.engine.board.Board;
+import chess.engine.pieces.Piece;
+import chess.engine.player.Player;
+
+public final class StandardBoardEvaluator implements BoardEvaluator {
+    private static final int CHECK_BONUS = 20;
+    private static final int MOBILITY_MULTIPLIER = 2;
+
+    @Override
+    public int evaluate(final Board board, final int depth) {
+        return scorePlayer(board.getWhitePlayer()) - scorePlayer(board.getBlackPlayer());
+    }
+
+    private static int scorePlayer(final Player player) {
+        return pieceValue(player) + mobility(player) + check(player);
+    }
+
+    private static int pieceValue(final Player player) {
+        int pieceValueScore = 0;
+        for (final Piece piece : player.getActivePieces()) {
+            if (!piece.getPieceType().isKing()) {
+                pieceValueScore += piece.getPieceValue();
+            }
+        }
+        return pieceValueScore;
+    }
+
+    private static int mobility(final Player player) {
+        return MOBILITY_MULTIPLIER * player.getLegalMoves().size();
+    }
+
+    private static int check(final Player player) {
+        return player.getOpponent().isInCheck() ? CHECK_BONUS : 0;
+    }
+}
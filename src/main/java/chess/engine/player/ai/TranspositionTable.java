@@ -0,0 +1,88 @@
+package chess.engine.player.ai;
+
+import chess.engine.metrics.EngineMetrics;
+
+import java.util.Arrays;
+
+public final class TranspositionTable {
+    public static final int EXACT = 0;
+    public static final int LOWER_BOUND = 1;
+    public static final int UPPER_BOUND = 2;
+    public static final int NO_MOVE = -1;
+    public static final long MISS = 0L;
+
+    public static final int DEFAULT_SIZE_MB = 16;
+    private static final int ENTRY_BYTES = 16;
+
+    private static final int MOVE_BITS = 13;
+    private static final int DEPTH_SHIFT = 13;
+    private static final int FLAG_SHIFT = 21;
+    private static final long OCCUPIED = 1L << 23;
+    private static final int SCORE_SHIFT = 32;
+
+    private final long[] keys;
+    private final long[] data;
+    private final int mask;
+
+    public TranspositionTable(final int sizeInMegabytes) {
+        final long requestedEntries = Math.max(1L, (long) sizeInMegabytes * 1024 * 1024 / ENTRY_BYTES);
+        final int entries = Integer.highestOneBit((int) Math.min(requestedEntries, 1 << 30));
+        keys = new long[entries];
+        data = new long[entries];
+        mask = entries - 1;
+    }
+
+    public long probe(final long key) {
+        final int index = (int) key & mask;
+        final long entry = data[index];
+        final boolean hit = (keys[index] ^ entry) == key;
+        if (EngineMetrics.ENABLED) {
+            EngineMetrics.transpositionProbe(hit);
+        }
+        return hit ? entry : MISS;
+    }
+
+    public void store(final long key,
+                      final int packedMove,
+                      final int depth,
+                      final int flag,
+                      final int score) {
+        final int index = (int) key & mask;
+        final long existing = data[index];
+        if ((keys[index] ^ existing) == key && depthOf(existing) > depth && flag != EXACT) {
+            return;
+        }
+        final long entry = ((long) score << SCORE_SHIFT)
+                | OCCUPIED
+                | ((long) (flag & 0x3) << FLAG_SHIFT)
+                | ((long) (depth & 0xFF) << DEPTH_SHIFT)
+                | ((packedMove + 1) & ((1 << MOVE_BITS) - 1));
+        data[index] = entry;
+        keys[index] = key ^ entry;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        Arrays.fill(data, 0L);
+    }
+
+    public int capacity() {
+        return keys.length;
+    }
+
+    public static int moveOf(final long entry) {
+        return (int) (entry & ((1 << MOVE_BITS) - 1)) - 1;
+    }
+
+    public static int depthOf(final long entry) {
+        return (int) (entry >>> DEPTH_SHIFT) & 0xFF;
+    }
+
+    public static int flagOf(final long entry) {
+        return (int) (entry >>> FLAG_SHIFT) & 0x3;
+    }
+
+    public static int scoreOf(final long entry) {
+        return (int) (entry >> SCORE_SHIFT);
+    }
+}
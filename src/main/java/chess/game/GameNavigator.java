@@ -0,0 +1,233 @@
+package chess.game;
+
+import chess.engine.board.Board;
+import chess.engine.board.Move;
+import chess.engine.player.MoveStatus;
+import chess.engine.player.MoveTransition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+public class GameNavigator {
+    private Line mainLine;
+    private Board startBoard;
+    private int ply;
+
+    public GameNavigator(final Board startBoard) {
+        reset(startBoard);
+    }
+
+    public void reset(final Board board) {
+        startBoard = board;
+        mainLine = new Line();
+        ply = 0;
+    }
+
+    public Board getStartBoard() {
+        return startBoard;
+    }
+
+    public Board getCurrentBoard() {
+        return getBoardAt(ply);
+    }
+
+    public Board getBoardAt(final int targetPly) {
+        checkPly(targetPly);
+        return targetPly == 0 ? startBoard : mainLine.boards.get(targetPly - 1);
+    }
+
+    public Move getMove(final int index) {
+        return mainLine.moves.get(index);
+    }
+
+    public List<Move> getMoves() {
+        return Collections.unmodifiableList(mainLine.moves);
+    }
+
+    public List<Move> getPlayedMoves() {
+        return Collections.unmodifiableList(mainLine.moves.subList(0, ply));
+    }
+
+    public int getPly() {
+        return ply;
+    }
+
+    public int getLastPly() {
+        return mainLine.moves.size();
+    }
+
+    public void goToPly(final int targetPly) {
+        checkPly(targetPly);
+        ply = targetPly;
+    }
+
+    public boolean canUndo() {
+        return ply > 0;
+    }
+
+    public boolean canRedo() {
+        return ply < getLastPly();
+    }
+
+    public boolean undo() {
+        if (!canUndo()) {
+            return false;
+        }
+        ply--;
+        return true;
+    }
+
+    public boolean redo() {
+        if (!canRedo()) {
+            return false;
+        }
+        ply++;
+        return true;
+    }
+
+    public MoveTransition play(final Move move) {
+        final Board board = getCurrentBoard();
+        if (ply < getLastPly() && sameMove(mainLine.moves.get(ply), move)) {
+            ply++;
+            return new MoveTransition(getCurrentBoard(), mainLine.moves.get(ply - 1), MoveStatus.DONE);
+        }
+        final List<Line> variations = mainLine.variations.get(ply);
+        if (variations != null) {
+            for (int i = 0; i < variations.size(); i++) {
+                if (sameMove(variations.get(i).moves.get(0), move)) {
+                    switchToVariation(ply, i);
+                    ply++;
+                    return new MoveTransition(getCurrentBoard(), mainLine.moves.get(ply - 1), MoveStatus.DONE);
+                }
+            }
+        }
+        final MoveTransition transition = board.currentPlayer().makeMove(move);
+        if (!transition.getMoveStatus().isDone()) {
+            return transition;
+        }
+        if (ply < getLastPly()) {
+            addVariation(ply, split(ply));
+        }
+        mainLine.moves.add(move);
+        mainLine.boards.add(transition.getTransitionBoard());
+        ply++;
+        return transition;
+    }
+
+    public List<List<Move>> getVariations(final int branchPly) {
+        final List<Line> variations = mainLine.variations.get(branchPly);
+        if (variations == null) {
+            return Collections.emptyList();
+        }
+        final List<List<Move>> lines = new ArrayList<>(variations.size());
+        for (final Line variation : variations) {
+            lines.add(Collections.unmodifiableList(variation.moves));
+        }
+        return lines;
+    }
+
+    public void switchToVariation(final int branchPly, final int index) {
+        final List<Line> variations = mainLine.variations.get(branchPly);
+        if (variations == null || index < 0 || index >= variations.size()) {
+            throw new IllegalArgumentException("No variation " + index + " at ply " + branchPly);
+        }
+        final Line variation = variations.remove(index);
+        if (variations.isEmpty()) {
+            mainLine.variations.remove(branchPly);
+        }
+        if (branchPly < getLastPly()) {
+            addVariation(branchPly, split(branchPly));
+        }
+        join(variation);
+        ply = Math.min(ply, branchPly);
+    }
+
+    public void truncate() {
+        if (ply < getLastPly()) {
+            split(ply);
+        }
+    }
+
+    public GameTree toGameTree() {
+        final GameTree tree = new GameTree(startBoard);
+        addToTree(tree, tree.getRoot(), mainLine, 0);
+        return tree;
+    }
+
+    private static void addToTree(final GameTree tree,
+                                  final GameTree.Node start,
+                                  final Line line,
+                                  final int firstPly) {
+        final List<GameTree.Node> nodes = new ArrayList<>(line.moves.size() + 1);
+        nodes.add(start);
+        GameTree.Node node = start;
+        for (final Move move : line.moves) {
+            node = tree.addMove(node, move);
+            nodes.add(node);
+        }
+        for (final Map.Entry<Integer, List<Line>> entry : line.variations.entrySet()) {
+            final GameTree.Node branch = nodes.get(entry.getKey() - firstPly);
+            for (final Line variation : entry.getValue()) {
+                addToTree(tree, branch, variation, entry.getKey());
+            }
+        }
+    }
+
+    private void addVariation(final int branchPly, final Line variation) {
+        List<Line> variations = mainLine.variations.get(branchPly);
+        if (variations == null) {
+            variations = new ArrayList<>();
+            mainLine.variations.put(branchPly, variations);
+        }
+        variations.add(variation);
+    }
+
+    private Line split(final int branchPly) {
+        final Line tail = new Line();
+        final List<Move> movesTail = mainLine.moves.subList(branchPly, mainLine.moves.size());
+        final List<Board> boardsTail = mainLine.boards.subList(branchPly, mainLine.boards.size());
+        tail.moves.addAll(movesTail);
+        tail.boards.addAll(boardsTail);
+        movesTail.clear();
+        boardsTail.clear();
+        final NavigableMap<Integer, List<Line>> nested = mainLine.variations.tailMap(branchPly, false);
+        tail.variations.putAll(nested);
+        nested.clear();
+        return tail;
+    }
+
+    private void join(final Line tail) {
+        mainLine.moves.addAll(tail.moves);
+        mainLine.boards.addAll(tail.boards);
+        for (final Map.Entry<Integer, List<Line>> entry : tail.variations.entrySet()) {
+            mainLine.variations.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void checkPly(final int targetPly) {
+        if (targetPly < 0 || targetPly > getLastPly()) {
+            throw new IndexOutOfBoundsException("Ply " + targetPly + " outside 0.." + getLastPly());
+        }
+    }
+
+    private static boolean sameMove(final Move move, final Move other) {
+        return move.getCurrentCoordinate() == other.getCurrentCoordinate()
+                && move.getDestinationCoordinate() == other.getDestinationCoordinate();
+    }
+
+    private static final class Line {
+        private final List<Move> moves;
+        private final List<Board> boards;
+        private final TreeMap<Integer, List<Line>> variations;
+
+        Line() {
+            this.moves = new ArrayList<>();
+            this.boards = new ArrayList<>();
+            this.variations = new TreeMap<>();
+        }
+    }
+}
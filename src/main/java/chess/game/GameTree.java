@@ -0,0 +1,259 @@
+package chess.game;
+
+import chess.engine.board.Board;
+import chess.engine.board.Move;
+import chess.engine.player.MoveTransition;
+import chess.engine.player.ai.SearchInfo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class GameTree {
+    private final Node root;
+    private final Map<Long, Node> nodes;
+    private final List<Node> insertionOrder;
+
+    public GameTree(final Board rootBoard) {
+        this.nodes = new HashMap<>();
+        this.insertionOrder = new ArrayList<>();
+        this.root = createNode(rootBoard, null);
+    }
+
+    public Node getRoot() {
+        return root;
+    }
+
+    public int size() {
+        return insertionOrder.size();
+    }
+
+    public Collection<Node> getNodes() {
+        return Collections.unmodifiableList(insertionOrder);
+    }
+
+    public Node find(final Board board) {
+        return nodes.get(board.getZobristHash());
+    }
+
+    public Node addMove(final Node parent, final Move move) {
+        final Edge existing = parent.getEdge(move);
+        if (existing != null) {
+            return existing.child;
+        }
+        final Board from = move.getBoard() != null && move.getBoard().getZobristHash() == parent.getKey()
+                ? move.getBoard()
+                : parent.board;
+        final Move boardMove = move.getBoard() == from
+                ? move
+                : from.currentPlayer().findLegalMove(move.getCurrentCoordinate(), move.getDestinationCoordinate());
+        final MoveTransition transition = from.currentPlayer().makeMove(boardMove);
+        if (!transition.getMoveStatus().isDone()) {
+            throw new IllegalArgumentException("Illegal move " + move + " in " + parent.board);
+        }
+        final Board childBoard = transition.getTransitionBoard();
+        Node child = nodes.get(childBoard.getZobristHash());
+        if (child == null) {
+            child = createNode(childBoard, parent);
+        } else if (isAncestor(child, parent)) {
+            child = new Node(childBoard);
+            child.parents.add(parent);
+            insertionOrder.add(child);
+        } else {
+            child.parents.add(parent);
+        }
+        parent.edges.add(new Edge(boardMove, childBoard, child));
+        return child;
+    }
+
+    public Node addLine(final Node start, final List<Move> moves) {
+        Node node = start;
+        for (final Move move : moves) {
+            node = addMove(node, move);
+        }
+        return node;
+    }
+
+    public List<Move> getLine(final Node node) {
+        final List<Move> line = new ArrayList<>();
+        if (node != root) {
+            findLine(root, node, line, new IdentityHashMap<Node, Boolean>());
+        }
+        return line;
+    }
+
+    public void traverse(final Visitor visitor) {
+        final Map<Node, Boolean> visited = new IdentityHashMap<>();
+        final List<Node> stack = new ArrayList<>();
+        stack.add(root);
+        while (!stack.isEmpty()) {
+            final Node node = stack.remove(stack.size() - 1);
+            if (visited.put(node, Boolean.TRUE) != null) {
+                continue;
+            }
+            visitor.visit(node);
+            for (int i = node.edges.size() - 1; i >= 0; i--) {
+                stack.add(node.edges.get(i).child);
+            }
+        }
+    }
+
+    private static boolean findLine(final Node from,
+                                    final Node target,
+                                    final List<Move> line,
+                                    final Map<Node, Boolean> explored) {
+        if (explored.put(from, Boolean.TRUE) != null) {
+            return false;
+        }
+        for (final Edge edge : from.edges) {
+            line.add(edge.move);
+            if (edge.child == target || findLine(edge.child, target, line, explored)) {
+                return true;
+            }
+            line.remove(line.size() - 1);
+        }
+        return false;
+    }
+
+    private static boolean isAncestor(final Node candidate, final Node node) {
+        final Map<Node, Boolean> visited = new IdentityHashMap<>();
+        final List<Node> stack = new ArrayList<>();
+        stack.add(node);
+        while (!stack.isEmpty()) {
+            final Node current = stack.remove(stack.size() - 1);
+            if (current == candidate) {
+                return true;
+            }
+            if (visited.put(current, Boolean.TRUE) == null) {
+                stack.addAll(current.parents);
+            }
+        }
+        return false;
+    }
+
+    private Node createNode(final Board board, final Node parent) {
+        final Node node = new Node(board);
+        if (parent != null) {
+            node.parents.add(parent);
+        }
+        nodes.put(board.getZobristHash(), node);
+        insertionOrder.add(node);
+        return node;
+    }
+
+    public interface Visitor {
+        void visit(Node node);
+    }
+
+    public static final class Node {
+        private final Board board;
+        private final List<Edge> edges;
+        private final List<Node> parents;
+        private SearchInfo evaluation;
+        private String comment;
+
+        private Node(final Board board) {
+            this.board = board;
+            this.edges = new ArrayList<>(2);
+            this.parents = new ArrayList<>(1);
+        }
+
+        public Board getBoard() {
+            return board;
+        }
+
+        public long getKey() {
+            return board.getZobristHash();
+        }
+
+        public List<Edge> getEdges() {
+            return Collections.unmodifiableList(edges);
+        }
+
+        public List<Node> getParents() {
+            return Collections.unmodifiableList(parents);
+        }
+
+        public boolean isTransposition() {
+            return parents.size() > 1;
+        }
+
+        public boolean isLeaf() {
+            return edges.isEmpty();
+        }
+
+        public Node getMainChild() {
+            return edges.isEmpty() ? null : edges.get(0).child;
+        }
+
+        public Node getChild(final Move move) {
+            final Edge edge = getEdge(move);
+            return edge != null ? edge.child : null;
+        }
+
+        public void promote(final Move move) {
+            final Edge edge = getEdge(move);
+            if (edge != null) {
+                edges.remove(edge);
+                edges.add(0, edge);
+            }
+        }
+
+        public SearchInfo getEvaluation() {
+            return evaluation;
+        }
+
+        public void setEvaluation(final SearchInfo evaluation) {
+            if (this.evaluation == null || evaluation.getDepth() >= this.evaluation.getDepth()) {
+                this.evaluation = evaluation;
+            }
+        }
+
+        public String getComment() {
+            return comment;
+        }
+
+        public void setComment(final String comment) {
+            this.comment = comment;
+        }
+
+        private Edge getEdge(final Move move) {
+            for (final Edge edge : edges) {
+                if (edge.move.getCurrentCoordinate() == move.getCurrentCoordinate()
+                        && edge.move.getDestinationCoordinate() == move.getDestinationCoordinate()) {
+                    return edge;
+                }
+            }
+            return null;
+        }
+
+    }
+
+    public static final class Edge {
+        private final Move move;
+        private final Board board;
+        private final Node child;
+
+        private Edge(final Move move, final Board board, final Node child) {
+            this.move = move;
+            this.board = board;
+            this.child = child;
+        }
+
+        public Move getMove() {
+            return move;
+        }
+
+        public Board getBoard() {
+            return board;
+        }
+
+        public Node getChild() {
+            return child;
+        }
+    }
+}
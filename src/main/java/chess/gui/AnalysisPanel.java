@@ -0,0 +1,204 @@
+package chess.gui;
+
+import chess.engine.Alliance;
+import chess.engine.board.Board;
+import chess.engine.board.Move;
+import chess.engine.player.MoveTransition;
+import chess.engine.player.ai.AlphaBeta;
+import chess.engine.player.ai.SearchInfo;
+import chess.engine.player.ai.SearchLimits;
+import chess.engine.player.ai.SearchListener;
+import chess.engine.player.ai.StandardBoardEvaluator;
+import chess.engine.player.ai.TranspositionTable;
+import chess.uci.UciEngine;
+
+import javax.swing.*;
+import javax.swing.Timer;
+import javax.swing.border.EtchedBorder;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.List;
+
+public class AnalysisPanel extends JPanel {
+    private static final EtchedBorder PANEL_BORDER = new EtchedBorder(EtchedBorder.RAISED);
+    private static final int REFRESH_MILLIS = 100;
+    private static final int MAX_PV_MOVES = 8;
+
+    private final TranspositionTable transpositionTable;
+    private final int lineCount;
+    private final JLabel statusLabel;
+    private final JLabel[] lineLabels;
+    private final Timer refreshTimer;
+    private final Object lock;
+
+    private Board requestedBoard;
+    private Board finishedBoard;
+    private AlphaBeta runningSearch;
+    private SearchInfo[] lines;
+    private boolean dirty;
+    private Thread analysisThread;
+
+    public AnalysisPanel(final TranspositionTable transpositionTable, final int lineCount) {
+        super(new GridLayout(lineCount + 1, 1));
+        setBorder(PANEL_BORDER);
+        this.transpositionTable = transpositionTable;
+        this.lineCount = lineCount;
+        this.statusLabel = new JLabel(" ");
+        this.lineLabels = new JLabel[lineCount];
+        add(statusLabel);
+        for (int i = 0; i < lineCount; i++) {
+            lineLabels[i] = new JLabel(" ");
+            add(lineLabels[i]);
+        }
+        this.lock = new Object();
+        this.lines = new SearchInfo[lineCount];
+        this.refreshTimer = new Timer(REFRESH_MILLIS, new ActionListener() {
+            @Override
+            public void actionPerformed(final ActionEvent actionEvent) {
+                refresh();
+            }
+        });
+    }
+
+    void analyze(final Board board) {
+        synchronized (lock) {
+            if (board == requestedBoard) {
+                return;
+            }
+            lines = predictedLines(board);
+            requestedBoard = board;
+            dirty = true;
+            if (runningSearch != null) {
+                runningSearch.stop();
+            }
+            lock.notifyAll();
+        }
+        if (analysisThread == null) {
+            analysisThread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    analyzeLoop();
+                }
+            }, "gui-analysis");
+            analysisThread.setDaemon(true);
+            analysisThread.start();
+        }
+        refreshTimer.start();
+    }
+
+    void stop() {
+        synchronized (lock) {
+            requestedBoard = null;
+            finishedBoard = null;
+            lines = new SearchInfo[lineCount];
+            if (runningSearch != null) {
+                runningSearch.stop();
+            }
+        }
+        refreshTimer.stop();
+        statusLabel.setText(" ");
+        for (final JLabel lineLabel : lineLabels) {
+            lineLabel.setText(" ");
+        }
+    }
+
+    private SearchInfo[] predictedLines(final Board board) {
+        final SearchInfo[] predicted = new SearchInfo[lineCount];
+        final SearchInfo previous = lines[0];
+        if (requestedBoard == null || previous == null || previous.getPrincipalVariation().size() < 2) {
+            return predicted;
+        }
+        final List<Move> principalVariation = previous.getPrincipalVariation();
+        final MoveTransition transition = requestedBoard.currentPlayer().makeMove(principalVariation.get(0));
+        if (transition.getMoveStatus().isDone()
+                && transition.getTransitionBoard().getZobristHash() == board.getZobristHash()) {
+            predicted[0] = new SearchInfo(previous.getDepth() - 1, -previous.getScore(), previous.getNodes(),
+                    previous.getTimeMillis(), principalVariation.subList(1, principalVariation.size()));
+        }
+        return predicted;
+    }
+
+    private void analyzeLoop() {
+        while (true) {
+            final Board board;
+            final AlphaBeta search;
+            synchronized (lock) {
+                while (requestedBoard == null || requestedBoard == finishedBoard) {
+                    try {
+                        lock.wait();
+                    } catch (final InterruptedException e) {
+                        return;
+                    }
+                }
+                board = requestedBoard;
+                search = new AlphaBeta(new StandardBoardEvaluator(), transpositionTable, 1, SearchLimits.MAX_DEPTH);
+                search.setMultiPv(lineCount);
+                search.setSearchListener(new SearchListener() {
+                    @Override
+                    public void onSearchProgress(final SearchInfo searchInfo) {
+                        record(board, searchInfo);
+                    }
+                });
+                runningSearch = search;
+            }
+            search.search(board, SearchLimits.infinite());
+            synchronized (lock) {
+                runningSearch = null;
+                if (board == requestedBoard) {
+                    finishedBoard = board;
+                }
+            }
+        }
+    }
+
+    private void record(final Board board, final SearchInfo searchInfo) {
+        synchronized (lock) {
+            final int index = searchInfo.getMultiPv() - 1;
+            if (board != requestedBoard || index >= lineCount) {
+                return;
+            }
+            if (lines[index] == null || searchInfo.getDepth() >= lines[index].getDepth()) {
+                lines[index] = searchInfo;
+                dirty = true;
+            }
+        }
+    }
+
+    private void refresh() {
+        final Board board;
+        final SearchInfo[] snapshot;
+        synchronized (lock) {
+            if (!dirty || requestedBoard == null) {
+                return;
+            }
+            board = requestedBoard;
+            snapshot = lines.clone();
+            dirty = false;
+        }
+        final Alliance sideToMove = board.currentPlayer().getAlliance();
+        statusLabel.setText(snapshot[0] == null
+                ? "Analyzing..."
+                : "depth " + snapshot[0].getDepth()
+                        + "  nodes " + snapshot[0].getNodes()
+                        + "  nps " + snapshot[0].getNodesPerSecond());
+        for (int i = 0; i < lineCount; i++) {
+            lineLabels[i].setText(snapshot[i] == null ? " " : formatLine(i + 1, snapshot[i], sideToMove));
+        }
+    }
+
+    private static String formatLine(final int number, final SearchInfo searchInfo, final Alliance sideToMove) {
+        final StringBuilder sb = new StringBuilder().append(number).append(". ")
+                .append(EngineProgressPanel.formatScore(searchInfo, sideToMove))
+                .append("  d").append(searchInfo.getDepth()).append(' ');
+        int count = 0;
+        for (final Move move : searchInfo.getPrincipalVariation()) {
+            if (count++ == MAX_PV_MOVES) {
+                sb.append(" ...");
+                break;
+            }
+            sb.append(' ').append(UciEngine.toUci(move));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,61 @@
+package chess.gui;
+
+import chess.engine.Alliance;
+import chess.engine.board.Move;
+import chess.engine.player.ai.SearchInfo;
+import chess.uci.UciEngine;
+
+import javax.swing.*;
+import javax.swing.border.EtchedBorder;
+import java.awt.*;
+
+public class EngineProgressPanel extends JPanel {
+    private static final EtchedBorder PANEL_BORDER = new EtchedBorder(EtchedBorder.RAISED);
+    private static final int MAX_PV_MOVES = 8;
+
+    private final JLabel statusLabel;
+    private final JLabel searchLabel;
+
+    public EngineProgressPanel() {
+        super(new GridLayout(2, 1));
+        setBorder(PANEL_BORDER);
+        statusLabel = new JLabel(" ");
+        searchLabel = new JLabel(" ");
+        add(statusLabel);
+        add(searchLabel);
+    }
+
+    void setStatus(final String status) {
+        statusLabel.setText(status);
+    }
+
+    void clear() {
+        statusLabel.setText(" ");
+        searchLabel.setText(" ");
+    }
+
+    void update(final SearchInfo searchInfo, final Alliance sideToMove) {
+        final StringBuilder sb = new StringBuilder("depth ").append(searchInfo.getDepth())
+          .append("  ").append(formatScore(searchInfo, sideToMove))
+          .append("  nodes ").append(searchInfo.getNodes())
+          .append("  nps ").append(searchInfo.getNodesPerSecond())
+          .append("  pv");
+        int count = 0;
+        for (final Move move : searchInfo.getPrincipalVariation()) {
+            if (count++ == MAX_PV_MOVES) {
+                sb.append(" ...");
+                break;
+            }
+            sb.append(' ').append(UciEngine.toUci(move));
+        }
+        searchLabel.setText(sb.toString());
+    }
+
+    static String formatScore(final SearchInfo searchInfo, final Alliance sideToMove) {
+        final int sign = sideToMove.isWhite() ? 1 : -1;
+        if (searchInfo.isMateScore()) {
+            return "mate " + sign * searchInfo.getMateInMoves();
+        }
+        return String.format("%+.2f", sign * searchInfo.getScore() / 100.0);
+    }
+}
@@ -13,11 +13,15 @@ import java.util.List;
 public class GameHistoryPanel extends JPanel {
     private final DataModel model;
     private final JScrollPane scrollPane;
+    private final List<Move> displayedMoves;
+    private final List<Integer> displayedCells;
     private static final Dimension HISTORY_PANEL_DIMENSION = new Dimension(100,400);
 
     public GameHistoryPanel() {
         setLayout(new BorderLayout());
         model = new DataModel();
+        displayedMoves = new ArrayList<>();
+        displayedCells = new ArrayList<>();
         final JTable table = new JTable(model);
         table.setRowHeight(15);
         scrollPane = new JScrollPane(table);
@@ -27,32 +31,75 @@ public class GameHistoryPanel extends JPanel {
     }
 
     void redo(final Board board, final MoveLog moveHistory) {
-        int currentRow = 0;
-        model.clear();
-        for(final Move move : moveHistory.getMoves()) {
-            final String moveText = move.toString();
-            if(move.getMovedPiece().getPieceAlliance().isWhite()) {
-                model.setValueAt(moveText, currentRow, 0);
-            } else if(move.getMovedPiece().getPieceAlliance().isBlack()) {
-                model.setValueAt(moveText, currentRow, 1);
-                currentRow++;
+        final List<Move> moves = moveHistory.getMoves();
+        final int shown = displayedMoves.size();
+        final int common = Math.min(shown, moves.size());
+        if (common > 0 && moves.get(common - 1) != displayedMoves.get(common - 1)) {
+            rebuild(board, moves);
+        } else if (moves.size() > shown) {
+            for (int i = shown; i < moves.size(); i++) {
+                append(moves.get(i), i == moves.size() - 1 ? calculateCheckAndCheckMAteHash(board) : "");
             }
+        } else if (moves.size() < shown) {
+            truncate(board, moves.size());
+        } else {
+            return;
         }
+        final JScrollBar vertical = scrollPane.getVerticalScrollBar();
+        vertical.setValue(vertical.getMaximum());
+    }
 
-        if(moveHistory.size() > 0) {
-            final Move lastMove = moveHistory.getMoves().get(moveHistory.size() - 1);
-            final String moveText = lastMove.toString();
+    private void append(final Move move, final String suffix) {
+        if (!displayedMoves.isEmpty()) {
+            setCell(displayedMoves.size() - 1, "");
+        }
+        advance(move);
+        setCell(displayedMoves.size() - 1, suffix);
+    }
 
-            if(lastMove.getMovedPiece().getPieceAlliance().isWhite()) {
-                model.setValueAt(moveText + calculateCheckAndCheckMAteHash(board), currentRow, 0);
-            } else if(lastMove.getMovedPiece().getPieceAlliance().isBlack()) {
-                model.setValueAt(moveText + calculateCheckAndCheckMAteHash(board), currentRow - 1, 1);
-            }
+    private void truncate(final Board board, final int size) {
+        for (int i = displayedMoves.size() - 1; i >= size; i--) {
+            final int cell = displayedCells.remove(i);
+            displayedMoves.remove(i);
+            model.clearValue(cell / 2, cell % 2);
         }
+        if (size > 0) {
+            setCell(size - 1, calculateCheckAndCheckMAteHash(board));
+        }
+    }
 
-        final JScrollBar vertical = scrollPane.getVerticalScrollBar();
-        vertical.setValue(vertical.getMaximum());
+    private void rebuild(final Board board, final List<Move> moves) {
+        model.clear();
+        displayedMoves.clear();
+        displayedCells.clear();
+        for (int i = 0; i < moves.size(); i++) {
+            final Move move = moves.get(i);
+            final int cell = advance(move);
+            model.putValue(i == moves.size() - 1
+                    ? move.toString() + calculateCheckAndCheckMAteHash(board)
+                    : move.toString(), cell / 2, cell % 2);
+        }
+        model.fireTableDataChanged();
+    }
+
+    private int advance(final Move move) {
+        final int column = move.getMovedPiece().getPieceAlliance().isWhite() ? 0 : 1;
+        final int row;
+        if (displayedCells.isEmpty()) {
+            row = 0;
+        } else {
+            final int lastCell = displayedCells.get(displayedCells.size() - 1);
+            row = column > lastCell % 2 ? lastCell / 2 : lastCell / 2 + 1;
+        }
+        final int cell = row * 2 + column;
+        displayedMoves.add(move);
+        displayedCells.add(cell);
+        return cell;
+    }
 
+    private void setCell(final int index, final String suffix) {
+        final int cell = displayedCells.get(index);
+        model.setValueAt(displayedMoves.get(index).toString() + suffix, cell / 2, cell % 2);
     }
 
     private String calculateCheckAndCheckMAteHash(Board board) {
@@ -65,7 +112,7 @@ public class GameHistoryPanel extends JPanel {
     }
 
     private static class DataModel extends DefaultTableModel {
-        private static List<Row> values;
+        private final List<Row> values;
         private static final String[] NAMES = {"White", "Black"};
 
         DataModel() {
@@ -77,6 +124,32 @@ public class GameHistoryPanel extends JPanel {
             setRowCount(0);
         }
 
+        void clearValue(final int row, final int column) {
+            final Row currentRow = values.get(row);
+            if (column == 0) {
+                currentRow.setWhiteMove(null);
+            } else {
+                currentRow.setBlackMove(null);
+            }
+            if (row == values.size() - 1 && currentRow.getWhiteMove() == null && currentRow.getBlackMove() == null) {
+                values.remove(row);
+                fireTableRowsDeleted(row, row);
+            } else {
+                fireTableCellUpdated(row, column);
+            }
+        }
+
+        void putValue(final String moveText, final int row, final int column) {
+            while (values.size() <= row) {
+                values.add(new Row());
+            }
+            if (column == 0) {
+                values.get(row).setWhiteMove(moveText);
+            } else {
+                values.get(row).setBlackMove(moveText);
+            }
+        }
+
         @Override
         public int getRowCount() {
             if(values == null) {
@@ -104,7 +177,8 @@ public class GameHistoryPanel extends JPanel {
         @Override
         public void setValueAt(final Object aValue, final int row, final int column) {
             final Row currentRow;
-            if(values.size() <= row) {
+            final boolean inserted = values.size() <= row;
+            if(inserted) {
                 currentRow = new Row();
                 values.add(currentRow);
             } else {
@@ -112,9 +186,12 @@ public class GameHistoryPanel extends JPanel {
             }
             if(column == 0) {
                 currentRow.setWhiteMove((String)aValue);
-                fireTableRowsInserted(row, row);
             } else if(column == 1) {
                 currentRow.setBlackMove((String)aValue);
+            }
+            if (inserted) {
+                fireTableRowsInserted(row, row);
+            } else {
                 fireTableCellUpdated(row, column);
             }
         }
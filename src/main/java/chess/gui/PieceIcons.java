@@ -0,0 +1,71 @@
+package chess.gui;
+
+import chess.engine.Alliance;
+import chess.engine.pieces.Piece;
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+
+public final class PieceIcons {
+    private static final int TAKEN_PIECE_SHRINK = 15;
+    private static final Alliance[] ALLIANCES = Alliance.values();
+    private static final Piece.PieceType[] PIECE_TYPES = Piece.PieceType.values();
+
+    private static final ImageIcon[][] PIECE_ICONS = new ImageIcon[ALLIANCES.length][PIECE_TYPES.length];
+    private static final ImageIcon[][] TAKEN_PIECE_ICONS = new ImageIcon[ALLIANCES.length][PIECE_TYPES.length];
+    private static final ImageIcon HIGHLIGHT_ICON = loadIcon(Table.HighlightImageDirResourceName + "/green_dot.png");
+
+    static {
+        for (final Alliance alliance : ALLIANCES) {
+            for (final Piece.PieceType pieceType : PIECE_TYPES) {
+                final ImageIcon icon = loadIcon(Table.PieceImagesDirResourceName + "/"
+                        + alliance.toString().substring(0, 1) + pieceType.toString() + ".gif");
+                PIECE_ICONS[alliance.ordinal()][pieceType.ordinal()] = icon;
+                final int size = Math.max(1, icon.getIconWidth() - TAKEN_PIECE_SHRINK);
+                TAKEN_PIECE_ICONS[alliance.ordinal()][pieceType.ordinal()] = new ImageIcon(
+                        icon.getImage().getScaledInstance(size, size, Image.SCALE_SMOOTH));
+            }
+        }
+    }
+
+    private PieceIcons() {
+        throw new RuntimeException("Not instantiable!");
+    }
+
+    public static ImageIcon getPieceIcon(final Piece piece) {
+        return PIECE_ICONS[piece.getPieceAlliance().ordinal()][piece.getPieceType().ordinal()];
+    }
+
+    public static ImageIcon getTakenPieceIcon(final Piece piece) {
+        return getTakenPieceIcon(piece.getPieceAlliance(), piece.getPieceType());
+    }
+
+    public static ImageIcon getTakenPieceIcon(final Alliance alliance, final Piece.PieceType pieceType) {
+        return TAKEN_PIECE_ICONS[alliance.ordinal()][pieceType.ordinal()];
+    }
+
+    public static ImageIcon getHighlightIcon() {
+        return HIGHLIGHT_ICON;
+    }
+
+    private static ImageIcon loadIcon(final String resourceName) {
+        final URL resource = ClassLoader.getSystemResource(resourceName);
+        if (resource == null) {
+            throw new IllegalStateException("Missing image resource " + resourceName);
+        }
+        try {
+            final BufferedImage image = ImageIO.read(resource);
+            if (image == null) {
+                throw new IllegalStateException("Unreadable image resource " + resourceName);
+            }
+            return new ImageIcon(image);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Cannot load image resource " + resourceName, e);
+        }
+    }
+}
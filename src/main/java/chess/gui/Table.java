@@ -2,22 +2,36 @@ package chess.gui;
 
 import chess.engine.board.Board;
 import chess.engine.board.BoardUtils;
+import chess.engine.board.CapturedPieces;
 import chess.engine.board.Move;
 import chess.engine.board.Tile;
 import chess.engine.pieces.Piece;
 import chess.engine.player.MoveTransition;
+import chess.engine.player.ai.AlphaBeta;
+import chess.engine.player.ai.SearchInfo;
+import chess.engine.player.ai.SearchLimits;
+import chess.engine.player.ai.SearchListener;
+import chess.engine.player.ai.StandardBoardEvaluator;
+import chess.engine.player.ai.TranspositionTable;
+import chess.game.GameNavigator;
+import chess.pgn.PGNGame;
+import chess.pgn.PGNReader;
+import chess.pgn.PGNUtilities;
+import chess.pgn.PGNWriter;
+import chess.pgn.ParsePGNException;
 import com.google.common.collect.Lists;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
-import java.awt.image.BufferedImage;
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 
 import static javax.swing.SwingUtilities.isLeftMouseButton;
 import static javax.swing.SwingUtilities.isRightMouseButton;
@@ -28,7 +42,11 @@ public class Table {
     private final GameHistoryPanel gameHistoryPanel;
     private final TakenPiecesPanel takenPiecesPanel;
     private final BoardPanel boardPanel;
+    private final EngineProgressPanel engineProgressPanel;
+    private final AnalysisPanel analysisPanel;
     private final MoveLog moveLog;
+    private final GameNavigator gameNavigator;
+    private final TranspositionTable transpositionTable;
 
     private Board chessBoard;
 
@@ -36,6 +54,10 @@ public class Table {
     private Tile destinationTile;
     private Piece humanMovedPiece;
     private BoardDirection boardDirection;
+    private boolean computerPlaysWhite;
+    private boolean computerPlaysBlack;
+    private EngineWorker engineWorker;
+    private boolean analysisEnabled;
 
     private final static Dimension OUTER_FRAME_DIMENSION = new Dimension(500, 500);
     private final static Dimension BOARD_PANEL_DIMENSION = new Dimension(300, 250);
@@ -43,6 +65,8 @@ public class Table {
 
     private final static Color lightTileColor = Color.decode("#FFFACD");
     private final static Color darkTileColor = Color.decode("#593E1A");
+    private final static long ENGINE_MOVE_TIME_MILLIS = 2000;
+    private final static int ANALYSIS_LINES = 3;
     private boolean highlightLegalMoves = false;
     public static final String PieceImagesDirResourceName = "pieceIcon";
     public static final String HighlightImageDirResourceName = "misc";
@@ -62,11 +86,18 @@ public class Table {
         gameHistoryPanel = new GameHistoryPanel();
         takenPiecesPanel = new TakenPiecesPanel();
         boardPanel = new BoardPanel();
+        engineProgressPanel = new EngineProgressPanel();
         moveLog = new MoveLog();
+        gameNavigator = new GameNavigator(chessBoard);
+        transpositionTable = new TranspositionTable(TranspositionTable.DEFAULT_SIZE_MB);
+        analysisPanel = new AnalysisPanel(transpositionTable, ANALYSIS_LINES);
+        analysisPanel.setVisible(false);
         boardDirection = BoardDirection.NORMAL;
         gameFrame.add(takenPiecesPanel, BorderLayout.WEST);
         gameFrame.add(boardPanel, BorderLayout.CENTER);
         gameFrame.add(gameHistoryPanel, BorderLayout.EAST);
+        gameFrame.add(engineProgressPanel, BorderLayout.SOUTH);
+        gameFrame.add(analysisPanel, BorderLayout.NORTH);
         gameFrame.setVisible(true);
 
     }
@@ -74,6 +105,8 @@ public class Table {
     private JMenuBar createTableMenuBar() {
         final JMenuBar tableMenuBar = new JMenuBar();
         tableMenuBar.add(createFileMenu());
+        tableMenuBar.add(createGameMenu());
+        tableMenuBar.add(createNavigationMenu());
         tableMenuBar.add(createPreferencesMenu());
         return tableMenuBar;
     }
@@ -84,11 +117,26 @@ public class Table {
         openPGN.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent actionEvent) {
-                System.out.println("open up that .pgn file!");
+                final JFileChooser chooser = new JFileChooser();
+                if (chooser.showOpenDialog(gameFrame) == JFileChooser.APPROVE_OPTION) {
+                    loadPGNFile(chooser.getSelectedFile());
+                }
             }
         });
         fileMenu.add(openPGN);
 
+        final JMenuItem savePGN = new JMenuItem("Save game as PGN");
+        savePGN.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent actionEvent) {
+                final JFileChooser chooser = new JFileChooser();
+                if (chooser.showSaveDialog(gameFrame) == JFileChooser.APPROVE_OPTION) {
+                    savePGNFile(chooser.getSelectedFile());
+                }
+            }
+        });
+        fileMenu.add(savePGN);
+
         final JMenuItem exitMenuItem = new JMenuItem("Exit");
         exitMenuItem.addActionListener(new ActionListener() {
             @Override
@@ -100,6 +148,232 @@ public class Table {
         return fileMenu;
     }
 
+    private JMenu createGameMenu() {
+        final JMenu gameMenu = new JMenu("Game");
+        final JMenuItem newGame = new JMenuItem("New game");
+        newGame.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(final ActionEvent actionEvent) {
+                stopEngine();
+                gameNavigator.reset(Board.createStandardBoard());
+                showNavigatorPosition(false);
+            }
+        });
+        gameMenu.add(newGame);
+        gameMenu.addSeparator();
+
+        final JCheckBoxMenuItem computerWhite = new JCheckBoxMenuItem("Computer plays White", false);
+        computerWhite.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(final ActionEvent actionEvent) {
+                computerPlaysWhite = computerWhite.isSelected();
+                engineSettingsChanged();
+            }
+        });
+        gameMenu.add(computerWhite);
+
+        final JCheckBoxMenuItem computerBlack = new JCheckBoxMenuItem("Computer plays Black", false);
+        computerBlack.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(final ActionEvent actionEvent) {
+                computerPlaysBlack = computerBlack.isSelected();
+                engineSettingsChanged();
+            }
+        });
+        gameMenu.add(computerBlack);
+        gameMenu.addSeparator();
+
+        final JCheckBoxMenuItem analysis = new JCheckBoxMenuItem("Analyze position", false);
+        analysis.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(final ActionEvent actionEvent) {
+                analysisEnabled = analysis.isSelected();
+                if (analysisEnabled) {
+                    analysisPanel.analyze(chessBoard);
+                } else {
+                    analysisPanel.stop();
+                }
+                analysisPanel.setVisible(analysisEnabled);
+                gameFrame.validate();
+            }
+        });
+        gameMenu.add(analysis);
+        return gameMenu;
+    }
+
+    private JMenu createNavigationMenu() {
+        final JMenu navigationMenu = new JMenu("Navigate");
+        navigationMenu.add(createNavigationItem("Undo move", KeyEvent.VK_Z, new Runnable() {
+            @Override
+            public void run() {
+                gameNavigator.undo();
+            }
+        }));
+        navigationMenu.add(createNavigationItem("Redo move", KeyEvent.VK_Y, new Runnable() {
+            @Override
+            public void run() {
+                gameNavigator.redo();
+            }
+        }));
+        navigationMenu.add(createNavigationItem("Go to start", KeyEvent.VK_HOME, new Runnable() {
+            @Override
+            public void run() {
+                gameNavigator.goToPly(0);
+            }
+        }));
+        navigationMenu.add(createNavigationItem("Go to end", KeyEvent.VK_END, new Runnable() {
+            @Override
+            public void run() {
+                gameNavigator.goToPly(gameNavigator.getLastPly());
+            }
+        }));
+        navigationMenu.addSeparator();
+        navigationMenu.add(createNavigationItem("Switch variation...", KeyEvent.VK_V, new Runnable() {
+            @Override
+            public void run() {
+                chooseVariation();
+            }
+        }));
+        return navigationMenu;
+    }
+
+    // getMenuShortcutKeyMaskEx() only exists from Java 10; the build still targets 1.8.
+    @SuppressWarnings("deprecation")
+    private JMenuItem createNavigationItem(final String text, final int keyCode, final Runnable navigation) {
+        final JMenuItem menuItem = new JMenuItem(text);
+        menuItem.setAccelerator(KeyStroke.getKeyStroke(keyCode, Toolkit.getDefaultToolkit().getMenuShortcutKeyMask()));
+        menuItem.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(final ActionEvent actionEvent) {
+                stopEngine();
+                navigation.run();
+                showNavigatorPosition(false);
+            }
+        });
+        return menuItem;
+    }
+
+    private void chooseVariation() {
+        final int ply = gameNavigator.getPly();
+        final List<List<Move>> variations = gameNavigator.getVariations(ply);
+        if (variations.isEmpty()) {
+            JOptionPane.showMessageDialog(gameFrame, "No variations branch from this position");
+            return;
+        }
+        final Board board = gameNavigator.getCurrentBoard();
+        final String[] choices = new String[variations.size()];
+        for (int i = 0; i < choices.length; i++) {
+            choices[i] = PGNUtilities.toSAN(board, variations.get(i).get(0))
+                    + " (" + variations.get(i).size() + " plies)";
+        }
+        final Object choice = JOptionPane.showInputDialog(gameFrame, "Replace the main line with", "Variations",
+                JOptionPane.PLAIN_MESSAGE, null, choices, choices[0]);
+        for (int i = 0; i < choices.length; i++) {
+            if (choices[i].equals(choice)) {
+                gameNavigator.switchToVariation(ply, i);
+                gameNavigator.redo();
+                return;
+            }
+        }
+    }
+
+    private void showNavigatorPosition(final boolean announceGameOver) {
+        chessBoard = gameNavigator.getCurrentBoard();
+        final int ply = gameNavigator.getPly();
+        while (moveLog.size() > ply
+                || (moveLog.size() > 0 && moveLog.getMoves().get(moveLog.size() - 1)
+                        != gameNavigator.getMove(moveLog.size() - 1))) {
+            moveLog.removeMove(moveLog.size() - 1);
+        }
+        while (moveLog.size() < ply) {
+            moveLog.addMove(gameNavigator.getMove(moveLog.size()));
+        }
+        sourceTile = null;
+        destinationTile = null;
+        humanMovedPiece = null;
+        final boolean gameOver = chessBoard.isGameOver();
+        updatePanels(announceGameOver && gameOver);
+        startEngineIfComputerToMove(gameOver);
+    }
+
+    private void engineSettingsChanged() {
+        if (engineWorker != null && !isComputerToMove(chessBoard)) {
+            stopEngine();
+        }
+        if (engineWorker == null) {
+            startEngineIfComputerToMove(chessBoard.isGameOver());
+        }
+    }
+
+    private boolean isComputerToMove(final Board board) {
+        return board.currentPlayer().getAlliance().isWhite() ? computerPlaysWhite : computerPlaysBlack;
+    }
+
+    private void startEngineIfComputerToMove(final boolean gameOver) {
+        if (engineWorker == null && !gameOver && isComputerToMove(chessBoard)) {
+            engineWorker = new EngineWorker(chessBoard);
+            engineProgressPanel.setStatus("Thinking...");
+            engineWorker.execute();
+        }
+    }
+
+    private void stopEngine() {
+        if (engineWorker != null) {
+            engineWorker.stop();
+            engineWorker = null;
+            engineProgressPanel.clear();
+        }
+    }
+
+    private void updatePanels(final boolean gameOver) {
+        gameHistoryPanel.redo(chessBoard, moveLog);
+        takenPiecesPanel.redo(moveLog);
+        boardPanel.drawBoard(chessBoard);
+        if (analysisEnabled) {
+            analysisPanel.analyze(chessBoard);
+        }
+        if (gameOver) {
+            JOptionPane.showMessageDialog(gameFrame, gameOverMessage(chessBoard));
+        }
+    }
+
+    private void loadPGNFile(final File pgnFile) {
+        try (final PGNReader reader = PGNReader.open(pgnFile.toPath())) {
+            if (!reader.hasNext()) {
+                return;
+            }
+            stopEngine();
+            final PGNGame game = reader.next();
+            final List<Move> moves = PGNUtilities.replayGame(game);
+            gameNavigator.reset(PGNUtilities.createStartingBoard(game));
+            for (final Move move : moves) {
+                gameNavigator.play(move);
+            }
+            showNavigatorPosition(false);
+        } catch (final IOException | ParsePGNException e) {
+            JOptionPane.showMessageDialog(gameFrame, "Could not load " + pgnFile.getName() + ": " + e.getMessage());
+        }
+    }
+
+    private void savePGNFile(final File pgnFile) {
+        try (final PGNWriter writer = PGNWriter.open(pgnFile.toPath())) {
+            writer.writeGame(Collections.<String, String>emptyMap(), gameNavigator.toGameTree(), null);
+        } catch (final IOException e) {
+            JOptionPane.showMessageDialog(gameFrame, "Could not save " + pgnFile.getName() + ": " + e.getMessage());
+        }
+    }
+
+    private static String gameOverMessage(final Board board) {
+        if (board.currentPlayer().isInCheckMate()) {
+            return "Checkmate, " + (board.currentPlayer().getAlliance().isWhite() ? "Black" : "White") + " wins";
+        } else if (board.currentPlayer().isInStaleMate()) {
+            return "Draw by stalemate";
+        } else if (board.isThreefoldRepetition()) {
+            return "Draw by threefold repetition";
+        }
+        return "Draw by the fifty-move rule";
+    }
+
     private JMenu createPreferencesMenu() {
         final JMenu preferencesMenu = new JMenu("Preferences");
         final JMenuItem flipBoardMenuItem = new JMenuItem("Flip board");
@@ -128,6 +402,7 @@ public class Table {
 
     private class BoardPanel extends JPanel {
         final private List<TilePanel> boardTiles;
+        private BoardDirection drawnDirection;
 
         public BoardPanel() {
             super(new GridLayout(8, 8));
@@ -137,23 +412,49 @@ public class Table {
                 boardTiles.add(tilePanel);
                 add(tilePanel);
             }
+            drawnDirection = BoardDirection.NORMAL;
             setPreferredSize(BOARD_PANEL_DIMENSION);
             validate();
         }
 
         public void drawBoard(final Board chessBoard) {
-            removeAll();
-            for (final TilePanel tilePanel : boardDirection.traverse(boardTiles)) {
-                tilePanel.drawTile(chessBoard);
-                add(tilePanel);
+            if (drawnDirection != boardDirection) {
+                removeAll();
+                for (final TilePanel tilePanel : boardDirection.traverse(boardTiles)) {
+                    add(tilePanel);
+                }
+                drawnDirection = boardDirection;
+                validate();
             }
-            validate();
-            repaint();
+            final boolean[] highlights = legalDestinations(chessBoard);
+            for (final TilePanel tilePanel : boardTiles) {
+                tilePanel.drawTile(chessBoard, highlights[tilePanel.tileId]);
+            }
+        }
+
+        private boolean[] legalDestinations(final Board board) {
+            final boolean[] destinations = new boolean[BoardUtils.NUM_TILES];
+            if (highlightLegalMoves) {
+                for (final Move move : pieceLegalMoves(board)) {
+                    destinations[move.getDestinationCoordinate()] = true;
+                }
+            }
+            return destinations;
+        }
+
+        private Collection<Move> pieceLegalMoves(final Board board) {
+            if(humanMovedPiece != null && humanMovedPiece.getPieceAlliance() == board.currentPlayer().getAlliance()) {
+                return humanMovedPiece.calculateLegalMoves(board);
+            }
+            return Collections.emptyList();
         }
     }
 
     private class TilePanel extends JPanel {
         private final int tileId;
+        private ImageIcon drawnIcon;
+        private boolean drawnHighlight;
+
         public TilePanel(final BoardPanel boardPanel,
                          final int tileId) {
             super(new GridBagLayout());
@@ -171,6 +472,10 @@ public class Table {
                         humanMovedPiece = null;
 
                     } else if (isLeftMouseButton(e)) {
+                        if (engineWorker != null) {
+                            return;
+                        }
+                        boolean moveMade = false;
                         if (sourceTile == null) {
                             sourceTile = chessBoard.getTile(tileId);
                             humanMovedPiece = sourceTile.getPiece();
@@ -184,22 +489,22 @@ public class Table {
                                     chessBoard,
                                     sourceTile.getTileCoordinate(),
                                     destinationTile.getTileCoordinate());
-                            final MoveTransition transition = chessBoard.currentPlayer().makeMove(move);
-                            if (transition.getMoveStatus().isDone()) {
-                                chessBoard = transition.getTransitionBoard();
-                                moveLog.addMove(move);
+                            if (gameNavigator.play(move).getMoveStatus().isDone()) {
+                                moveMade = true;
                             }
                             sourceTile = null;
                             destinationTile = null;
                             humanMovedPiece = null;
                         }
+                        final boolean positionChanged = moveMade;
                         SwingUtilities.invokeLater(new Runnable() {
                             @Override
                             public void run() {
-                                gameHistoryPanel.redo(chessBoard, moveLog);
-                                takenPiecesPanel.redo(moveLog);
-                                boardPanel.drawBoard(chessBoard);
-
+                                if (positionChanged) {
+                                    showNavigatorPosition(true);
+                                } else {
+                                    updatePanels(false);
+                                }
                             }
                         });
                     }
@@ -210,46 +515,19 @@ public class Table {
 
         private void assignTilePieceIcon(final Board board) {
             removeAll();
-            if (board.getTile(tileId).isTileOccupied()) {
-                String suffixPath
-                        = "/" + board.getTile(tileId).getPiece().getPieceAlliance().toString().substring(0, 1)
-                        + board.getTile(tileId).getPiece().toString()
-                        + ".gif";
-                try {
-                    final BufferedImage image
-                            = ImageIO.read(ClassLoader.getSystemResource(PieceImagesDirResourceName + suffixPath));
-                    add(new JLabel(new ImageIcon(image)));
-                } catch (IOException e) {
-                    e.printStackTrace();
-                }
+            drawnIcon = board.getTile(tileId).isTileOccupied()
+                    ? PieceIcons.getPieceIcon(board.getTile(tileId).getPiece())
+                    : null;
+            if (drawnIcon != null) {
+                add(new JLabel(drawnIcon));
             }
         }
 
-        private void highlightLegals(final Board board) {
-            if(highlightLegalMoves) {
-                for (final Move move : pieceLegalMoves(board)) {
-                    if(move.getDestinationCoordinate() == this.tileId) {
-                        try {
-                            add(new JLabel(
-                                    new ImageIcon(
-                                            ImageIO.read(
-                                                    ClassLoader.getSystemResource(
-                                                            HighlightImageDirResourceName + "/green_dot.png")))));
-
-                        } catch (IOException e) {
-                            e.printStackTrace();
-                        }
-                    }
-
-                }
-            }
-        }
-
-        private Collection<Move> pieceLegalMoves(final Board board) {
-            if(humanMovedPiece != null && humanMovedPiece.getPieceAlliance() == board.currentPlayer().getAlliance()) {
-                return humanMovedPiece.calculateLegalMoves(board);
+        private void highlightLegals(final boolean highlighted) {
+            drawnHighlight = highlighted;
+            if (highlighted) {
+                add(new JLabel(PieceIcons.getHighlightIcon()));
             }
-            return Collections.emptyList();
         }
 
         private void assignTileColor() {
@@ -267,13 +545,74 @@ public class Table {
 
         }
 
-        public void drawTile(final Board chessBoard) {
-            assignTileColor();
+        public void drawTile(final Board chessBoard, final boolean highlighted) {
+            final Tile tile = chessBoard.getTile(tileId);
+            final ImageIcon icon = tile.isTileOccupied() ? PieceIcons.getPieceIcon(tile.getPiece()) : null;
+            if (icon == drawnIcon && highlighted == drawnHighlight) {
+                return;
+            }
             assignTilePieceIcon(chessBoard);
-            highlightLegals(chessBoard);
+            highlightLegals(highlighted);
             validate();
             repaint();
+        }
+    }
+
+    private class EngineWorker extends SwingWorker<Move, SearchInfo> {
+        private final Board searchBoard;
+        private final AlphaBeta search;
 
+        EngineWorker(final Board searchBoard) {
+            this.searchBoard = searchBoard;
+            this.search = new AlphaBeta(new StandardBoardEvaluator(), transpositionTable, 1, SearchLimits.MAX_DEPTH);
+            this.search.setSearchListener(new SearchListener() {
+                @Override
+                public void onSearchProgress(final SearchInfo searchInfo) {
+                    publish(searchInfo);
+                }
+            });
+        }
+
+        void stop() {
+            search.stop();
+            cancel(false);
+        }
+
+        @Override
+        protected Move doInBackground() {
+            return search.search(searchBoard, SearchLimits.moveTime(ENGINE_MOVE_TIME_MILLIS)).getBestMove();
+        }
+
+        @Override
+        protected void process(final List<SearchInfo> progress) {
+            if (engineWorker == this) {
+                engineProgressPanel.update(progress.get(progress.size() - 1),
+                        searchBoard.currentPlayer().getAlliance());
+            }
+        }
+
+        @Override
+        protected void done() {
+            if (engineWorker != this || isCancelled()) {
+                return;
+            }
+            engineWorker = null;
+            final Move move;
+            try {
+                move = get();
+            } catch (final InterruptedException | ExecutionException | CancellationException e) {
+                engineProgressPanel.setStatus("Engine failed: " + e.getMessage());
+                return;
+            }
+            if (chessBoard != searchBoard) {
+                return;
+            }
+            if (!gameNavigator.play(move).getMoveStatus().isDone()) {
+                engineProgressPanel.setStatus("Engine found no move");
+                return;
+            }
+            engineProgressPanel.setStatus("Engine played " + PGNUtilities.toSAN(searchBoard, move));
+            showNavigatorPosition(true);
         }
     }
 
@@ -307,17 +646,24 @@ public class Table {
 
     public static class MoveLog {
         private final List<Move> moves;
+        private final CapturedPieces capturedPieces;
 
         private MoveLog() {
             moves = new ArrayList<>();
+            capturedPieces = new CapturedPieces();
         }
 
         public List<Move> getMoves() {
-            return moves;
+            return Collections.unmodifiableList(moves);
+        }
+
+        public CapturedPieces getCapturedPieces() {
+            return capturedPieces;
         }
 
         public void addMove(final Move move) {
             moves.add(move);
+            capturedPieces.add(move);
         }
 
         public int size() {
@@ -326,14 +672,21 @@ public class Table {
 
         public void clear() {
             moves.clear();
+            capturedPieces.clear();
         }
 
         public Move removeMove(final int index) {
-            return moves.remove(index);
+            final Move move = moves.remove(index);
+            capturedPieces.remove(move);
+            return move;
         }
 
         public boolean removeMove(final Move move) {
-            return moves.remove(move);
+            if (moves.remove(move)) {
+                capturedPieces.remove(move);
+                return true;
+            }
+            return false;
         }
     }
 }
@@ -1,29 +1,26 @@
 package chess.gui;
 
-import chess.engine.board.Move;
+import chess.engine.Alliance;
+import chess.engine.board.CapturedPieces;
 import chess.engine.pieces.Piece;
 import chess.gui.Table.MoveLog;
 import com.google.common.primitives.Ints;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import javax.swing.border.EtchedBorder;
 import java.awt.*;
-import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.Comparator;
-import java.util.List;
 
 public class TakenPiecesPanel extends JPanel {
     private final JPanel northPanel;
     private final JPanel southPanel;
+    private final int[] displayedCounts;
 
     private static final Color PANEL_COLOR = Color.decode("0xFDFE6");
     private static final EtchedBorder PANEL_BORDER = new EtchedBorder(EtchedBorder.RAISED);
     private static final Dimension TAKEN_PIECES_DIMENSION = new Dimension(40, 80);
+    private static final Piece.PieceType[] PIECE_TYPES_BY_VALUE = sortByValue(Piece.PieceType.values());
 
     public TakenPiecesPanel() {
         super(new BorderLayout());
@@ -37,72 +34,56 @@ public class TakenPiecesPanel extends JPanel {
         add(northPanel, BorderLayout.NORTH);
         add(southPanel, BorderLayout.SOUTH);
         setPreferredSize(TAKEN_PIECES_DIMENSION);
+        displayedCounts = new int[Alliance.values().length * PIECE_TYPES_BY_VALUE.length];
     }
 
     public void redo(final MoveLog moveLog) {
+        final CapturedPieces capturedPieces = moveLog.getCapturedPieces();
+        if (!countsChanged(capturedPieces)) {
+            return;
+        }
         northPanel.removeAll();
         southPanel.removeAll();
+        for (final Piece.PieceType pieceType : PIECE_TYPES_BY_VALUE) {
+            addIcons(southPanel, Alliance.WHITE, pieceType, capturedPieces.getCount(Alliance.WHITE, pieceType));
+            addIcons(northPanel, Alliance.BLACK, pieceType, capturedPieces.getCount(Alliance.BLACK, pieceType));
+        }
+        validate();
+        repaint();
+    }
 
-        final List<Piece> whiteTakenPieces = new ArrayList<>();
-        final List<Piece> blackTakenPieces = new ArrayList<>();
-
-        for (final Move move : moveLog.getMoves()) {
-            if (move.isAttack()) {
-                final Piece takenPiece = move.getAttackedPiece();
-                if (takenPiece.getPieceAlliance().isWhite()) {
-                    whiteTakenPieces.add(takenPiece);
-                } else if (takenPiece.getPieceAlliance().isBlack()) {
-                    blackTakenPieces.add(takenPiece);
-                } else {
-                    throw new RuntimeException("should not reach here!!!");
+    private boolean countsChanged(final CapturedPieces capturedPieces) {
+        boolean changed = false;
+        for (final Alliance alliance : Alliance.values()) {
+            for (final Piece.PieceType pieceType : PIECE_TYPES_BY_VALUE) {
+                final int index = alliance.ordinal() * PIECE_TYPES_BY_VALUE.length + pieceType.ordinal();
+                final int count = capturedPieces.getCount(alliance, pieceType);
+                if (displayedCounts[index] != count) {
+                    displayedCounts[index] = count;
+                    changed = true;
                 }
             }
         }
+        return changed;
+    }
 
+    private static void addIcons(final JPanel panel,
+                                 final Alliance alliance,
+                                 final Piece.PieceType pieceType,
+                                 final int count) {
+        for (int i = 0; i < count; i++) {
+            panel.add(new JLabel(PieceIcons.getTakenPieceIcon(alliance, pieceType)));
+        }
+    }
 
-        Collections.sort(whiteTakenPieces, new Comparator<Piece>() {
-            @Override
-            public int compare(Piece piece, Piece t1) {
-                return Ints.compare(piece.getPieceValue(), t1.getPieceValue());
-            }
-        });
-
-        Collections.sort(blackTakenPieces, new Comparator<Piece>() {
+    private static Piece.PieceType[] sortByValue(final Piece.PieceType[] pieceTypes) {
+        final Piece.PieceType[] sorted = pieceTypes.clone();
+        Arrays.sort(sorted, new Comparator<Piece.PieceType>() {
             @Override
-            public int compare(Piece piece, Piece t1) {
-                return Ints.compare(piece.getPieceValue(), t1.getPieceValue());
+            public int compare(final Piece.PieceType pieceType, final Piece.PieceType other) {
+                return Ints.compare(pieceType.getPieceValue(), other.getPieceValue());
             }
         });
-
-        for (final Piece whiteTakenPiece : whiteTakenPieces) {
-            try {
-                final BufferedImage image = ImageIO.read(ClassLoader.getSystemResource(
-                        Table.PieceImagesDirResourceName + "/"
-                        + whiteTakenPiece.getPieceAlliance().toString().substring(0, 1) + ""
-                        + whiteTakenPiece.toString() + ".gif"));
-                final ImageIcon ic = new ImageIcon(image);
-                final JLabel imageLabel = new JLabel((new ImageIcon(ic.getImage().getScaledInstance(
-                        ic.getIconWidth() - 15, ic.getIconWidth() - 15, Image.SCALE_SMOOTH))));
-                southPanel.add(imageLabel);
-            } catch (final IOException e) {
-                e.printStackTrace();
-            }
-        }
-
-        for (final Piece blackTakenPiece : blackTakenPieces) {
-            try {
-                final BufferedImage image = ImageIO.read(ClassLoader.getSystemResource(
-                        Table.PieceImagesDirResourceName + "/"
-                        + blackTakenPiece.getPieceAlliance().toString().substring(0, 1) + ""
-                        + blackTakenPiece.toString() + ".gif"));
-                final ImageIcon ic = new ImageIcon(image);
-                final JLabel imageLabel = new JLabel((new ImageIcon(ic.getImage().getScaledInstance(
-                        ic.getIconWidth() - 15, ic.getIconWidth() - 15, Image.SCALE_SMOOTH))));
-                northPanel.add(imageLabel);
-            } catch (final IOException e) {
-                e.printStackTrace();
-            }
-        }
-        validate();
+        return sorted;
     }
 }
@@ -0,0 +1,75 @@
+package chess.pgn;
+
+import chess.engine.board.Board;
+import chess.engine.board.Move;
+import chess.engine.board.MoveCodec;
+import chess.engine.player.MoveTransition;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class BinaryGame {
+    private final Map<String, String> tags;
+    private final Board startingBoard;
+    private final short[] moves;
+    private final byte resultCode;
+
+    BinaryGame(final Map<String, String> tags,
+               final Board startingBoard,
+               final short[] moves,
+               final byte resultCode) {
+        this.tags = ImmutableMap.copyOf(tags);
+        this.startingBoard = startingBoard;
+        this.moves = moves;
+        this.resultCode = resultCode;
+    }
+
+    public Map<String, String> getTags() {
+        return tags;
+    }
+
+    public Board getStartingBoard() {
+        return startingBoard;
+    }
+
+    public int getPlyCount() {
+        return moves.length;
+    }
+
+    public short getEncodedMove(final int ply) {
+        return moves[ply];
+    }
+
+    public String getResult() {
+        return PGNGame.resultText(resultCode);
+    }
+
+    public List<Move> replay() {
+        final List<Move> replayed = new ArrayList<>(moves.length);
+        Board board = startingBoard;
+        for (final short code : moves) {
+            final MoveTransition transition = playMove(board, code);
+            replayed.add(transition.getMove());
+            board = transition.getTransitionBoard();
+        }
+        return replayed;
+    }
+
+    public Board getBoardAtPly(final int ply) {
+        Board board = startingBoard;
+        for (int i = 0; i < ply && i < moves.length; i++) {
+            board = playMove(board, moves[i]).getTransitionBoard();
+        }
+        return board;
+    }
+
+    private static MoveTransition playMove(final Board board, final short code) {
+        final MoveTransition transition = board.currentPlayer().makeMove(MoveCodec.decode(board, code));
+        if (!transition.getMoveStatus().isDone()) {
+            throw new RuntimeException("Corrupt move " + code + " at " + FenUtilities.createFENFromGame(board));
+        }
+        return transition;
+    }
+}
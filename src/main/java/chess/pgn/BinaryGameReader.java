@@ -0,0 +1,137 @@
+package chess.pgn;
+
+import chess.engine.board.Board;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class BinaryGameReader implements Closeable {
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+    private static final long SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+    private final int gameCount;
+    private final long indexOffset;
+
+    public BinaryGameReader(final Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        final long size = channel.size();
+        segments = new MappedByteBuffer[(int) ((size + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT)];
+        for (int i = 0; i < segments.length; i++) {
+            final long start = (long) i << SEGMENT_SHIFT;
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(SEGMENT_SIZE, size - start));
+        }
+        if (size < BinaryGameWriter.HEADER_BYTES || getInt(0) != BinaryGameWriter.MAGIC) {
+            throw new IOException("Not a binary game file: " + path);
+        }
+        if (getShort(4) != BinaryGameWriter.VERSION) {
+            throw new IOException("Unsupported binary game file version " + getShort(4));
+        }
+        gameCount = getInt(8);
+        indexOffset = getLong(12);
+    }
+
+    public int getGameCount() {
+        return gameCount;
+    }
+
+    public BinaryGame readGame(final int gameIndex) {
+        if (gameIndex < 0 || gameIndex >= gameCount) {
+            throw new IndexOutOfBoundsException("Game " + gameIndex + " of " + gameCount);
+        }
+        long position = getLong(indexOffset + 8L * gameIndex);
+        final int flags = getByte(position++);
+        final byte resultCode = (byte) getByte(position++);
+        Board startingBoard;
+        if ((flags & BinaryGameWriter.CUSTOM_START_POSITION) != 0) {
+            final byte[] packed = new byte[PositionCodec.POSITION_BYTES];
+            getBytes(position, packed);
+            position += packed.length;
+            startingBoard = PositionCodec.decode(packed);
+        } else {
+            startingBoard = Board.createStandardBoard();
+        }
+
+        final int tagCount = getShort(position);
+        position += 2;
+        final Map<String, String> tags = new LinkedHashMap<>();
+        for (int i = 0; i < tagCount; i++) {
+            final int keyLength = getShort(position);
+            final String key = getString(position + 2, keyLength);
+            position += 2 + keyLength;
+            final int valueLength = getShort(position);
+            final String value = getString(position + 2, valueLength);
+            position += 2 + valueLength;
+            tags.put(key, value);
+        }
+
+        final int plyCount = getInt(position);
+        position += 4;
+        final short[] moves = new short[plyCount];
+        for (int i = 0; i < plyCount; i++) {
+            moves[i] = (short) getShort(position);
+            position += 2;
+        }
+        return new BinaryGame(tags, startingBoard, moves, resultCode);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int getByte(final long position) {
+        return segments[(int) (position >>> SEGMENT_SHIFT)].get((int) (position & SEGMENT_MASK)) & 0xFF;
+    }
+
+    private int getShort(final long position) {
+        if (fitsInSegment(position, 2)) {
+            return segment(position).getShort((int) (position & SEGMENT_MASK)) & 0xFFFF;
+        }
+        return getByte(position) << 8 | getByte(position + 1);
+    }
+
+    private int getInt(final long position) {
+        if (fitsInSegment(position, 4)) {
+            return segment(position).getInt((int) (position & SEGMENT_MASK));
+        }
+        return getShort(position) << 16 | getShort(position + 2);
+    }
+
+    private long getLong(final long position) {
+        if (fitsInSegment(position, 8)) {
+            return segment(position).getLong((int) (position & SEGMENT_MASK));
+        }
+        return (long) getInt(position) << 32 | (getInt(position + 4) & 0xFFFFFFFFL);
+    }
+
+    private void getBytes(final long position, final byte[] destination) {
+        for (int i = 0; i < destination.length; i++) {
+            destination[i] = (byte) getByte(position + i);
+        }
+    }
+
+    private String getString(final long position, final int length) {
+        final byte[] bytes = new byte[length];
+        getBytes(position, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private ByteBuffer segment(final long position) {
+        return segments[(int) (position >>> SEGMENT_SHIFT)];
+    }
+
+    private boolean fitsInSegment(final long position, final int bytes) {
+        return (position & SEGMENT_MASK) + bytes <= segment(position).limit();
+    }
+}
@@ -0,0 +1,188 @@
+package chess.pgn;
+
+import chess.engine.board.Board;
+import chess.engine.board.Move;
+import chess.engine.board.MoveCodec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+public class BinaryGameWriter implements Closeable {
+    static final int MAGIC = 0x4A434742;
+    static final short VERSION = 1;
+    static final int HEADER_BYTES = 24;
+    static final int CUSTOM_START_POSITION = 1;
+
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int MAX_UNSIGNED_SHORT = 0xFFFF;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private long position;
+    private long[] gameOffsets;
+    private int gameCount;
+
+    public BinaryGameWriter(final Path path) throws IOException {
+        channel = FileChannel.open(path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        gameOffsets = new long[1024];
+        buffer.put(new byte[HEADER_BYTES]);
+        position = HEADER_BYTES;
+    }
+
+    public void writeGame(final PGNGame game) throws IOException {
+        writeGame(game.getTags(), PGNUtilities.createStartingBoard(game), PGNUtilities.replayGame(game), game.getResult());
+    }
+
+    public void writeGame(final Map<String, String> tags,
+                          final Board startingBoard,
+                          final List<Move> moves,
+                          final String result) throws IOException {
+        final byte[][] encodedTags = encodeTags(tags);
+        if (gameCount == gameOffsets.length) {
+            gameOffsets = Arrays.copyOf(gameOffsets, gameCount * 2);
+        }
+        gameOffsets[gameCount++] = position;
+
+        final boolean customStart = !FenUtilities.STANDARD_START_FEN.equals(FenUtilities.createFENFromGame(startingBoard));
+        ensureCapacity(2 + PositionCodec.POSITION_BYTES);
+        putByte(customStart ? CUSTOM_START_POSITION : 0);
+        putByte(PGNGame.resultCode(result));
+        if (customStart) {
+            PositionCodec.encode(startingBoard, buffer, buffer.position());
+            buffer.position(buffer.position() + PositionCodec.POSITION_BYTES);
+            position += PositionCodec.POSITION_BYTES;
+        }
+
+        ensureCapacity(2);
+        putShort(tags.size());
+        for (final byte[] encodedTag : encodedTags) {
+            putString(encodedTag);
+        }
+
+        ensureCapacity(4);
+        putInt(moves.size());
+        for (final Move move : moves) {
+            ensureCapacity(2);
+            putShort(MoveCodec.encode(move));
+        }
+    }
+
+    public int getGameCount() {
+        return gameCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            final long indexOffset = position;
+            for (int i = 0; i < gameCount; i++) {
+                ensureCapacity(8);
+                buffer.putLong(gameOffsets[i]);
+                position += 8;
+            }
+            flushBuffer();
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putShort(VERSION).putShort((short) 0).putInt(gameCount).putLong(indexOffset);
+            header.flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: BinaryGameWriter <games.pgn> <games.bin>");
+            return;
+        }
+        int skipped = 0;
+        try (final PGNReader reader = PGNReader.open(Paths.get(args[0]));
+             final BinaryGameWriter writer = new BinaryGameWriter(Paths.get(args[1]))) {
+            while (reader.hasNext()) {
+                final PGNGame game = reader.next();
+                try {
+                    writer.writeGame(game);
+                } catch (final ParsePGNException | IllegalArgumentException e) {
+                    skipped++;
+                }
+            }
+            System.err.println("wrote " + writer.getGameCount() + " games, skipped " + skipped);
+        }
+    }
+
+    private static byte[][] encodeTags(final Map<String, String> tags) {
+        if (tags.size() > MAX_UNSIGNED_SHORT) {
+            throw new IllegalArgumentException("Too many tags: " + tags.size() + ", at most " + MAX_UNSIGNED_SHORT);
+        }
+        final byte[][] encodedTags = new byte[tags.size() * 2][];
+        int i = 0;
+        for (final Map.Entry<String, String> tag : tags.entrySet()) {
+            encodedTags[i++] = encodeString(tag.getKey(), tag.getKey());
+            encodedTags[i++] = encodeString(tag.getKey(), tag.getValue());
+        }
+        return encodedTags;
+    }
+
+    private static byte[] encodeString(final String tagName, final String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_UNSIGNED_SHORT) {
+            throw new IllegalArgumentException("Tag " + tagName + " is " + bytes.length
+                    + " bytes in UTF-8, at most " + MAX_UNSIGNED_SHORT + " fit the binary format");
+        }
+        return bytes;
+    }
+
+    private void putString(final byte[] bytes) throws IOException {
+        ensureCapacity(2 + bytes.length);
+        putShort(bytes.length);
+        buffer.put(bytes);
+        position += bytes.length;
+    }
+
+    private void putByte(final int value) {
+        buffer.put((byte) value);
+        position++;
+    }
+
+    private void putShort(final int value) {
+        buffer.putShort((short) value);
+        position += 2;
+    }
+
+    private void putInt(final int value) {
+        buffer.putInt(value);
+        position += 4;
+    }
+
+    private void ensureCapacity(final int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flushBuffer();
+            if (buffer.remaining() < bytes) {
+                throw new IOException("Record field of " + bytes + " bytes exceeds the write buffer");
+            }
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,338 @@
+package chess.pgn;
+
+import chess.engine.Alliance;
+import chess.engine.board.Board;
+import chess.engine.board.BoardUtils;
+import chess.engine.pieces.*;
+
+public class FenUtilities {
+    public static final String STANDARD_START_FEN = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    private static final int WHITE_KING_SIDE_ROOK = 63;
+    private static final int WHITE_QUEEN_SIDE_ROOK = 56;
+    private static final int BLACK_KING_SIDE_ROOK = 7;
+    private static final int BLACK_QUEEN_SIDE_ROOK = 0;
+    private static final String STANDARD_HOME_ROW = "rnbqkbnr";
+
+    public static final int WHITE_KING_SIDE_CASTLE = 1;
+    public static final int WHITE_QUEEN_SIDE_CASTLE = 2;
+    public static final int BLACK_KING_SIDE_CASTLE = 4;
+    public static final int BLACK_QUEEN_SIDE_CASTLE = 8;
+
+    private FenUtilities() {
+        throw new RuntimeException("Not instantiable!");
+    }
+
+    public static Board createGameFromFEN(final String fenString) {
+        final String fen = fenString.trim();
+        final int length = fen.length();
+        final char[] placement = new char[BoardUtils.NUM_TILES];
+        int index = 0;
+        int tile = 0;
+        int rankTiles = 0;
+        while (index < length) {
+            final char c = fen.charAt(index++);
+            if (c == ' ') {
+                break;
+            } else if (c == '/') {
+                if (rankTiles != BoardUtils.NUM_TILES_PER_ROW) {
+                    throw invalid(fenString);
+                }
+                rankTiles = 0;
+            } else if (c >= '1' && c <= '8') {
+                tile += c - '0';
+                rankTiles += c - '0';
+            } else {
+                if (tile >= BoardUtils.NUM_TILES || pieceTypeOf(c) == null) {
+                    throw invalid(fenString);
+                }
+                placement[tile++] = c;
+                rankTiles++;
+            }
+        }
+        if (tile != BoardUtils.NUM_TILES || rankTiles != BoardUtils.NUM_TILES_PER_ROW || index >= length) {
+            throw invalid(fenString);
+        }
+
+        final Alliance moveMaker;
+        switch (fen.charAt(index++)) {
+            case 'w':
+                moveMaker = Alliance.WHITE;
+                break;
+            case 'b':
+                moveMaker = Alliance.BLACK;
+                break;
+            default:
+                throw invalid(fenString);
+        }
+        index = skipSpace(fen, index);
+
+        int castlingRights = 0;
+        while (index < length && fen.charAt(index) != ' ') {
+            switch (fen.charAt(index++)) {
+                case 'K':
+                    castlingRights |= WHITE_KING_SIDE_CASTLE;
+                    break;
+                case 'Q':
+                    castlingRights |= WHITE_QUEEN_SIDE_CASTLE;
+                    break;
+                case 'k':
+                    castlingRights |= BLACK_KING_SIDE_CASTLE;
+                    break;
+                case 'q':
+                    castlingRights |= BLACK_QUEEN_SIDE_CASTLE;
+                    break;
+                case '-':
+                    break;
+                default:
+                    throw invalid(fenString);
+            }
+        }
+        index = skipSpace(fen, index);
+
+        int enPassantTarget = -1;
+        if (index < length && fen.charAt(index) != '-') {
+            if (index + 1 >= length) {
+                throw invalid(fenString);
+            }
+            final int file = fen.charAt(index) - 'a';
+            final int rank = fen.charAt(index + 1) - '1';
+            if (file < 0 || file >= BoardUtils.NUM_TILES_PER_ROW || rank < 0 || rank >= BoardUtils.NUM_TILES_PER_ROW) {
+                throw invalid(fenString);
+            }
+            enPassantTarget = (BoardUtils.NUM_TILES_PER_ROW - 1 - rank) * BoardUtils.NUM_TILES_PER_ROW + file;
+            index += 2;
+        } else {
+            index++;
+        }
+        index = skipSpace(fen, index);
+
+        int halfMoveClock = 0;
+        while (index < length && fen.charAt(index) != ' ') {
+            halfMoveClock = halfMoveClock * 10 + digit(fen.charAt(index++), fenString);
+        }
+        index = skipSpace(fen, index);
+
+        int fullMoveNumber = 0;
+        while (index < length && fen.charAt(index) != ' ') {
+            fullMoveNumber = fullMoveNumber * 10 + digit(fen.charAt(index++), fenString);
+        }
+
+        return createBoard(placement, moveMaker, castlingRights, enPassantTarget,
+                halfMoveClock, Math.max(1, fullMoveNumber));
+    }
+
+    static Board createBoard(final char[] placement,
+                             final Alliance moveMaker,
+                             final int castlingRights,
+                             final int enPassantTarget,
+                             final int halfMoveClock,
+                             final int fullMoveNumber) {
+        final int enPassantPawnCoordinate = enPassantTarget >= 0
+                ? enPassantTarget + (moveMaker.isWhite() ? BoardUtils.NUM_TILES_PER_ROW : -BoardUtils.NUM_TILES_PER_ROW)
+                : -1;
+        final Board.Builder builder = new Board.Builder();
+        for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+            final char c = placement[i];
+            if (c == 0) {
+                continue;
+            }
+            final Alliance alliance = Character.isUpperCase(c) ? Alliance.WHITE : Alliance.BLACK;
+            final boolean isFirstMove;
+            switch (Character.toLowerCase(c)) {
+                case 'k':
+                    isFirstMove = alliance.isWhite()
+                            ? i == 60 && (castlingRights & (WHITE_KING_SIDE_CASTLE | WHITE_QUEEN_SIDE_CASTLE)) != 0
+                            : i == 4 && (castlingRights & (BLACK_KING_SIDE_CASTLE | BLACK_QUEEN_SIDE_CASTLE)) != 0;
+                    break;
+                case 'r':
+                    isFirstMove = (i == WHITE_KING_SIDE_ROOK && alliance.isWhite()
+                                    && (castlingRights & WHITE_KING_SIDE_CASTLE) != 0)
+                            || (i == WHITE_QUEEN_SIDE_ROOK && alliance.isWhite()
+                                    && (castlingRights & WHITE_QUEEN_SIDE_CASTLE) != 0)
+                            || (i == BLACK_KING_SIDE_ROOK && alliance.isBlack()
+                                    && (castlingRights & BLACK_KING_SIDE_CASTLE) != 0)
+                            || (i == BLACK_QUEEN_SIDE_ROOK && alliance.isBlack()
+                                    && (castlingRights & BLACK_QUEEN_SIDE_CASTLE) != 0);
+                    break;
+                case 'p':
+                    isFirstMove = alliance.isWhite() ? BoardUtils.SECOND_RANK[i] : BoardUtils.SEVENTH_RANK[i];
+                    break;
+                default:
+                    isFirstMove = isStandardHomeSquare(Character.toLowerCase(c), alliance, i);
+                    break;
+            }
+            final Piece piece = createPiece(c, i, alliance, isFirstMove);
+            builder.setPiece(piece);
+            if (i == enPassantPawnCoordinate && piece.getPieceType() == Piece.PieceType.PAWN
+                    && alliance != moveMaker) {
+                builder.setEnPassantPawn((Pawn) piece);
+            }
+        }
+        return builder.setMoveMaker(moveMaker)
+                .setHalfMoveClock(halfMoveClock)
+                .setFullMoveNumber(fullMoveNumber)
+                .build();
+    }
+
+    public static String createFENFromGame(final Board board) {
+        final StringBuilder sb = new StringBuilder(90);
+        int emptyTiles = 0;
+        for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+            final Piece piece = board.getTile(i).getPiece();
+            if (piece == null) {
+                emptyTiles++;
+            } else {
+                if (emptyTiles > 0) {
+                    sb.append((char) ('0' + emptyTiles));
+                    emptyTiles = 0;
+                }
+                sb.append(pieceChar(piece));
+            }
+            if ((i + 1) % BoardUtils.NUM_TILES_PER_ROW == 0) {
+                if (emptyTiles > 0) {
+                    sb.append((char) ('0' + emptyTiles));
+                    emptyTiles = 0;
+                }
+                if (i + 1 < BoardUtils.NUM_TILES) {
+                    sb.append('/');
+                }
+            }
+        }
+
+        sb.append(' ').append(board.currentPlayer().getAlliance().isWhite() ? 'w' : 'b').append(' ');
+
+        final int castlingRights = castlingRights(board);
+        if ((castlingRights & WHITE_KING_SIDE_CASTLE) != 0) {
+            sb.append('K');
+        }
+        if ((castlingRights & WHITE_QUEEN_SIDE_CASTLE) != 0) {
+            sb.append('Q');
+        }
+        if ((castlingRights & BLACK_KING_SIDE_CASTLE) != 0) {
+            sb.append('k');
+        }
+        if ((castlingRights & BLACK_QUEEN_SIDE_CASTLE) != 0) {
+            sb.append('q');
+        }
+        if (castlingRights == 0) {
+            sb.append('-');
+        }
+
+        sb.append(' ');
+        final int enPassantTarget = enPassantTarget(board);
+        if (enPassantTarget >= 0) {
+            sb.append(BoardUtils.getPositionAtCoordinate(enPassantTarget));
+        } else {
+            sb.append('-');
+        }
+        sb.append(' ').append(board.getHalfMoveClock())
+          .append(' ').append(board.getFullMoveNumber());
+        return sb.toString();
+    }
+
+    public static int castlingRights(final Board board) {
+        int castlingRights = 0;
+        if (canCastle(board, Alliance.WHITE, 60, WHITE_KING_SIDE_ROOK)) {
+            castlingRights |= WHITE_KING_SIDE_CASTLE;
+        }
+        if (canCastle(board, Alliance.WHITE, 60, WHITE_QUEEN_SIDE_ROOK)) {
+            castlingRights |= WHITE_QUEEN_SIDE_CASTLE;
+        }
+        if (canCastle(board, Alliance.BLACK, 4, BLACK_KING_SIDE_ROOK)) {
+            castlingRights |= BLACK_KING_SIDE_CASTLE;
+        }
+        if (canCastle(board, Alliance.BLACK, 4, BLACK_QUEEN_SIDE_ROOK)) {
+            castlingRights |= BLACK_QUEEN_SIDE_CASTLE;
+        }
+        return castlingRights;
+    }
+
+    static int enPassantTarget(final Board board) {
+        final Pawn enPassantPawn = board.getEnPassantPawn();
+        if (enPassantPawn == null) {
+            return -1;
+        }
+        return enPassantPawn.getPiecePosition()
+                - BoardUtils.NUM_TILES_PER_ROW * enPassantPawn.getPieceAlliance().getDirection();
+    }
+
+    private static boolean canCastle(final Board board,
+                                     final Alliance alliance,
+                                     final int kingCoordinate,
+                                     final int rookCoordinate) {
+        final Piece king = board.getTile(kingCoordinate).getPiece();
+        final Piece rook = board.getTile(rookCoordinate).getPiece();
+        return king != null && king.getPieceType().isKing() && king.getPieceAlliance() == alliance && king.isFirstMove()
+                && rook != null && rook.getPieceType().isRook() && rook.getPieceAlliance() == alliance && rook.isFirstMove();
+    }
+
+    static char pieceChar(final Piece piece) {
+        final char c = piece.getPieceType().toString().charAt(0);
+        return piece.getPieceAlliance().isWhite() ? c : Character.toLowerCase(c);
+    }
+
+    static Piece.PieceType pieceTypeOf(final char c) {
+        switch (Character.toLowerCase(c)) {
+            case 'p':
+                return Piece.PieceType.PAWN;
+            case 'n':
+                return Piece.PieceType.KNIGHT;
+            case 'b':
+                return Piece.PieceType.BISHOP;
+            case 'r':
+                return Piece.PieceType.ROOK;
+            case 'q':
+                return Piece.PieceType.QUEEN;
+            case 'k':
+                return Piece.PieceType.KING;
+            default:
+                return null;
+        }
+    }
+
+    private static Piece createPiece(final char c,
+                                     final int coordinate,
+                                     final Alliance alliance,
+                                     final boolean isFirstMove) {
+        switch (pieceTypeOf(c)) {
+            case PAWN:
+                return new Pawn(coordinate, alliance, isFirstMove);
+            case KNIGHT:
+                return new Knight(coordinate, alliance, isFirstMove);
+            case BISHOP:
+                return new Bishop(coordinate, alliance, isFirstMove);
+            case ROOK:
+                return new Rook(coordinate, alliance, isFirstMove);
+            case QUEEN:
+                return new Queen(coordinate, alliance, isFirstMove);
+            default:
+                return new King(coordinate, alliance, isFirstMove);
+        }
+    }
+
+    private static boolean isStandardHomeSquare(final char pieceChar, final Alliance alliance, final int coordinate) {
+        final int homeRowStart = alliance.isWhite() ? WHITE_QUEEN_SIDE_ROOK : BLACK_QUEEN_SIDE_ROOK;
+        return coordinate >= homeRowStart
+                && coordinate < homeRowStart + BoardUtils.NUM_TILES_PER_ROW
+                && STANDARD_HOME_ROW.charAt(coordinate - homeRowStart) == pieceChar;
+    }
+
+    private static int skipSpace(final String fen, int index) {
+        while (index < fen.length() && fen.charAt(index) == ' ') {
+            index++;
+        }
+        return index;
+    }
+
+    private static int digit(final char c, final String fenString) {
+        if (c < '0' || c > '9') {
+            throw invalid(fenString);
+        }
+        return c - '0';
+    }
+
+    private static RuntimeException invalid(final String fenString) {
+        return new RuntimeException("Invalid FEN: " + fenString);
+    }
+}
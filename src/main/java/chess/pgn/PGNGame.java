@@ -0,0 +1,84 @@
+package chess.pgn;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.List;
+import java.util.Map;
+
+public class PGNGame {
+    public static final String UNKNOWN_RESULT = "*";
+
+    public static final byte RESULT_UNKNOWN = 0;
+    public static final byte RESULT_WHITE_WINS = 1;
+    public static final byte RESULT_BLACK_WINS = 2;
+    public static final byte RESULT_DRAW = 3;
+    private static final String[] RESULT_TEXTS = {UNKNOWN_RESULT, "1-0", "0-1", "1/2-1/2"};
+
+    private final Map<String, String> tags;
+    private final List<String> moves;
+    private final String result;
+    private final String parseError;
+
+    public PGNGame(final Map<String, String> tags,
+                   final List<String> moves,
+                   final String result) {
+        this(tags, moves, result, null);
+    }
+
+    public PGNGame(final Map<String, String> tags,
+                   final List<String> moves,
+                   final String result,
+                   final String parseError) {
+        this.tags = ImmutableMap.copyOf(tags);
+        this.moves = ImmutableList.copyOf(moves);
+        this.result = result != null ? result : UNKNOWN_RESULT;
+        this.parseError = parseError;
+    }
+
+    public Map<String, String> getTags() {
+        return tags;
+    }
+
+    public String getTag(final String name) {
+        return tags.get(name);
+    }
+
+    public List<String> getMoves() {
+        return moves;
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    public String getParseError() {
+        return parseError;
+    }
+
+    public boolean isMalformed() {
+        return parseError != null;
+    }
+
+    public byte getResultCode() {
+        return resultCode(result);
+    }
+
+    public static byte resultCode(final String result) {
+        for (byte code = 0; code < RESULT_TEXTS.length; code++) {
+            if (RESULT_TEXTS[code].equals(result)) {
+                return code;
+            }
+        }
+        return RESULT_UNKNOWN;
+    }
+
+    public static String resultText(final byte resultCode) {
+        return resultCode >= 0 && resultCode < RESULT_TEXTS.length ? RESULT_TEXTS[resultCode] : UNKNOWN_RESULT;
+    }
+
+    @Override
+    public String toString() {
+        return tags.get("White") + " - " + tags.get("Black") + " " + result + " (" + moves.size() + " plies)";
+    }
+}
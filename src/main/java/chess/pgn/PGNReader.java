@@ -0,0 +1,209 @@
+package chess.pgn;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+public class PGNReader implements Iterator<PGNGame>, Closeable {
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final BufferedReader reader;
+    private final StringBuilder token;
+    private PGNGame nextGame;
+    private String pendingLine;
+    private long gamesRead;
+
+    public PGNReader(final Reader reader) {
+        this.reader = reader instanceof BufferedReader
+                ? (BufferedReader) reader
+                : new BufferedReader(reader, BUFFER_SIZE);
+        this.token = new StringBuilder(16);
+    }
+
+    public static PGNReader open(final Path path) throws IOException {
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        return new PGNReader(new BufferedReader(Channels.newReader(channel,
+                StandardCharsets.UTF_8.newDecoder()
+                        .onMalformedInput(CodingErrorAction.REPLACE)
+                        .onUnmappableCharacter(CodingErrorAction.REPLACE),
+                BUFFER_SIZE), BUFFER_SIZE));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextGame == null) {
+            try {
+                nextGame = readGame();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return nextGame != null;
+    }
+
+    @Override
+    public PGNGame next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final PGNGame game = nextGame;
+        nextGame = null;
+        gamesRead++;
+        return game;
+    }
+
+    public long getGamesRead() {
+        return gamesRead;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private PGNGame readGame() throws IOException {
+        final Map<String, String> tags = new LinkedHashMap<>();
+        final List<String> moves = new ArrayList<>();
+        String result = null;
+        String parseError = null;
+        boolean inComment = false;
+        boolean tagsEnded = false;
+        int variationDepth = 0;
+
+        String line;
+        while ((line = nextLine()) != null) {
+            if (line.isEmpty() && (!tags.isEmpty() || parseError != null)) {
+                tagsEnded = true;
+            }
+            if (!inComment && variationDepth == 0 && line.startsWith("[")) {
+                if (!moves.isEmpty() || tagsEnded) {
+                    pendingLine = line;
+                    break;
+                }
+                try {
+                    parseTag(line, tags);
+                } catch (final ParsePGNException e) {
+                    if (parseError == null) {
+                        parseError = e.getMessage();
+                    }
+                }
+                continue;
+            }
+            if (line.startsWith("%")) {
+                continue;
+            }
+            token.setLength(0);
+            for (int i = 0; i < line.length(); i++) {
+                final char c = line.charAt(i);
+                if (inComment) {
+                    if (c == '}') {
+                        inComment = false;
+                    }
+                    continue;
+                }
+                if (c == '{') {
+                    result = acceptToken(moves, variationDepth, result);
+                    inComment = true;
+                } else if (c == ';') {
+                    break;
+                } else if (c == '(') {
+                    result = acceptToken(moves, variationDepth, result);
+                    variationDepth++;
+                } else if (c == ')') {
+                    result = acceptToken(moves, variationDepth, result);
+                    variationDepth = Math.max(0, variationDepth - 1);
+                } else if (Character.isWhitespace(c)) {
+                    result = acceptToken(moves, variationDepth, result);
+                } else {
+                    token.append(c);
+                }
+            }
+            result = acceptToken(moves, variationDepth, result);
+            if (result != null) {
+                return new PGNGame(tags, moves, result, parseError);
+            }
+        }
+        if (tags.isEmpty() && moves.isEmpty() && parseError == null) {
+            return null;
+        }
+        return new PGNGame(tags, moves, result, parseError);
+    }
+
+    private String nextLine() throws IOException {
+        if (pendingLine != null) {
+            final String line = pendingLine;
+            pendingLine = null;
+            return line;
+        }
+        final String line = reader.readLine();
+        return line != null ? line.trim() : null;
+    }
+
+    private String acceptToken(final List<String> moves, final int variationDepth, final String result) {
+        if (token.length() == 0) {
+            return result;
+        }
+        if (variationDepth > 0 || token.charAt(0) == '$') {
+            token.setLength(0);
+            return result;
+        }
+        final String text = token.toString();
+        token.setLength(0);
+        if (isResult(text)) {
+            return text;
+        }
+        int start = 0;
+        while (start < text.length() && Character.isDigit(text.charAt(start))) {
+            start++;
+        }
+        if (start < text.length() && text.charAt(start) == '.') {
+            while (start < text.length() && text.charAt(start) == '.') {
+                start++;
+            }
+        } else {
+            start = 0;
+        }
+        if (start < text.length()) {
+            moves.add(start == 0 ? text : text.substring(start));
+        }
+        return result;
+    }
+
+    private static boolean isResult(final String text) {
+        return "1-0".equals(text) || "0-1".equals(text) || "1/2-1/2".equals(text) || "*".equals(text);
+    }
+
+    private static void parseTag(final String line, final Map<String, String> tags) {
+        final int nameEnd = line.indexOf(' ');
+        final int valueStart = line.indexOf('"');
+        if (nameEnd < 0 || valueStart < 0) {
+            throw new ParsePGNException("Malformed tag: " + line);
+        }
+        final StringBuilder value = new StringBuilder();
+        for (int i = valueStart + 1; i < line.length(); i++) {
+            final char c = line.charAt(i);
+            if (c == '\\' && i + 1 < line.length()) {
+                value.append(line.charAt(++i));
+            } else if (c == '"') {
+                break;
+            } else {
+                value.append(c);
+            }
+        }
+        tags.put(line.substring(1, nameEnd), value.toString());
+    }
+}
@@ -0,0 +1,268 @@
+package chess.pgn;
+
+import chess.engine.board.Board;
+import chess.engine.board.BoardUtils;
+import chess.engine.board.Move;
+import chess.engine.pieces.Piece;
+import chess.engine.player.MoveTransition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PGNUtilities {
+    private PGNUtilities() {
+        throw new RuntimeException("Not instantiable!");
+    }
+
+    public static Board createStartingBoard(final PGNGame game) {
+        if (game.isMalformed()) {
+            throw new ParsePGNException(game.getParseError());
+        }
+        final String fen = game.getTag("FEN");
+        return fen != null ? FenUtilities.createGameFromFEN(fen) : Board.createStandardBoard();
+    }
+
+    public static List<Move> replayGame(final PGNGame game) {
+        final List<Move> moves = new ArrayList<>(game.getMoves().size());
+        Board board = createStartingBoard(game);
+        for (final String san : game.getMoves()) {
+            final MoveTransition transition = playMove(board, san);
+            moves.add(transition.getMove());
+            board = transition.getTransitionBoard();
+        }
+        return moves;
+    }
+
+    public static Move createMove(final Board board, final String san) {
+        return playMove(board, san).getMove();
+    }
+
+    public static MoveTransition playMove(final Board board, final String san) {
+        final String text = stripAnnotations(san);
+        if (text.startsWith("O-O") || text.startsWith("0-0")) {
+            final boolean queenSide = text.startsWith("O-O-O") || text.startsWith("0-0-0");
+            for (final Move move : board.currentPlayer().getLegalMoves()) {
+                if (move.isCastlingMove() && isQueenSideCastle(move) == queenSide) {
+                    final MoveTransition transition = board.currentPlayer().makeMove(move);
+                    if (transition.getMoveStatus().isDone()) {
+                        return transition;
+                    }
+                }
+            }
+            throw new ParsePGNException("Illegal castle " + san);
+        }
+
+        int end = text.length();
+        boolean promotion = false;
+        if (end > 0 && isPieceLetter(text.charAt(end - 1))) {
+            if (text.charAt(end - 1) != 'Q') {
+                throw new ParsePGNException("Unsupported under-promotion " + san);
+            }
+            promotion = true;
+            end--;
+            if (end > 0 && text.charAt(end - 1) == '=') {
+                end--;
+            }
+        }
+        if (end < 2) {
+            throw new ParsePGNException("Malformed move " + san);
+        }
+        final int destination = coordinateOf(text.charAt(end - 2), text.charAt(end - 1));
+        if (destination < 0) {
+            throw new ParsePGNException("Malformed move " + san);
+        }
+
+        int start = 0;
+        Piece.PieceType pieceType = Piece.PieceType.PAWN;
+        if (isPieceLetter(text.charAt(0))) {
+            pieceType = pieceTypeOf(text.charAt(0));
+            start = 1;
+        }
+        int fromFile = -1;
+        int fromRank = -1;
+        for (int i = start; i < end - 2; i++) {
+            final char c = text.charAt(i);
+            if (c >= 'a' && c <= 'h') {
+                fromFile = c - 'a';
+            } else if (c >= '1' && c <= '8') {
+                fromRank = c - '1';
+            } else if (c != 'x' && c != '-' && c != ':') {
+                throw new ParsePGNException("Malformed move " + san);
+            }
+        }
+
+        Move firstMatch = null;
+        List<Move> matches = null;
+        for (final Move move : board.currentPlayer().getLegalMoves()) {
+            if (move.isCastlingMove()
+                    || move.getDestinationCoordinate() != destination
+                    || move.getMovedPiece().getPieceType() != pieceType
+                    || (move instanceof Move.PawnPromotion) != promotion) {
+                continue;
+            }
+            final int from = move.getCurrentCoordinate();
+            if ((fromFile >= 0 && fileOf(from) != fromFile) || (fromRank >= 0 && rankOf(from) != fromRank)) {
+                continue;
+            }
+            if (firstMatch == null) {
+                firstMatch = move;
+            } else {
+                if (matches == null) {
+                    matches = new ArrayList<>(2);
+                    matches.add(firstMatch);
+                }
+                matches.add(move);
+            }
+        }
+        if (firstMatch == null) {
+            throw new ParsePGNException("Illegal move " + san);
+        }
+        if (matches == null) {
+            final MoveTransition transition = board.currentPlayer().makeMove(firstMatch);
+            if (!transition.getMoveStatus().isDone()) {
+                throw new ParsePGNException("Illegal move " + san);
+            }
+            return transition;
+        }
+        MoveTransition candidate = null;
+        for (final Move move : matches) {
+            final MoveTransition transition = board.currentPlayer().makeMove(move);
+            if (transition.getMoveStatus().isDone()) {
+                if (candidate != null) {
+                    throw new ParsePGNException("Ambiguous move " + san);
+                }
+                candidate = transition;
+            }
+        }
+        if (candidate == null) {
+            throw new ParsePGNException("Illegal move " + san);
+        }
+        return candidate;
+    }
+
+    public static String toSAN(final Move move) {
+        return toSAN(move.getBoard(), move);
+    }
+
+    public static String toSAN(final Board board, final Move move) {
+        final StringBuilder sb = new StringBuilder(8);
+        if (move.isCastlingMove()) {
+            sb.append(isQueenSideCastle(move) ? "O-O-O" : "O-O");
+        } else {
+            final Piece movedPiece = move.getMovedPiece();
+            final String destination = BoardUtils.getPositionAtCoordinate(move.getDestinationCoordinate());
+            if (movedPiece.getPieceType() == Piece.PieceType.PAWN) {
+                if (move.isAttack()) {
+                    sb.append(BoardUtils.getPositionAtCoordinate(move.getCurrentCoordinate()).charAt(0)).append('x');
+                }
+                sb.append(destination);
+                if (move instanceof Move.PawnPromotion) {
+                    sb.append("=Q");
+                }
+            } else {
+                sb.append(movedPiece.getPieceType().toString());
+                appendDisambiguation(sb, board, move);
+                if (move.isAttack()) {
+                    sb.append('x');
+                }
+                sb.append(destination);
+            }
+        }
+        final MoveTransition transition = board.currentPlayer().makeMove(move);
+        if (transition.getMoveStatus().isDone()) {
+            final Board next = transition.getTransitionBoard();
+            if (next.currentPlayer().isInCheckMate()) {
+                sb.append('#');
+            } else if (next.currentPlayer().isInCheck()) {
+                sb.append('+');
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void appendDisambiguation(final StringBuilder sb, final Board board, final Move move) {
+        boolean ambiguous = false;
+        boolean sameFile = false;
+        boolean sameRank = false;
+        final int from = move.getCurrentCoordinate();
+        for (final Move other : board.currentPlayer().getLegalMoves()) {
+            final int otherFrom = other.getCurrentCoordinate();
+            if (otherFrom == from
+                    || other.isCastlingMove()
+                    || other.getDestinationCoordinate() != move.getDestinationCoordinate()
+                    || other.getMovedPiece().getPieceType() != move.getMovedPiece().getPieceType()
+                    || !isLegal(board, other)) {
+                continue;
+            }
+            ambiguous = true;
+            sameFile |= fileOf(otherFrom) == fileOf(from);
+            sameRank |= rankOf(otherFrom) == rankOf(from);
+        }
+        if (!ambiguous) {
+            return;
+        }
+        final String square = BoardUtils.getPositionAtCoordinate(from);
+        if (!sameFile) {
+            sb.append(square.charAt(0));
+        } else if (!sameRank) {
+            sb.append(square.charAt(1));
+        } else {
+            sb.append(square);
+        }
+    }
+
+    private static boolean isLegal(final Board board, final Move move) {
+        return board.currentPlayer().makeMove(move).getMoveStatus().isDone();
+    }
+
+    private static boolean isQueenSideCastle(final Move move) {
+        return move instanceof Move.QueenSideCastleMove;
+    }
+
+    private static String stripAnnotations(final String san) {
+        int end = san.length();
+        while (end > 0) {
+            final char c = san.charAt(end - 1);
+            if (c == '+' || c == '#' || c == '!' || c == '?') {
+                end--;
+            } else {
+                break;
+            }
+        }
+        return san.substring(0, end);
+    }
+
+    private static boolean isPieceLetter(final char c) {
+        return c == 'N' || c == 'B' || c == 'R' || c == 'Q' || c == 'K';
+    }
+
+    private static Piece.PieceType pieceTypeOf(final char c) {
+        switch (c) {
+            case 'N':
+                return Piece.PieceType.KNIGHT;
+            case 'B':
+                return Piece.PieceType.BISHOP;
+            case 'R':
+                return Piece.PieceType.ROOK;
+            case 'Q':
+                return Piece.PieceType.QUEEN;
+            default:
+                return Piece.PieceType.KING;
+        }
+    }
+
+    private static int coordinateOf(final char file, final char rank) {
+        if (file < 'a' || file > 'h' || rank < '1' || rank > '8') {
+            return -1;
+        }
+        return ('8' - rank) * BoardUtils.NUM_TILES_PER_ROW + (file - 'a');
+    }
+
+    private static int fileOf(final int coordinate) {
+        return coordinate % BoardUtils.NUM_TILES_PER_ROW;
+    }
+
+    private static int rankOf(final int coordinate) {
+        return BoardUtils.NUM_TILES_PER_ROW - 1 - coordinate / BoardUtils.NUM_TILES_PER_ROW;
+    }
+}
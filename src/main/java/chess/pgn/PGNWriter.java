@@ -0,0 +1,185 @@
+package chess.pgn;
+
+import chess.engine.board.Board;
+import chess.engine.board.Move;
+import chess.game.GameTree;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class PGNWriter implements Closeable, Flushable {
+    private static final int MAX_LINE_LENGTH = 80;
+    private static final String[] SEVEN_TAG_ROSTER = {"Event", "Site", "Date", "Round", "White", "Black", "Result"};
+    private static final String[] SEVEN_TAG_DEFAULTS = {"?", "?", "????.??.??", "?", "?", "?", PGNGame.UNKNOWN_RESULT};
+
+    private final Writer writer;
+
+    public PGNWriter(final Writer writer) {
+        this.writer = writer;
+    }
+
+    public static PGNWriter open(final Path path) throws IOException {
+        return new PGNWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8));
+    }
+
+    public void writeGame(final Map<String, String> tags,
+                          final Board startingBoard,
+                          final List<Move> moves,
+                          final String result) throws IOException {
+        final String gameResult = writeTags(tags, startingBoard, result);
+        final StringBuilder line = new StringBuilder(MAX_LINE_LENGTH + 16);
+        for (final Move move : moves) {
+            final Board board = move.getBoard();
+            if (board.currentPlayer().getAlliance().isWhite()) {
+                appendToken(line, board.getFullMoveNumber() + ".");
+            } else if (move == moves.get(0)) {
+                appendToken(line, board.getFullMoveNumber() + "...");
+            }
+            appendToken(line, PGNUtilities.toSAN(board, move));
+        }
+        appendToken(line, gameResult);
+        writer.write(line.toString());
+        writer.write("\n\n");
+    }
+
+    public void writeGame(final Map<String, String> tags,
+                          final GameTree tree,
+                          final String result) throws IOException {
+        final GameTree.Node root = tree.getRoot();
+        final String gameResult = writeTags(tags, root.getBoard(), result);
+        final StringBuilder line = new StringBuilder(MAX_LINE_LENGTH + 16);
+        appendComment(line, root);
+        writeLine(line, root, root.getBoard(), true,
+                Collections.newSetFromMap(new IdentityHashMap<GameTree.Node, Boolean>()));
+        appendToken(line, gameResult);
+        writer.write(line.toString());
+        writer.write("\n\n");
+    }
+
+    public void writeGame(final PGNGame game) throws IOException {
+        writeGame(game.getTags(), PGNUtilities.createStartingBoard(game), PGNUtilities.replayGame(game), game.getResult());
+    }
+
+    private String writeTags(final Map<String, String> tags,
+                             final Board startingBoard,
+                             final String result) throws IOException {
+        final String gameResult = result != null ? result : PGNGame.UNKNOWN_RESULT;
+        final Map<String, String> allTags = new LinkedHashMap<>();
+        for (int i = 0; i < SEVEN_TAG_ROSTER.length; i++) {
+            final String value = tags.get(SEVEN_TAG_ROSTER[i]);
+            allTags.put(SEVEN_TAG_ROSTER[i], value != null ? value : SEVEN_TAG_DEFAULTS[i]);
+        }
+        allTags.put("Result", gameResult);
+        if (startingBoard != null) {
+            final String fen = FenUtilities.createFENFromGame(startingBoard);
+            if (!FenUtilities.STANDARD_START_FEN.equals(fen)) {
+                allTags.put("SetUp", "1");
+                allTags.put("FEN", fen);
+            }
+        }
+        for (final Map.Entry<String, String> tag : tags.entrySet()) {
+            if (!allTags.containsKey(tag.getKey())) {
+                allTags.put(tag.getKey(), tag.getValue());
+            }
+        }
+        for (final Map.Entry<String, String> tag : allTags.entrySet()) {
+            writer.write('[');
+            writer.write(tag.getKey());
+            writer.write(" \"");
+            writer.write(tag.getValue().replace("\\", "\\\\").replace("\"", "\\\""));
+            writer.write("\"]\n");
+        }
+        writer.write('\n');
+        return gameResult;
+    }
+
+    private void writeLine(final StringBuilder line,
+                           final GameTree.Node start,
+                           final Board startBoard,
+                           final boolean numberFirstMove,
+                           final Set<GameTree.Node> path) throws IOException {
+        GameTree.Node node = start;
+        Board board = startBoard;
+        boolean needsNumber = numberFirstMove;
+        final List<GameTree.Node> added = new ArrayList<>();
+        while (!node.isLeaf() && path.add(node)) {
+            added.add(node);
+            final List<GameTree.Edge> edges = node.getEdges();
+            final GameTree.Edge main = edges.get(0);
+            appendMove(line, "", board, main, needsNumber);
+            for (int i = 1; i < edges.size(); i++) {
+                final GameTree.Edge variation = edges.get(i);
+                appendMove(line, "(", board, variation, true);
+                writeLine(line, variation.getChild(), variation.getBoard(), false, path);
+                appendToken(line, "", ")");
+            }
+            needsNumber = edges.size() > 1 || main.getChild().getComment() != null;
+            node = main.getChild();
+            board = main.getBoard();
+        }
+        path.removeAll(added);
+    }
+
+    private void appendMove(final StringBuilder line,
+                            final String prefix,
+                            final Board board,
+                            final GameTree.Edge edge,
+                            final boolean needsNumber) throws IOException {
+        final String san = PGNUtilities.toSAN(board, edge.getMove());
+        final int moveNumber = board.getFullMoveNumber();
+        if (board.currentPlayer().getAlliance().isWhite()) {
+            appendToken(line, prefix + moveNumber + ".");
+            appendToken(line, san);
+        } else if (needsNumber) {
+            appendToken(line, prefix + moveNumber + "...");
+            appendToken(line, san);
+        } else {
+            appendToken(line, prefix + san);
+        }
+        appendComment(line, edge.getChild());
+    }
+
+    private void appendComment(final StringBuilder line, final GameTree.Node node) throws IOException {
+        if (node.getComment() != null) {
+            appendToken(line, "{" + node.getComment().replace('}', ')') + "}");
+        }
+    }
+
+    private void appendToken(final StringBuilder line, final String token) throws IOException {
+        appendToken(line, " ", token);
+    }
+
+    private void appendToken(final StringBuilder line, final String separator, final String token) throws IOException {
+        if (line.length() > 0 && line.length() + separator.length() + token.length() > MAX_LINE_LENGTH) {
+            writer.write(line.toString());
+            writer.write('\n');
+            line.setLength(0);
+        }
+        if (line.length() > 0) {
+            line.append(separator);
+        }
+        line.append(token);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,7 @@
+package chess.pgn;
+
+public class ParsePGNException extends RuntimeException {
+    public ParsePGNException(final String message) {
+        super(message);
+    }
+}
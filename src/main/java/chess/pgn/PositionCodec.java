@@ -0,0 +1,86 @@
+package chess.pgn;
+
+import chess.engine.Alliance;
+import chess.engine.board.Board;
+import chess.engine.board.BoardUtils;
+import chess.engine.pieces.Piece;
+
+import java.nio.ByteBuffer;
+
+public class PositionCodec {
+    public static final int POSITION_BYTES = 32;
+
+    private static final int PIECES_OFFSET = 8;
+    private static final int MAX_PIECES = 32;
+    private static final int FLAGS_OFFSET = 24;
+    private static final int EN_PASSANT_OFFSET = 25;
+    private static final int HALF_MOVE_OFFSET = 26;
+    private static final int FULL_MOVE_OFFSET = 27;
+    private static final int BLACK_TO_MOVE = 1;
+    private static final String PIECE_CODES = "PpNnBbRrQqKk";
+
+    private PositionCodec() {
+        throw new RuntimeException("Not instantiable!");
+    }
+
+    public static byte[] encode(final Board board) {
+        final byte[] packed = new byte[POSITION_BYTES];
+        encode(board, ByteBuffer.wrap(packed), 0);
+        return packed;
+    }
+
+    public static void encode(final Board board, final ByteBuffer buffer, final int offset) {
+        long occupancy = 0L;
+        int pieceCount = 0;
+        for (int i = 0; i < POSITION_BYTES; i++) {
+            buffer.put(offset + i, (byte) 0);
+        }
+        for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+            final Piece piece = board.getTile(i).getPiece();
+            if (piece == null) {
+                continue;
+            }
+            if (pieceCount == MAX_PIECES) {
+                throw new RuntimeException("Too many pieces to pack: " + FenUtilities.createFENFromGame(board));
+            }
+            occupancy |= 1L << i;
+            final int code = piece.getPieceType().ordinal() * 2 + piece.getPieceAlliance().ordinal();
+            final int index = offset + PIECES_OFFSET + pieceCount / 2;
+            final int shift = (pieceCount & 1) == 0 ? 0 : 4;
+            buffer.put(index, (byte) (buffer.get(index) | code << shift));
+            pieceCount++;
+        }
+        buffer.putLong(offset, occupancy);
+        final int flags = (board.currentPlayer().getAlliance().isBlack() ? BLACK_TO_MOVE : 0)
+                | FenUtilities.castlingRights(board) << 1;
+        buffer.put(offset + FLAGS_OFFSET, (byte) flags);
+        buffer.put(offset + EN_PASSANT_OFFSET, (byte) (FenUtilities.enPassantTarget(board) + 1));
+        buffer.put(offset + HALF_MOVE_OFFSET, (byte) Math.min(board.getHalfMoveClock(), 255));
+        buffer.putShort(offset + FULL_MOVE_OFFSET, (short) Math.min(board.getFullMoveNumber(), 0xFFFF));
+    }
+
+    public static Board decode(final byte[] packed) {
+        return decode(ByteBuffer.wrap(packed), 0);
+    }
+
+    public static Board decode(final ByteBuffer buffer, final int offset) {
+        final char[] placement = new char[BoardUtils.NUM_TILES];
+        long occupancy = buffer.getLong(offset);
+        int pieceCount = 0;
+        while (occupancy != 0) {
+            final int tile = Long.numberOfTrailingZeros(occupancy);
+            occupancy &= occupancy - 1;
+            final int packedPieces = buffer.get(offset + PIECES_OFFSET + pieceCount / 2);
+            final int code = (pieceCount & 1) == 0 ? packedPieces & 0xF : (packedPieces >>> 4) & 0xF;
+            placement[tile] = PIECE_CODES.charAt(code);
+            pieceCount++;
+        }
+        final int flags = buffer.get(offset + FLAGS_OFFSET);
+        return FenUtilities.createBoard(placement,
+                (flags & BLACK_TO_MOVE) != 0 ? Alliance.BLACK : Alliance.WHITE,
+                (flags >>> 1) & 0xF,
+                buffer.get(offset + EN_PASSANT_OFFSET) - 1,
+                buffer.get(offset + HALF_MOVE_OFFSET) & 0xFF,
+                Math.max(1, buffer.getShort(offset + FULL_MOVE_OFFSET) & 0xFFFF));
+    }
+}
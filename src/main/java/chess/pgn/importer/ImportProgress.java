@@ -0,0 +1,62 @@
+package chess.pgn.importer;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class ImportProgress {
+    private final long startTime;
+    private final LongAdder gamesRead = new LongAdder();
+    private final LongAdder gamesReplayed = new LongAdder();
+    private final LongAdder gamesFailed = new LongAdder();
+    private final LongAdder positionsWritten = new LongAdder();
+
+    ImportProgress() {
+        startTime = System.currentTimeMillis();
+    }
+
+    void gameRead() {
+        gamesRead.increment();
+    }
+
+    void gameReplayed() {
+        gamesReplayed.increment();
+    }
+
+    void gameFailed() {
+        gamesFailed.increment();
+    }
+
+    void positionsWritten(final int count) {
+        positionsWritten.add(count);
+    }
+
+    public long getGamesRead() {
+        return gamesRead.sum();
+    }
+
+    public long getGamesReplayed() {
+        return gamesReplayed.sum();
+    }
+
+    public long getGamesFailed() {
+        return gamesFailed.sum();
+    }
+
+    public long getPositionsWritten() {
+        return positionsWritten.sum();
+    }
+
+    public long getElapsedMillis() {
+        return System.currentTimeMillis() - startTime;
+    }
+
+    public long getGamesPerMinute() {
+        final long elapsed = Math.max(1, getElapsedMillis());
+        return (getGamesReplayed() + getGamesFailed()) * 60000 / elapsed;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("read %d, replayed %d, failed %d, positions %d, %d games/min",
+                getGamesRead(), getGamesReplayed(), getGamesFailed(), getPositionsWritten(), getGamesPerMinute());
+    }
+}
@@ -0,0 +1,282 @@
+package chess.pgn.importer;
+
+import chess.engine.board.Board;
+import chess.engine.board.MoveCodec;
+import chess.engine.player.MoveTransition;
+import chess.pgn.PGNGame;
+import chess.pgn.PGNReader;
+import chess.pgn.PGNUtilities;
+import chess.pgn.ParsePGNException;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class PGNImportPipeline {
+    private static final PGNGame END_OF_GAMES = new PGNGame(
+            Collections.<String, String>emptyMap(), Collections.<String>emptyList(), null);
+    private static final PositionBatch END_OF_BATCHES = new PositionBatch(0);
+    private static final int MAX_GAME_PLIES = 12000;
+
+    private final Path pgnPath;
+    private final PositionSink sink;
+    private final int workerCount;
+    private final int batchSize;
+    private final long progressIntervalSeconds;
+    private final PrintStream progressOutput;
+    private final BlockingQueue<PGNGame> gameQueue;
+    private final BlockingQueue<PositionBatch> batchQueue;
+    private final ImportProgress progress;
+    private volatile Throwable failure;
+
+    private PGNImportPipeline(final Builder builder) {
+        pgnPath = builder.pgnPath;
+        sink = builder.sink;
+        workerCount = builder.workerCount;
+        batchSize = builder.batchSize;
+        progressIntervalSeconds = builder.progressIntervalSeconds;
+        progressOutput = builder.progressOutput;
+        gameQueue = new ArrayBlockingQueue<>(builder.gameQueueCapacity);
+        batchQueue = new ArrayBlockingQueue<>(builder.batchQueueCapacity);
+        progress = new ImportProgress();
+    }
+
+    public ImportProgress getProgress() {
+        return progress;
+    }
+
+    public ImportProgress run() throws IOException {
+        final Thread readerThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                readGames();
+            }
+        }, "pgn-import-reader");
+        final List<Thread> workerThreads = new ArrayList<>();
+        for (int i = 0; i < workerCount; i++) {
+            workerThreads.add(new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    replayGames();
+                }
+            }, "pgn-import-worker-" + i));
+        }
+        final Thread sinkThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                writeBatches();
+            }
+        }, "pgn-import-sink");
+
+        final ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        if (progressOutput != null && progressIntervalSeconds > 0) {
+            reporter.scheduleAtFixedRate(new Runnable() {
+                @Override
+                public void run() {
+                    progressOutput.println(progress);
+                }
+            }, progressIntervalSeconds, progressIntervalSeconds, TimeUnit.SECONDS);
+        }
+
+        try {
+            sinkThread.start();
+            for (final Thread workerThread : workerThreads) {
+                workerThread.start();
+            }
+            readerThread.start();
+            readerThread.join();
+            for (final Thread workerThread : workerThreads) {
+                workerThread.join();
+            }
+            batchQueue.put(END_OF_BATCHES);
+            sinkThread.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Import interrupted", e);
+        } finally {
+            reporter.shutdownNow();
+            sink.close();
+        }
+        if (failure != null) {
+            throw new IOException("Import failed", failure);
+        }
+        return progress;
+    }
+
+    private void readGames() {
+        try (final PGNReader reader = PGNReader.open(pgnPath)) {
+            while (failure == null && reader.hasNext()) {
+                gameQueue.put(reader.next());
+                progress.gameRead();
+            }
+        } catch (final Throwable t) {
+            failure = t;
+        } finally {
+            for (int i = 0; i < workerCount; i++) {
+                putUninterruptibly(gameQueue, END_OF_GAMES);
+            }
+        }
+    }
+
+    private void replayGames() {
+        final PositionBatch gameRecords = new PositionBatch(MAX_GAME_PLIES);
+        PositionBatch batch = new PositionBatch(batchSize);
+        try {
+            PGNGame game;
+            while ((game = gameQueue.take()) != END_OF_GAMES) {
+                if (failure != null) {
+                    continue;
+                }
+                try {
+                    replayGame(game, gameRecords);
+                } catch (final RuntimeException e) {
+                    progress.gameFailed();
+                    continue;
+                } catch (final Throwable t) {
+                    failure = t;
+                    continue;
+                }
+                final byte result = game.getResultCode();
+                for (int i = 0; i < gameRecords.size(); i++) {
+                    if (batch.isFull()) {
+                        batchQueue.put(batch);
+                        batch = new PositionBatch(batchSize);
+                    }
+                    batch.add(gameRecords.getHash(i), gameRecords.getMove(i), result);
+                }
+                progress.gameReplayed();
+            }
+            if (batch.size() > 0) {
+                batchQueue.put(batch);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = e;
+        }
+    }
+
+    private static void replayGame(final PGNGame game, final PositionBatch gameRecords) {
+        gameRecords.clear();
+        Board board = PGNUtilities.createStartingBoard(game);
+        for (final String san : game.getMoves()) {
+            if (gameRecords.isFull()) {
+                throw new ParsePGNException("Game longer than " + MAX_GAME_PLIES + " plies");
+            }
+            final MoveTransition transition = PGNUtilities.playMove(board, san);
+            gameRecords.add(board.getZobristHash(), MoveCodec.encode(transition.getMove()), (byte) 0);
+            board = transition.getTransitionBoard();
+        }
+    }
+
+    private void writeBatches() {
+        try {
+            PositionBatch batch;
+            while ((batch = batchQueue.take()) != END_OF_BATCHES) {
+                if (failure != null) {
+                    continue;
+                }
+                try {
+                    sink.write(batch);
+                    progress.positionsWritten(batch.size());
+                } catch (final Throwable t) {
+                    failure = t;
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = e;
+        }
+    }
+
+    private static <T> void putUninterruptibly(final BlockingQueue<T> queue, final T element) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                queue.put(element);
+                break;
+            } catch (final InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: PGNImportPipeline <games.pgn> <positions.bin> [workers]");
+            return;
+        }
+        final Builder builder = new Builder(Paths.get(args[0]), new BinaryPositionSink(Paths.get(args[1])))
+                .setProgressOutput(System.err);
+        if (args.length > 2) {
+            builder.setWorkerCount(Integer.parseInt(args[2]));
+        }
+        System.err.println("done: " + builder.build().run());
+    }
+
+    public static class Builder {
+        private final Path pgnPath;
+        private final PositionSink sink;
+        private int workerCount;
+        private int gameQueueCapacity;
+        private int batchQueueCapacity;
+        private int batchSize;
+        private long progressIntervalSeconds;
+        private PrintStream progressOutput;
+
+        public Builder(final Path pgnPath, final PositionSink sink) {
+            this.pgnPath = pgnPath;
+            this.sink = sink;
+            this.workerCount = Runtime.getRuntime().availableProcessors();
+            this.gameQueueCapacity = 1024;
+            this.batchQueueCapacity = 64;
+            this.batchSize = 4096;
+            this.progressIntervalSeconds = 10;
+        }
+
+        public Builder setWorkerCount(final int workerCount) {
+            this.workerCount = Math.max(1, workerCount);
+            return this;
+        }
+
+        public Builder setGameQueueCapacity(final int gameQueueCapacity) {
+            this.gameQueueCapacity = Math.max(1, gameQueueCapacity);
+            return this;
+        }
+
+        public Builder setBatchQueueCapacity(final int batchQueueCapacity) {
+            this.batchQueueCapacity = Math.max(1, batchQueueCapacity);
+            return this;
+        }
+
+        public Builder setBatchSize(final int batchSize) {
+            this.batchSize = Math.max(1, batchSize);
+            return this;
+        }
+
+        public Builder setProgressIntervalSeconds(final long progressIntervalSeconds) {
+            this.progressIntervalSeconds = progressIntervalSeconds;
+            return this;
+        }
+
+        public Builder setProgressOutput(final PrintStream progressOutput) {
+            this.progressOutput = progressOutput;
+            return this;
+        }
+
+        public PGNImportPipeline build() {
+            return new PGNImportPipeline(this);
+        }
+    }
+}
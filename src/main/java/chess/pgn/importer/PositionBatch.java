@@ -0,0 +1,45 @@
+package chess.pgn.importer;
+
+public final class PositionBatch {
+    private final long[] hashes;
+    private final short[] moves;
+    private final byte[] results;
+    private int size;
+
+    public PositionBatch(final int capacity) {
+        hashes = new long[capacity];
+        moves = new short[capacity];
+        results = new byte[capacity];
+    }
+
+    public void add(final long hash, final short move, final byte result) {
+        hashes[size] = hash;
+        moves[size] = move;
+        results[size] = result;
+        size++;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public boolean isFull() {
+        return size == hashes.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getHash(final int index) {
+        return hashes[index];
+    }
+
+    public short getMove(final int index) {
+        return moves[index];
+    }
+
+    public byte getResult(final int index) {
+        return results[index];
+    }
+}
@@ -0,0 +1,8 @@
+package chess.pgn.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface PositionSink extends Closeable {
+    void write(PositionBatch batch) throws IOException;
+}
@@ -0,0 +1,120 @@
+package chess.server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class ClientConnection {
+    private static final int READ_BUFFER_SIZE = 4096;
+    private static final int MAX_LINE_LENGTH = 4096;
+
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final ByteBuffer readBuffer;
+    private final StringBuilder line;
+    private final Queue<String> commands;
+    private final Queue<ByteBuffer> output;
+    private final AtomicBoolean processing;
+    private volatile boolean closeAfterFlush;
+
+    ClientConnection(final SocketChannel channel, final SelectionKey key) {
+        this.channel = channel;
+        this.key = key;
+        this.readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        this.line = new StringBuilder(64);
+        this.commands = new ConcurrentLinkedQueue<>();
+        this.output = new ConcurrentLinkedQueue<>();
+        this.processing = new AtomicBoolean();
+    }
+
+    SelectionKey getKey() {
+        return key;
+    }
+
+    List<String> read() throws IOException {
+        readBuffer.clear();
+        final int count = channel.read(readBuffer);
+        if (count < 0) {
+            return null;
+        }
+        final List<String> lines = new ArrayList<>();
+        readBuffer.flip();
+        while (readBuffer.hasRemaining()) {
+            final char c = (char) (readBuffer.get() & 0xFF);
+            if (c == '\n') {
+                final String text = line.toString().trim();
+                line.setLength(0);
+                if (!text.isEmpty()) {
+                    lines.add(text);
+                }
+            } else if (c != '\r' && line.length() < MAX_LINE_LENGTH) {
+                line.append(c);
+            }
+        }
+        return lines;
+    }
+
+    boolean write() throws IOException {
+        ByteBuffer buffer;
+        while ((buffer = output.peek()) != null) {
+            channel.write(buffer);
+            if (buffer.hasRemaining()) {
+                return false;
+            }
+            output.poll();
+        }
+        return true;
+    }
+
+    void send(final String message) {
+        output.add(ByteBuffer.wrap((message + "\n").getBytes(StandardCharsets.UTF_8)));
+    }
+
+    boolean hasPendingOutput() {
+        return !output.isEmpty();
+    }
+
+    void enqueueCommand(final String command) {
+        commands.add(command);
+    }
+
+    String pollCommand() {
+        return commands.poll();
+    }
+
+    boolean hasCommands() {
+        return !commands.isEmpty();
+    }
+
+    boolean startProcessing() {
+        return processing.compareAndSet(false, true);
+    }
+
+    void stopProcessing() {
+        processing.set(false);
+    }
+
+    void closeAfterFlush() {
+        closeAfterFlush = true;
+    }
+
+    boolean isCloseAfterFlush() {
+        return closeAfterFlush;
+    }
+
+    void close() {
+        key.cancel();
+        try {
+            channel.close();
+        } catch (final IOException e) {
+            // already closed by the peer
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package chess.server;
+
+import chess.analysis.AnalysisCache;
+import chess.engine.board.Board;
+import chess.engine.board.Move;
+import chess.engine.player.MoveTransition;
+import chess.engine.player.ai.AlphaBeta;
+import chess.engine.player.ai.SearchLimits;
+import chess.engine.player.ai.StandardBoardEvaluator;
+import chess.engine.player.ai.TranspositionTable;
+import chess.pgn.FenUtilities;
+import chess.uci.UciEngine;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+class GameProtocol {
+    static final int DEFAULT_SEARCH_DEPTH = 3;
+    static final int MAX_SEARCH_DEPTH = 6;
+    private static final int SEARCH_HASH_MB = 4;
+
+    private final GameRegistry registry;
+    private final AtomicLong commandsProcessed;
+    private final ThreadLocal<AlphaBeta> searches;
+    private final AnalysisCache analysisCache;
+
+    GameProtocol(final GameRegistry registry) {
+        this.registry = registry;
+        this.commandsProcessed = new AtomicLong();
+        this.analysisCache = new AnalysisCache(AnalysisCache.DEFAULT_MAX_ENTRIES, AnalysisCache.DEFAULT_MAX_BYTES);
+        this.searches = new ThreadLocal<AlphaBeta>() {
+            @Override
+            protected AlphaBeta initialValue() {
+                return new AlphaBeta(new StandardBoardEvaluator(),
+                        new TranspositionTable(SEARCH_HASH_MB), 1, DEFAULT_SEARCH_DEPTH);
+            }
+        };
+    }
+
+    long getCommandsProcessed() {
+        return commandsProcessed.get();
+    }
+
+    String handle(final ClientConnection connection, final String command) {
+        commandsProcessed.incrementAndGet();
+        final String[] tokens = command.split("\\s+");
+        try {
+            switch (tokens[0]) {
+                case "ping":
+                    return "pong";
+                case "new":
+                    return newGame(command);
+                case "move":
+                    return move(tokens);
+                case "go":
+                    return go(tokens);
+                case "legal":
+                    return legal(tokens);
+                case "show":
+                    final ServerGame shown = game(tokens);
+                    return "game " + shown.getId() + " " + shown.describe();
+                case "close":
+                    final long id = parseId(tokens);
+                    return registry.remove(id) ? "closed " + id : "error unknown game " + id;
+                case "stats":
+                    return "stats games " + registry.size()
+                            + " created " + registry.getGamesCreated()
+                            + " commands " + commandsProcessed.get()
+                            + " cache " + analysisCache;
+                case "quit":
+                    connection.closeAfterFlush();
+                    return "bye";
+                default:
+                    return "error unknown command " + tokens[0];
+            }
+        } catch (final RuntimeException e) {
+            return "error " + e.getMessage();
+        }
+    }
+
+    private String newGame(final String command) {
+        final String fen = command.length() > 3 ? command.substring(3).trim() : "";
+        final Board board = fen.isEmpty() ? Board.createStandardBoard() : FenUtilities.createGameFromFEN(fen);
+        final ServerGame game = registry.create(board);
+        if (game == null) {
+            return "error server full";
+        }
+        return "game " + game.getId() + " " + FenUtilities.createFENFromGame(board);
+    }
+
+    private String move(final String[] tokens) {
+        if (tokens.length < 3) {
+            throw new IllegalArgumentException("usage: move <id> <move>");
+        }
+        final ServerGame game = game(tokens);
+        return moved(game, game.play(tokens[2]));
+    }
+
+    private String go(final String[] tokens) {
+        final ServerGame game = game(tokens);
+        final int depth = tokens.length > 2
+                ? Math.max(1, Math.min(MAX_SEARCH_DEPTH, Integer.parseInt(tokens[2])))
+                : DEFAULT_SEARCH_DEPTH;
+        final Board board = game.getBoard();
+        if (board.isGameOver()) {
+            return "error game over " + ServerGame.status(board);
+        }
+        final Move bestMove = analysisCache.search(searches.get(), board, SearchLimits.depth(depth)).getBestMove();
+        return moved(game, game.play(bestMove));
+    }
+
+    private String legal(final String[] tokens) {
+        final Board board = game(tokens).getBoard();
+        final StringBuilder sb = new StringBuilder("legal ").append(tokens[1]);
+        if (!board.isGameOver()) {
+            for (final Move move : board.currentPlayer().getLegalMoves()) {
+                if (board.currentPlayer().makeMove(move).getMoveStatus().isDone()) {
+                    sb.append(' ').append(UciEngine.toUci(move));
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    private String moved(final ServerGame game, final MoveTransition transition) {
+        if (!transition.getMoveStatus().isDone()) {
+            return "error illegal move " + game.getId();
+        }
+        final Board board = transition.getTransitionBoard();
+        return "moved " + game.getId() + " " + UciEngine.toUci(transition.getMove()) + " "
+                + ServerGame.status(board) + " " + FenUtilities.createFENFromGame(board);
+    }
+
+    private ServerGame game(final String[] tokens) {
+        final long id = parseId(tokens);
+        final ServerGame game = registry.get(id);
+        if (game == null) {
+            throw new IllegalArgumentException("unknown game " + id);
+        }
+        return game;
+    }
+
+    private static long parseId(final String[] tokens) {
+        if (tokens.length < 2) {
+            throw new IllegalArgumentException("missing game id");
+        }
+        try {
+            return Long.parseLong(tokens[1]);
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("bad game id " + tokens[1]);
+        }
+    }
+}
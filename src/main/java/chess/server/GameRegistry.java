@@ -0,0 +1,47 @@
+package chess.server;
+
+import chess.engine.board.Board;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+class GameRegistry {
+    private final ConcurrentMap<Long, ServerGame> games;
+    private final AtomicLong nextId;
+    private final AtomicLong gamesCreated;
+    private final int maxGames;
+
+    GameRegistry(final int maxGames) {
+        this.games = new ConcurrentHashMap<>();
+        this.nextId = new AtomicLong(1);
+        this.gamesCreated = new AtomicLong();
+        this.maxGames = maxGames;
+    }
+
+    ServerGame create(final Board board) {
+        if (games.size() >= maxGames) {
+            return null;
+        }
+        final ServerGame game = new ServerGame(nextId.getAndIncrement(), board);
+        games.put(game.getId(), game);
+        gamesCreated.incrementAndGet();
+        return game;
+    }
+
+    ServerGame get(final long id) {
+        return games.get(id);
+    }
+
+    boolean remove(final long id) {
+        return games.remove(id) != null;
+    }
+
+    int size() {
+        return games.size();
+    }
+
+    long getGamesCreated() {
+        return gamesCreated.get();
+    }
+}
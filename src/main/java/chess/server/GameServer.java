@@ -0,0 +1,232 @@
+package chess.server;
+
+import chess.engine.metrics.MetricsReporter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class GameServer implements Runnable, Closeable {
+    public static final int DEFAULT_PORT = 7878;
+    public static final int DEFAULT_MAX_GAMES = 100000;
+
+    private final ServerSocketChannel serverChannel;
+    private final Selector selector;
+    private final ExecutorService workers;
+    private final GameProtocol protocol;
+    private final Queue<ClientConnection> pendingWrites;
+    private final AtomicInteger connectionCount;
+    private volatile boolean running;
+
+    public GameServer(final int port, final int workerCount, final int maxGames) throws IOException {
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        this.serverChannel.configureBlocking(false);
+        this.serverChannel.bind(new InetSocketAddress(port), 1024);
+        this.serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        this.workers = Executors.newFixedThreadPool(Math.max(1, workerCount), new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(final Runnable runnable) {
+                final Thread thread = new Thread(runnable, "game-server-worker-" + count.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        this.protocol = new GameProtocol(new GameRegistry(maxGames));
+        this.pendingWrites = new ConcurrentLinkedQueue<>();
+        this.connectionCount = new AtomicInteger();
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    public Thread start() {
+        final Thread thread = new Thread(this, "game-server-selector");
+        thread.start();
+        return thread;
+    }
+
+    @Override
+    public void run() {
+        running = true;
+        try {
+            while (running) {
+                selector.select();
+                registerPendingWrites();
+                final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    final SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        final ClientConnection connection = (ClientConnection) key.attachment();
+                        try {
+                            if (key.isReadable()) {
+                                read(connection);
+                            }
+                            if (key.isValid() && key.isWritable()) {
+                                write(connection);
+                            }
+                        } catch (final IOException e) {
+                            disconnect(connection);
+                        }
+                    }
+                }
+            }
+        } catch (final IOException e) {
+            if (running) {
+                throw new IllegalStateException("Game server failed", e);
+            }
+        } finally {
+            closeQuietly();
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        selector.wakeup();
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            final SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+            key.attach(new ClientConnection(channel, key));
+            connectionCount.incrementAndGet();
+        }
+    }
+
+    private void read(final ClientConnection connection) throws IOException {
+        final List<String> lines = connection.read();
+        if (lines == null) {
+            disconnect(connection);
+            return;
+        }
+        for (final String line : lines) {
+            connection.enqueueCommand(line);
+        }
+        if (!lines.isEmpty()) {
+            schedule(connection);
+        }
+    }
+
+    private void write(final ClientConnection connection) throws IOException {
+        if (connection.write()) {
+            if (connection.isCloseAfterFlush()) {
+                disconnect(connection);
+            } else {
+                connection.getKey().interestOps(SelectionKey.OP_READ);
+            }
+        }
+    }
+
+    private void schedule(final ClientConnection connection) {
+        if (connection.startProcessing()) {
+            workers.execute(new Runnable() {
+                @Override
+                public void run() {
+                    process(connection);
+                }
+            });
+        }
+    }
+
+    private void process(final ClientConnection connection) {
+        while (true) {
+            String command;
+            while ((command = connection.pollCommand()) != null) {
+                connection.send(protocol.handle(connection, command));
+                if (connection.isCloseAfterFlush()) {
+                    break;
+                }
+            }
+            connection.stopProcessing();
+            if (connection.isCloseAfterFlush() || !connection.hasCommands() || !connection.startProcessing()) {
+                break;
+            }
+        }
+        pendingWrites.add(connection);
+        selector.wakeup();
+    }
+
+    private void registerPendingWrites() {
+        ClientConnection connection;
+        while ((connection = pendingWrites.poll()) != null) {
+            final SelectionKey key = connection.getKey();
+            if (!key.isValid()) {
+                continue;
+            }
+            try {
+                write(connection);
+                if (key.isValid() && connection.hasPendingOutput()) {
+                    key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                }
+            } catch (final IOException e) {
+                disconnect(connection);
+            }
+        }
+    }
+
+    private void disconnect(final ClientConnection connection) {
+        if (connection.getKey().isValid()) {
+            connectionCount.decrementAndGet();
+        }
+        connection.close();
+    }
+
+    private void closeQuietly() {
+        workers.shutdownNow();
+        try {
+            workers.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (final SelectionKey key : selector.keys()) {
+            if (key.attachment() instanceof ClientConnection) {
+                ((ClientConnection) key.attachment()).close();
+            }
+        }
+        try {
+            serverChannel.close();
+            selector.close();
+        } catch (final IOException e) {
+            // shutting down anyway
+        }
+    }
+
+    public static void main(final String[] args) throws IOException {
+        final int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        final int workerCount = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        MetricsReporter.startIfEnabled(System.err);
+        final GameServer server = new GameServer(port, workerCount, DEFAULT_MAX_GAMES);
+        System.err.println("game server listening on port " + server.getPort() + " with " + workerCount + " workers");
+        server.run();
+    }
+}
@@ -0,0 +1,69 @@
+package chess.server;
+
+import chess.engine.board.Board;
+import chess.engine.board.Move;
+import chess.engine.player.MoveStatus;
+import chess.engine.player.MoveTransition;
+import chess.pgn.FenUtilities;
+import chess.uci.UciEngine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class ServerGame {
+    private final long id;
+    private final List<Move> moveLog;
+    private Board board;
+
+    ServerGame(final long id, final Board board) {
+        this.id = id;
+        this.board = board;
+        this.moveLog = new ArrayList<>();
+    }
+
+    long getId() {
+        return id;
+    }
+
+    synchronized Board getBoard() {
+        return board;
+    }
+
+    synchronized MoveTransition play(final Move move) {
+        if (board.isGameOver() || (move != Move.NULL_MOVE && move.getBoard() != board)) {
+            return new MoveTransition(board, move, MoveStatus.ILLEGAL_MOVE);
+        }
+        final MoveTransition transition = board.currentPlayer().makeMove(move);
+        if (transition.getMoveStatus().isDone()) {
+            board = transition.getTransitionBoard();
+            moveLog.add(move);
+        }
+        return transition;
+    }
+
+    synchronized MoveTransition play(final String uciMove) {
+        return play(UciEngine.parseMove(board, uciMove));
+    }
+
+    synchronized String describe() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(status(board)).append(' ').append(FenUtilities.createFENFromGame(board)).append(" moves");
+        for (final Move move : moveLog) {
+            sb.append(' ').append(UciEngine.toUci(move));
+        }
+        return sb.toString();
+    }
+
+    static String status(final Board board) {
+        if (board.currentPlayer().isInCheckMate()) {
+            return "checkmate";
+        } else if (board.currentPlayer().isInStaleMate()) {
+            return "stalemate";
+        } else if (board.isThreefoldRepetition()) {
+            return "repetition";
+        } else if (board.isFiftyMoveRule()) {
+            return "fiftymoves";
+        }
+        return "ongoing";
+    }
+}
@@ -0,0 +1,185 @@
+package chess.server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class SyntheticClient {
+    private static final int MAX_PLIES_PER_GAME = 200;
+    private static final int LATENCY_BUCKETS = 64;
+
+    private final String host;
+    private final int port;
+    private final int activeClients;
+    private final int idleClients;
+    private final long durationMillis;
+    private final LongAdder requests;
+    private final LongAdder errors;
+    private final LongAdder gamesFinished;
+    private final AtomicLong[] latencyHistogram;
+
+    public SyntheticClient(final String host,
+                           final int port,
+                           final int activeClients,
+                           final int idleClients,
+                           final long durationMillis) {
+        this.host = host;
+        this.port = port;
+        this.activeClients = activeClients;
+        this.idleClients = idleClients;
+        this.durationMillis = durationMillis;
+        this.requests = new LongAdder();
+        this.errors = new LongAdder();
+        this.gamesFinished = new LongAdder();
+        this.latencyHistogram = new AtomicLong[LATENCY_BUCKETS];
+        for (int i = 0; i < LATENCY_BUCKETS; i++) {
+            latencyHistogram[i] = new AtomicLong();
+        }
+    }
+
+    public String run() throws IOException, InterruptedException {
+        final List<Socket> idle = new ArrayList<>(idleClients);
+        try {
+            for (int i = 0; i < idleClients; i++) {
+                final Socket socket = new Socket(host, port);
+                final Session session = new Session(socket);
+                session.request("new");
+                idle.add(socket);
+            }
+            final long deadline = System.currentTimeMillis() + durationMillis;
+            final CountDownLatch done = new CountDownLatch(activeClients);
+            for (int i = 0; i < activeClients; i++) {
+                final long seed = i;
+                final Thread thread = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            playUntil(deadline, new Random(seed));
+                        } catch (final IOException e) {
+                            errors.increment();
+                        } finally {
+                            done.countDown();
+                        }
+                    }
+                }, "synthetic-client-" + i);
+                thread.setDaemon(true);
+                thread.start();
+            }
+            done.await(durationMillis + TimeUnit.SECONDS.toMillis(30), TimeUnit.MILLISECONDS);
+            return report();
+        } finally {
+            for (final Socket socket : idle) {
+                socket.close();
+            }
+        }
+    }
+
+    private void playUntil(final long deadline, final Random random) throws IOException {
+        try (final Socket socket = new Socket(host, port)) {
+            final Session session = new Session(socket);
+            while (System.currentTimeMillis() < deadline) {
+                final String[] created = session.request("new").split(" ");
+                final String id = created[1];
+                for (int ply = 0; ply < MAX_PLIES_PER_GAME && System.currentTimeMillis() < deadline; ply++) {
+                    final String[] legal = session.request("legal " + id).split(" ");
+                    if (legal.length <= 2) {
+                        break;
+                    }
+                    final String response = session.request("move " + id + " " + legal[2 + random.nextInt(legal.length - 2)]);
+                    if (response.startsWith("error")) {
+                        errors.increment();
+                        break;
+                    }
+                    if (!response.split(" ")[3].equals("ongoing")) {
+                        break;
+                    }
+                }
+                session.request("close " + id);
+                gamesFinished.increment();
+            }
+            session.request("quit");
+        }
+    }
+
+    private String report() {
+        final long total = requests.sum();
+        final double seconds = durationMillis / 1000.0;
+        return String.format("connections %d (%d active, %d idle), requests %d (%.0f/s), games %d, errors %d, "
+                        + "latency p50 %s p99 %s p999 %s",
+                activeClients + idleClients, activeClients, idleClients, total, total / seconds,
+                gamesFinished.sum(), errors.sum(), percentile(0.5), percentile(0.99), percentile(0.999));
+    }
+
+    private String percentile(final double fraction) {
+        long total = 0;
+        for (final AtomicLong bucket : latencyHistogram) {
+            total += bucket.get();
+        }
+        final long target = (long) Math.ceil(total * fraction);
+        long seen = 0;
+        for (int i = 0; i < LATENCY_BUCKETS; i++) {
+            seen += latencyHistogram[i].get();
+            if (seen >= target && total > 0) {
+                return "<" + formatMicros(1L << i);
+            }
+        }
+        return "n/a";
+    }
+
+    private static String formatMicros(final long micros) {
+        return micros >= 1000 ? (micros / 1000) + "ms" : micros + "us";
+    }
+
+    private void recordLatency(final long nanos) {
+        final long micros = Math.max(1, nanos / 1000);
+        final int bucket = Math.min(LATENCY_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+        latencyHistogram[bucket].incrementAndGet();
+        requests.increment();
+    }
+
+    private class Session {
+        private final BufferedReader reader;
+        private final PrintWriter writer;
+
+        Session(final Socket socket) throws IOException {
+            socket.setTcpNoDelay(true);
+            this.reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            final Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+            this.writer = new PrintWriter(out, false);
+        }
+
+        String request(final String command) throws IOException {
+            final long start = System.nanoTime();
+            writer.print(command);
+            writer.print('\n');
+            writer.flush();
+            final String response = reader.readLine();
+            if (response == null) {
+                throw new IOException("connection closed by server");
+            }
+            recordLatency(System.nanoTime() - start);
+            return response;
+        }
+    }
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        final String host = args.length > 0 ? args[0] : "localhost";
+        final int port = args.length > 1 ? Integer.parseInt(args[1]) : GameServer.DEFAULT_PORT;
+        final int active = args.length > 2 ? Integer.parseInt(args[2]) : 64;
+        final int idle = args.length > 3 ? Integer.parseInt(args[3]) : 1000;
+        final long seconds = args.length > 4 ? Long.parseLong(args[4]) : 10;
+        System.out.println(new SyntheticClient(host, port, active, idle, TimeUnit.SECONDS.toMillis(seconds)).run());
+    }
+}
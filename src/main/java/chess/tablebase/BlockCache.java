@@ -0,0 +1,55 @@
+package chess.tablebase;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+class BlockCache {
+    private final int capacity;
+    private final LinkedHashMap<Long, byte[]> blocks;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    BlockCache(final int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.blocks = new LinkedHashMap<Long, byte[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Long, byte[]> eldest) {
+                return size() > BlockCache.this.capacity;
+            }
+        };
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    static long keyOf(final int fileId, final int block) {
+        return (long) fileId << 32 | (block & 0xFFFFFFFFL);
+    }
+
+    byte[] get(final long key) {
+        final byte[] block;
+        synchronized (blocks) {
+            block = blocks.get(key);
+        }
+        if (block != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return block;
+    }
+
+    void put(final long key, final byte[] block) {
+        synchronized (blocks) {
+            blocks.put(key, block);
+        }
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+}
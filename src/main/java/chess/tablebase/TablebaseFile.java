@@ -0,0 +1,222 @@
+package chess.tablebase;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+class TablebaseFile implements Closeable {
+    static final int MAGIC = 0x4A435442;
+    static final short VERSION = 1;
+    static final int FIXED_HEADER_BYTES = 26;
+    static final int DEFAULT_ENTRIES_PER_BLOCK = 1 << 15;
+
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+    private final int fileId;
+    private final BlockCache cache;
+    private final String signature;
+    private final int bitsPerEntry;
+    private final long entryCount;
+    private final int entriesPerBlock;
+    private final int blockCount;
+    private final long blockTableOffset;
+
+    TablebaseFile(final Path path, final int fileId, final BlockCache cache) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.fileId = fileId;
+        this.cache = cache;
+        final long size = channel.size();
+        this.segments = new MappedByteBuffer[(int) ((size + SEGMENT_MASK) >>> SEGMENT_SHIFT)];
+        for (int i = 0; i < segments.length; i++) {
+            final long start = (long) i << SEGMENT_SHIFT;
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(SEGMENT_MASK + 1, size - start));
+        }
+        final byte[] header = new byte[FIXED_HEADER_BYTES];
+        if (size < FIXED_HEADER_BYTES) {
+            channel.close();
+            throw new IOException("Not a tablebase file: " + path);
+        }
+        read(0, header, 0, header.length);
+        if (intAt(header, 0) != MAGIC || shortAt(header, 4) != VERSION) {
+            channel.close();
+            throw new IOException("Not a tablebase file: " + path);
+        }
+        this.bitsPerEntry = header[6] & 0xFF;
+        this.entryCount = (long) intAt(header, 8) << 32 | (intAt(header, 12) & 0xFFFFFFFFL);
+        this.entriesPerBlock = intAt(header, 16);
+        this.blockCount = intAt(header, 20);
+        final byte[] name = new byte[shortAt(header, 24)];
+        read(FIXED_HEADER_BYTES, name, 0, name.length);
+        this.signature = new String(name, StandardCharsets.US_ASCII);
+        this.blockTableOffset = FIXED_HEADER_BYTES + name.length;
+    }
+
+    String getSignature() {
+        return signature;
+    }
+
+    int getPieceCount() {
+        return signature.length() - 1;
+    }
+
+    long getEntryCount() {
+        return entryCount;
+    }
+
+    int valueAt(final long index) throws IOException {
+        if (index < 0 || index >= entryCount) {
+            throw new IOException("Index " + index + " outside " + signature);
+        }
+        final int block = (int) (index / entriesPerBlock);
+        final byte[] data = block(block);
+        final long bitOffset = (index % entriesPerBlock) * bitsPerEntry;
+        int value = 0;
+        for (int bit = 0; bit < bitsPerEntry; bit++) {
+            final long position = bitOffset + bit;
+            value = value << 1 | (data[(int) (position >>> 3)] >>> (7 - (int) (position & 7))) & 1;
+        }
+        return value;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    static void write(final Path path,
+                      final String signature,
+                      final byte[] values,
+                      final int entriesPerBlock) throws IOException {
+        int maxValue = 0;
+        for (final byte value : values) {
+            maxValue = Math.max(maxValue, value & 0xFF);
+        }
+        final int bitsPerEntry = Math.max(1, 32 - Integer.numberOfLeadingZeros(maxValue));
+        final int blockCount = (values.length + entriesPerBlock - 1) / entriesPerBlock;
+        final byte[] name = signature.getBytes(StandardCharsets.US_ASCII);
+        final long dataStart = FIXED_HEADER_BYTES + name.length + 8L * (blockCount + 1);
+
+        try (final FileChannel out = FileChannel.open(path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            final ByteBuffer header = ByteBuffer.allocate((int) dataStart);
+            header.putInt(MAGIC).putShort(VERSION).put((byte) bitsPerEntry).put((byte) 0)
+                  .putLong(values.length).putInt(entriesPerBlock).putInt(blockCount)
+                  .putShort((short) name.length).put(name);
+
+            final byte[] packed = new byte[(int) (((long) entriesPerBlock * bitsPerEntry + 7) >>> 3)];
+            final byte[] compressed = new byte[packed.length + 64];
+            final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+            long offset = dataStart;
+            out.position(dataStart);
+            try {
+                for (int block = 0; block < blockCount; block++) {
+                    Arrays.fill(packed, (byte) 0);
+                    final int first = block * entriesPerBlock;
+                    final int last = Math.min(values.length, first + entriesPerBlock);
+                    long bitOffset = 0;
+                    for (int i = first; i < last; i++) {
+                        final int value = values[i] & 0xFF;
+                        for (int bit = bitsPerEntry - 1; bit >= 0; bit--, bitOffset++) {
+                            if ((value >>> bit & 1) != 0) {
+                                packed[(int) (bitOffset >>> 3)] |= 0x80 >>> (int) (bitOffset & 7);
+                            }
+                        }
+                    }
+                    deflater.reset();
+                    deflater.setInput(packed);
+                    deflater.finish();
+                    header.putLong(offset);
+                    while (!deflater.finished()) {
+                        final int length = deflater.deflate(compressed);
+                        final ByteBuffer chunk = ByteBuffer.wrap(compressed, 0, length);
+                        while (chunk.hasRemaining()) {
+                            offset += out.write(chunk);
+                        }
+                    }
+                }
+            } finally {
+                deflater.end();
+            }
+            header.putLong(offset);
+            header.flip();
+            out.position(0);
+            while (header.hasRemaining()) {
+                out.write(header);
+            }
+        }
+    }
+
+    private byte[] block(final int block) throws IOException {
+        final long key = BlockCache.keyOf(fileId, block);
+        byte[] data = cache.get(key);
+        if (data != null) {
+            return data;
+        }
+        final byte[] offsets = new byte[16];
+        read(blockTableOffset + 8L * block, offsets, 0, offsets.length);
+        final long start = longAt(offsets, 0);
+        final int compressedLength = (int) (longAt(offsets, 8) - start);
+        final byte[] compressed = new byte[compressedLength];
+        read(start, compressed, 0, compressedLength);
+
+        data = new byte[(int) (((long) entriesPerBlock * bitsPerEntry + 7) >>> 3)];
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            int length = 0;
+            while (length < data.length && !inflater.finished()) {
+                final int inflated = inflater.inflate(data, length, data.length - length);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += inflated;
+            }
+        } catch (final DataFormatException e) {
+            throw new IOException("Corrupt block " + block + " in " + signature, e);
+        } finally {
+            inflater.end();
+        }
+        cache.put(key, data);
+        return data;
+    }
+
+    private void read(long position, final byte[] destination, int offset, int length) {
+        while (length > 0) {
+            final MappedByteBuffer segment = segments[(int) (position >>> SEGMENT_SHIFT)];
+            final int segmentOffset = (int) (position & SEGMENT_MASK);
+            final int chunk = Math.min(length, segment.limit() - segmentOffset);
+            for (int i = 0; i < chunk; i++) {
+                destination[offset + i] = segment.get(segmentOffset + i);
+            }
+            position += chunk;
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    private static int shortAt(final byte[] bytes, final int offset) {
+        return (bytes[offset] & 0xFF) << 8 | bytes[offset + 1] & 0xFF;
+    }
+
+    private static int intAt(final byte[] bytes, final int offset) {
+        return shortAt(bytes, offset) << 16 | shortAt(bytes, offset + 2);
+    }
+
+    private static long longAt(final byte[] bytes, final int offset) {
+        return (long) intAt(bytes, offset) << 32 | (intAt(bytes, offset + 4) & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,382 @@
+package chess.tablebase;
+
+import chess.engine.Alliance;
+import chess.engine.board.Board;
+import chess.engine.board.BoardUtils;
+import chess.engine.board.Move;
+import chess.engine.pieces.Bishop;
+import chess.engine.pieces.King;
+import chess.engine.pieces.Knight;
+import chess.engine.pieces.Pawn;
+import chess.engine.pieces.Piece;
+import chess.engine.pieces.Queen;
+import chess.engine.pieces.Rook;
+import chess.engine.player.MoveTransition;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TablebaseGenerator {
+    public static final int MAX_PIECES = Tablebases.MAX_PIECES;
+    public static final String[] DEFAULT_SIGNATURES = {"KQvK", "KRvK", "KPvK"};
+
+    private static final byte ILLEGAL = 0;
+    private static final byte UNRESOLVED = 1;
+    private static final byte RESOLVED = 2;
+    private static final int CHUNK_SIZE = 4096;
+
+    private final Path directory;
+    private final Map<String, byte[]> tables;
+    private int threadCount;
+    private PrintStream progressOutput;
+
+    public TablebaseGenerator(final Path directory) {
+        this.directory = directory;
+        this.tables = new HashMap<>();
+        this.threadCount = Runtime.getRuntime().availableProcessors();
+    }
+
+    public TablebaseGenerator setThreadCount(final int threadCount) {
+        this.threadCount = Math.max(1, threadCount);
+        return this;
+    }
+
+    public TablebaseGenerator setProgressOutput(final PrintStream progressOutput) {
+        this.progressOutput = progressOutput;
+        return this;
+    }
+
+    public Path generate(final String signature) throws IOException {
+        final String canonical = parseSignature(signature);
+        final Path path = directory.resolve(canonical + Tablebases.FILE_EXTENSION);
+        final byte[] values = values(canonical);
+        Files.createDirectories(directory);
+        TablebaseFile.write(path, canonical, values, TablebaseFile.DEFAULT_ENTRIES_PER_BLOCK);
+        report("wrote " + path + " (" + Files.size(path) + " bytes)");
+        return path;
+    }
+
+    private byte[] values(final String signature) throws IOException {
+        byte[] values = tables.get(signature);
+        if (values == null) {
+            for (final String dependency : dependencies(signature)) {
+                values(dependency);
+            }
+            values = solve(signature);
+            tables.put(signature, values);
+        }
+        return values;
+    }
+
+    private byte[] solve(final String signature) throws IOException {
+        final long started = System.currentTimeMillis();
+        final Piece.PieceType[] types = new Piece.PieceType[signature.length() - 1];
+        final Alliance[] alliances = new Alliance[types.length];
+        int count = 0;
+        Alliance alliance = Alliance.WHITE;
+        for (int i = 0; i < signature.length(); i++) {
+            final char letter = signature.charAt(i);
+            if (letter == TablebaseKey.SIDE_SEPARATOR) {
+                alliance = Alliance.BLACK;
+                continue;
+            }
+            types[count] = TablebaseKey.pieceTypeOf(letter);
+            alliances[count++] = alliance;
+        }
+
+        final int size = 2 << (6 * types.length);
+        final byte[] state = new byte[size];
+        final byte[] values = new byte[size];
+        final int[][] successors = new int[size][];
+        findSuccessors(signature, types, alliances, state, values, successors);
+
+        int maxExternalPlies = 0;
+        for (int index = 0; index < size; index++) {
+            if (state[index] != UNRESOLVED) {
+                continue;
+            }
+            for (final int child : successors[index]) {
+                if (child < 0) {
+                    maxExternalPlies = Math.max(maxExternalPlies, -1 - child);
+                }
+            }
+        }
+
+        for (int plies = 1; ; plies++) {
+            boolean changed = false;
+            for (int index = 0; index < size; index++) {
+                if (state[index] == UNRESOLVED) {
+                    final int value = resolve(successors[index], state, values, plies);
+                    if (value > 0) {
+                        values[index] = (byte) value;
+                        state[index] = RESOLVED;
+                        changed = true;
+                    }
+                }
+            }
+            if (!changed && plies > maxExternalPlies + 1) {
+                break;
+            }
+        }
+        report(signature + " solved in " + (System.currentTimeMillis() - started) + " ms");
+        return values;
+    }
+
+    private static int resolve(final int[] successors,
+                               final byte[] state,
+                               final byte[] values,
+                               final int plies) {
+        final boolean winningPly = (plies & 1) == 1;
+        int longestChildWin = -1;
+        for (final int child : successors) {
+            final int stored;
+            if (child >= 0) {
+                if (state[child] != RESOLVED) {
+                    if (winningPly) {
+                        continue;
+                    }
+                    return 0;
+                }
+                stored = values[child] & 0xFF;
+            } else {
+                stored = -1 - child;
+            }
+            final TablebaseResult result = TablebaseResult.fromStoredValue(stored);
+            if (winningPly) {
+                if (result.getOutcome() == TablebaseResult.Outcome.LOSS && result.getPliesToMate() == plies - 1) {
+                    return TablebaseResult.toStoredValue(TablebaseResult.Outcome.WIN, plies);
+                }
+            } else if (result.getOutcome() != TablebaseResult.Outcome.WIN) {
+                return 0;
+            } else {
+                longestChildWin = Math.max(longestChildWin, result.getPliesToMate());
+            }
+        }
+        if (!winningPly && longestChildWin == plies - 1) {
+            return TablebaseResult.toStoredValue(TablebaseResult.Outcome.LOSS, plies);
+        }
+        return 0;
+    }
+
+    private void findSuccessors(final String signature,
+                                final Piece.PieceType[] types,
+                                final Alliance[] alliances,
+                                final byte[] state,
+                                final byte[] values,
+                                final int[][] successors) throws IOException {
+        final AtomicInteger nextChunk = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executor.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        int start;
+                        while ((start = nextChunk.getAndAdd(CHUNK_SIZE)) < state.length) {
+                            final int end = Math.min(state.length, start + CHUNK_SIZE);
+                            for (int index = start; index < end; index++) {
+                                examine(signature, types, alliances, index, state, values, successors);
+                            }
+                        }
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Generation of " + signature + " interrupted", e);
+        } catch (final ExecutionException e) {
+            throw new IOException("Generation of " + signature + " failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void examine(final String signature,
+                         final Piece.PieceType[] types,
+                         final Alliance[] alliances,
+                         final int index,
+                         final byte[] state,
+                         final byte[] values,
+                         final int[][] successors) {
+        final Board board = createBoard(types, alliances, index);
+        if (board == null
+                || board.currentPlayer().getOpponent().isInCheck()
+                || TablebaseKey.of(board).getIndex() != index) {
+            state[index] = ILLEGAL;
+            return;
+        }
+        final List<Integer> children = new ArrayList<>();
+        for (final Move move : board.currentPlayer().getLegalMoves()) {
+            final MoveTransition transition = board.currentPlayer().makeMove(move);
+            if (!transition.getMoveStatus().isDone()) {
+                continue;
+            }
+            final Board child = transition.getTransitionBoard();
+            final TablebaseKey key = TablebaseKey.of(child);
+            if (key.getSignature().equals(signature)) {
+                children.add((int) key.getIndex());
+            } else if (TablebaseKey.pieceCount(child) == 2) {
+                children.add(-1);
+            } else {
+                children.add(-1 - (tables.get(key.getSignature())[(int) key.getIndex()] & 0xFF));
+            }
+        }
+        if (children.isEmpty()) {
+            state[index] = RESOLVED;
+            values[index] = board.currentPlayer().isInCheck()
+                    ? (byte) TablebaseResult.toStoredValue(TablebaseResult.Outcome.LOSS, 0)
+                    : 0;
+            return;
+        }
+        final int[] packed = new int[children.size()];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = children.get(i);
+        }
+        successors[index] = packed;
+        state[index] = UNRESOLVED;
+    }
+
+    private static Board createBoard(final Piece.PieceType[] types, final Alliance[] alliances, final int index) {
+        final boolean[] occupied = new boolean[BoardUtils.NUM_TILES];
+        final Board.Builder builder = new Board.Builder();
+        int squares = index >>> 1;
+        for (int i = types.length - 1; i >= 0; i--) {
+            final int square = squares & (BoardUtils.NUM_TILES - 1);
+            squares >>>= 6;
+            if (occupied[square]) {
+                return null;
+            }
+            occupied[square] = true;
+            final Piece piece = createPiece(types[i], alliances[i], square);
+            if (piece == null) {
+                return null;
+            }
+            builder.setPiece(piece);
+        }
+        builder.setMoveMaker((index & 1) == 0 ? Alliance.WHITE : Alliance.BLACK);
+        return builder.build();
+    }
+
+    private static Piece createPiece(final Piece.PieceType type, final Alliance alliance, final int square) {
+        switch (type) {
+            case PAWN:
+                if (BoardUtils.FIRST_RANK[square] || BoardUtils.EIGHTH_RANK[square]) {
+                    return null;
+                }
+                return new Pawn(square, alliance,
+                        alliance.isWhite() ? BoardUtils.SECOND_RANK[square] : BoardUtils.SEVENTH_RANK[square]);
+            case KNIGHT:
+                return new Knight(square, alliance, false);
+            case BISHOP:
+                return new Bishop(square, alliance, false);
+            case ROOK:
+                return new Rook(square, alliance, false);
+            case QUEEN:
+                return new Queen(square, alliance, false);
+            default:
+                return new King(square, alliance, false);
+        }
+    }
+
+    static String parseSignature(final String signature) {
+        final int separator = signature.indexOf(TablebaseKey.SIDE_SEPARATOR);
+        if (separator < 0 || signature.length() - 1 > MAX_PIECES) {
+            throw new IllegalArgumentException("Unsupported tablebase " + signature
+                    + " (expected e.g. KQvK, at most " + MAX_PIECES + " pieces)");
+        }
+        final String white = signature.substring(0, separator);
+        final String black = signature.substring(separator + 1);
+        if (white.isEmpty() || black.isEmpty() || white.charAt(0) != 'K' || black.charAt(0) != 'K'
+                || white.indexOf('K', 1) >= 0 || black.indexOf('K', 1) >= 0) {
+            throw new IllegalArgumentException("Each side needs exactly one king: " + signature);
+        }
+        for (int i = 0; i < signature.length(); i++) {
+            if (i != separator) {
+                TablebaseKey.pieceTypeOf(signature.charAt(i));
+            }
+        }
+        return TablebaseKey.canonicalSignature(sortSide(white), sortSide(black));
+    }
+
+    private static String sortSide(final String side) {
+        final StringBuilder sorted = new StringBuilder(side.length());
+        for (final char letter : "KQRBNP".toCharArray()) {
+            for (int i = 0; i < side.length(); i++) {
+                if (side.charAt(i) == letter) {
+                    sorted.append(letter);
+                }
+            }
+        }
+        return sorted.toString();
+    }
+
+    private static List<String> dependencies(final String signature) {
+        final int separator = signature.indexOf(TablebaseKey.SIDE_SEPARATOR);
+        final String[] sides = {signature.substring(0, separator), signature.substring(separator + 1)};
+        final List<String> dependencies = new ArrayList<>();
+        for (int side = 0; side < 2; side++) {
+            final String own = sides[side];
+            final String other = sides[1 - side];
+            for (int i = 1; i < other.length(); i++) {
+                addDependency(dependencies, own, other.substring(0, i) + other.substring(i + 1), side);
+            }
+            for (int i = 1; i < own.length(); i++) {
+                if (own.charAt(i) == 'P') {
+                    addDependency(dependencies, own.substring(0, i) + 'Q' + own.substring(i + 1), other, side);
+                }
+            }
+        }
+        return dependencies;
+    }
+
+    private static void addDependency(final List<String> dependencies,
+                                      final String own,
+                                      final String other,
+                                      final int side) {
+        if (own.length() + other.length() <= 2) {
+            return;
+        }
+        final String white = side == 0 ? own : other;
+        final String black = side == 0 ? other : own;
+        final String dependency = TablebaseKey.canonicalSignature(sortSide(white), sortSide(black));
+        if (!dependencies.contains(dependency)) {
+            dependencies.add(dependency);
+        }
+    }
+
+    private void report(final String message) {
+        if (progressOutput != null) {
+            progressOutput.println(message);
+        }
+    }
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("usage: TablebaseGenerator <directory> [KQvK KRvK KPvK ...]");
+            return;
+        }
+        final TablebaseGenerator generator = new TablebaseGenerator(Paths.get(args[0]))
+                .setProgressOutput(System.err);
+        final String[] signatures = args.length > 1 ? new String[args.length - 1] : DEFAULT_SIGNATURES;
+        System.arraycopy(args, 1, signatures, 0, args.length - 1);
+        for (final String signature : signatures) {
+            generator.generate(signature);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package chess.tablebase;
+
+import chess.engine.Alliance;
+import chess.engine.board.Board;
+import chess.engine.board.BoardUtils;
+import chess.engine.board.Tile;
+import chess.engine.pieces.Piece;
+
+final class TablebaseKey {
+    static final int MIRROR_SQUARE = 56;
+    static final char SIDE_SEPARATOR = 'v';
+
+    private static final Piece.PieceType[] SIGNATURE_ORDER = {
+            Piece.PieceType.KING,
+            Piece.PieceType.QUEEN,
+            Piece.PieceType.ROOK,
+            Piece.PieceType.BISHOP,
+            Piece.PieceType.KNIGHT,
+            Piece.PieceType.PAWN
+    };
+
+    private final String signature;
+    private final long index;
+
+    private TablebaseKey(final String signature, final long index) {
+        this.signature = signature;
+        this.index = index;
+    }
+
+    String getSignature() {
+        return signature;
+    }
+
+    long getIndex() {
+        return index;
+    }
+
+    static int pieceCount(final Board board) {
+        return board.getWhitePieces().size() + board.getBlackPieces().size();
+    }
+
+    static TablebaseKey of(final Board board) {
+        final int[] whiteSquares = new int[BoardUtils.NUM_TILES];
+        final int[] blackSquares = new int[BoardUtils.NUM_TILES];
+        final StringBuilder white = new StringBuilder();
+        final StringBuilder black = new StringBuilder();
+        int whiteValue = 0;
+        int blackValue = 0;
+        int whiteCount = 0;
+        int blackCount = 0;
+        for (final Piece.PieceType type : SIGNATURE_ORDER) {
+            for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+                final Tile tile = board.getTile(i);
+                if (!tile.isTileOccupied() || tile.getPiece().getPieceType() != type) {
+                    continue;
+                }
+                if (tile.getPiece().getPieceAlliance() == Alliance.WHITE) {
+                    white.append(type);
+                    whiteValue += type.getPieceValue();
+                    whiteSquares[whiteCount++] = i;
+                } else {
+                    black.append(type);
+                    blackValue += type.getPieceValue();
+                    blackSquares[blackCount++] = i;
+                }
+            }
+        }
+
+        final boolean mirrored = isStronger(black.toString(), blackValue, white.toString(), whiteValue);
+        final String signature = mirrored
+                ? black.toString() + SIDE_SEPARATOR + white
+                : white.toString() + SIDE_SEPARATOR + black;
+        long index = 0;
+        index = appendSquares(index, mirrored ? blackSquares : whiteSquares, mirrored ? blackCount : whiteCount, mirrored);
+        index = appendSquares(index, mirrored ? whiteSquares : blackSquares, mirrored ? whiteCount : blackCount, mirrored);
+        final boolean whiteToMove = board.currentPlayer().getAlliance().isWhite();
+        return new TablebaseKey(signature, index * 2 + (whiteToMove != mirrored ? 0 : 1));
+    }
+
+    static String canonicalSignature(final String white, final String black) {
+        return isStronger(black, materialValue(black), white, materialValue(white))
+                ? black + SIDE_SEPARATOR + white
+                : white + SIDE_SEPARATOR + black;
+    }
+
+    static Piece.PieceType pieceTypeOf(final char letter) {
+        for (final Piece.PieceType type : SIGNATURE_ORDER) {
+            if (type.toString().charAt(0) == letter) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown piece " + letter);
+    }
+
+    private static int materialValue(final String side) {
+        int value = 0;
+        for (int i = 0; i < side.length(); i++) {
+            value += pieceTypeOf(side.charAt(i)).getPieceValue();
+        }
+        return value;
+    }
+
+    static boolean hasEnPassantCapture(final Board board) {
+        final Piece enPassantPawn = board.getEnPassantPawn();
+        if (enPassantPawn == null) {
+            return false;
+        }
+        final int position = enPassantPawn.getPiecePosition();
+        final int file = position % BoardUtils.NUM_TILES_PER_ROW;
+        return (file > 0 && isCapturingPawn(board.getTile(position - 1), enPassantPawn))
+                || (file < BoardUtils.NUM_TILES_PER_ROW - 1 && isCapturingPawn(board.getTile(position + 1), enPassantPawn));
+    }
+
+    private static boolean isCapturingPawn(final Tile tile, final Piece enPassantPawn) {
+        return tile.isTileOccupied()
+                && tile.getPiece().getPieceType() == Piece.PieceType.PAWN
+                && tile.getPiece().getPieceAlliance() != enPassantPawn.getPieceAlliance();
+    }
+
+    static boolean isStronger(final String side, final int sideValue, final String other, final int otherValue) {
+        if (side.length() != other.length()) {
+            return side.length() > other.length();
+        }
+        if (sideValue != otherValue) {
+            return sideValue > otherValue;
+        }
+        return side.compareTo(other) > 0;
+    }
+
+    private static long appendSquares(long index, final int[] squares, final int count, final boolean mirrored) {
+        for (int i = 0; i < count; i++) {
+            index = index * BoardUtils.NUM_TILES + (mirrored ? squares[i] ^ MIRROR_SQUARE : squares[i]);
+        }
+        return index;
+    }
+}
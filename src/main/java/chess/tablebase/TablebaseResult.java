@@ -0,0 +1,61 @@
+package chess.tablebase;
+
+public final class TablebaseResult {
+    public enum Outcome {
+        WIN,
+        DRAW,
+        LOSS,
+        UNKNOWN
+    }
+
+    public static final TablebaseResult UNKNOWN = new TablebaseResult(Outcome.UNKNOWN, -1);
+    public static final TablebaseResult DRAW = new TablebaseResult(Outcome.DRAW, -1);
+
+    private final Outcome outcome;
+    private final int pliesToMate;
+
+    private TablebaseResult(final Outcome outcome, final int pliesToMate) {
+        this.outcome = outcome;
+        this.pliesToMate = pliesToMate;
+    }
+
+    static TablebaseResult fromStoredValue(final int storedValue) {
+        if (storedValue == 0) {
+            return DRAW;
+        }
+        final int plies = storedValue - 1;
+        return new TablebaseResult((plies & 1) == 1 ? Outcome.WIN : Outcome.LOSS, plies);
+    }
+
+    static int toStoredValue(final Outcome outcome, final int pliesToMate) {
+        return outcome == Outcome.WIN || outcome == Outcome.LOSS ? pliesToMate + 1 : 0;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public boolean isKnown() {
+        return outcome != Outcome.UNKNOWN;
+    }
+
+    public int getPliesToMate() {
+        return pliesToMate;
+    }
+
+    public int getMovesToMate() {
+        return (pliesToMate + 1) / 2;
+    }
+
+    @Override
+    public String toString() {
+        switch (outcome) {
+            case WIN:
+                return "win in " + getMovesToMate();
+            case LOSS:
+                return "loss in " + getMovesToMate();
+            default:
+                return outcome.name().toLowerCase();
+        }
+    }
+}
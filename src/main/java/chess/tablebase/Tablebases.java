@@ -0,0 +1,173 @@
+package chess.tablebase;
+
+import chess.engine.board.Board;
+import chess.engine.board.Move;
+import chess.engine.player.MoveTransition;
+import chess.pgn.FenUtilities;
+import chess.pgn.PGNGame;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+public class Tablebases implements Closeable {
+    public static final String FILE_EXTENSION = ".jtb";
+    public static final int DEFAULT_CACHE_BLOCKS = 256;
+    // Tables are indexed by raw piece squares without symmetry reduction, which keeps
+    // generation practical only up to three pieces; larger positions are never probed.
+    public static final int MAX_PIECES = 3;
+
+    private final Map<String, TablebaseFile> tables;
+    private final BlockCache cache;
+    private final int maxPieces;
+
+    private Tablebases(final Map<String, TablebaseFile> tables, final BlockCache cache) {
+        this.tables = tables;
+        this.cache = cache;
+        int pieces = 0;
+        for (final TablebaseFile table : tables.values()) {
+            pieces = Math.max(pieces, table.getPieceCount());
+        }
+        this.maxPieces = pieces;
+    }
+
+    public static Tablebases open(final Path directory) throws IOException {
+        return open(directory, DEFAULT_CACHE_BLOCKS);
+    }
+
+    public static Tablebases open(final Path directory, final int cacheBlocks) throws IOException {
+        final BlockCache cache = new BlockCache(cacheBlocks);
+        final Map<String, TablebaseFile> tables = new HashMap<>();
+        try (final DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + FILE_EXTENSION)) {
+            for (final Path file : files) {
+                final TablebaseFile table = new TablebaseFile(file, tables.size(), cache);
+                tables.put(table.getSignature(), table);
+                if (table.getPieceCount() > MAX_PIECES) {
+                    throw new IOException("Tablebase " + table.getSignature() + " has " + table.getPieceCount()
+                            + " pieces, at most " + MAX_PIECES + " are supported");
+                }
+            }
+        } catch (final IOException e) {
+            for (final TablebaseFile table : tables.values()) {
+                table.close();
+            }
+            throw e;
+        }
+        return new Tablebases(tables, cache);
+    }
+
+    public int getMaxPieces() {
+        return maxPieces;
+    }
+
+    public int getTableCount() {
+        return tables.size();
+    }
+
+    public long getCacheHits() {
+        return cache.getHits();
+    }
+
+    public long getCacheMisses() {
+        return cache.getMisses();
+    }
+
+    public boolean canProbe(final Board board) {
+        return TablebaseKey.pieceCount(board) <= maxPieces
+                && !TablebaseKey.hasEnPassantCapture(board)
+                && FenUtilities.castlingRights(board) == 0;
+    }
+
+    public TablebaseResult probe(final Board board) {
+        if (!canProbe(board)) {
+            return TablebaseResult.UNKNOWN;
+        }
+        if (TablebaseKey.pieceCount(board) == 2) {
+            return TablebaseResult.DRAW;
+        }
+        final TablebaseKey key = TablebaseKey.of(board);
+        final TablebaseFile table = tables.get(key.getSignature());
+        if (table == null) {
+            return TablebaseResult.UNKNOWN;
+        }
+        try {
+            return TablebaseResult.fromStoredValue(table.valueAt(key.getIndex()));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Move bestMove(final Board board) {
+        if (!probe(board).isKnown()) {
+            return Move.NULL_MOVE;
+        }
+        Move bestMove = Move.NULL_MOVE;
+        int bestRank = Integer.MIN_VALUE;
+        for (final Move move : board.currentPlayer().getLegalMoves()) {
+            final MoveTransition transition = board.currentPlayer().makeMove(move);
+            if (!transition.getMoveStatus().isDone()) {
+                continue;
+            }
+            final Board next = transition.getTransitionBoard();
+            final TablebaseResult reply = next.currentPlayer().isInCheckMate()
+                    ? TablebaseResult.fromStoredValue(1)
+                    : probe(next);
+            if (!reply.isKnown()) {
+                continue;
+            }
+            final int rank = rankForMover(reply);
+            if (rank > bestRank) {
+                bestRank = rank;
+                bestMove = move;
+            }
+        }
+        return bestMove;
+    }
+
+    public String adjudicate(final Board board) {
+        final TablebaseResult result = probe(board);
+        switch (result.getOutcome()) {
+            case DRAW:
+                return PGNGame.resultText(PGNGame.RESULT_DRAW);
+            case WIN:
+                return PGNGame.resultText(board.currentPlayer().getAlliance().isWhite()
+                        ? PGNGame.RESULT_WHITE_WINS : PGNGame.RESULT_BLACK_WINS);
+            case LOSS:
+                return PGNGame.resultText(board.currentPlayer().getAlliance().isWhite()
+                        ? PGNGame.RESULT_BLACK_WINS : PGNGame.RESULT_WHITE_WINS);
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (final TablebaseFile table : tables.values()) {
+            try {
+                table.close();
+            } catch (final IOException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static int rankForMover(final TablebaseResult reply) {
+        switch (reply.getOutcome()) {
+            case LOSS:
+                return Integer.MAX_VALUE / 2 - reply.getPliesToMate();
+            case WIN:
+                return Integer.MIN_VALUE / 2 + reply.getPliesToMate();
+            default:
+                return 0;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package chess.tournament;
+
+import chess.engine.player.ai.AlphaBeta;
+import chess.engine.player.ai.SearchLimits;
+import chess.engine.player.ai.StandardBoardEvaluator;
+import chess.engine.player.ai.TranspositionTable;
+
+public class EngineConfig {
+    public static final int DEFAULT_HASH_MB = 4;
+
+    private final String name;
+    private final int depth;
+    private final long moveTimeMillis;
+    private final int hashSizeMb;
+    private final int threads;
+
+    public EngineConfig(final String name,
+                        final int depth,
+                        final long moveTimeMillis,
+                        final int hashSizeMb,
+                        final int threads) {
+        this.name = name;
+        this.depth = depth;
+        this.moveTimeMillis = moveTimeMillis;
+        this.hashSizeMb = Math.max(1, hashSizeMb);
+        this.threads = Math.max(1, threads);
+    }
+
+    public static EngineConfig parse(final String name, final String spec) {
+        int depth = SearchLimits.MAX_DEPTH;
+        long moveTime = -1;
+        int hash = DEFAULT_HASH_MB;
+        int threads = 1;
+        String engineName = name;
+        for (final String option : spec.split(",")) {
+            final int separator = option.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Malformed engine option " + option);
+            }
+            final String key = option.substring(0, separator).trim();
+            final String value = option.substring(separator + 1).trim();
+            switch (key) {
+                case "name":
+                    engineName = value;
+                    break;
+                case "depth":
+                    depth = Integer.parseInt(value);
+                    break;
+                case "movetime":
+                    moveTime = Long.parseLong(value);
+                    break;
+                case "hash":
+                    hash = Integer.parseInt(value);
+                    break;
+                case "threads":
+                    threads = Integer.parseInt(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown engine option " + key);
+            }
+        }
+        if (depth == SearchLimits.MAX_DEPTH && moveTime < 0) {
+            throw new IllegalArgumentException("Engine " + engineName + " needs a depth or movetime limit");
+        }
+        return new EngineConfig(engineName, depth, moveTime, hash, threads);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public SearchLimits getSearchLimits() {
+        return SearchLimits.of(depth, moveTimeMillis);
+    }
+
+    public AlphaBeta createSearch() {
+        return new AlphaBeta(new StandardBoardEvaluator(), new TranspositionTable(hashSizeMb), threads, depth);
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + getSearchLimits() + ", hash " + hashSizeMb + "MB, threads " + threads + ")";
+    }
+}
@@ -0,0 +1,93 @@
+package chess.tournament;
+
+public class MatchStatistics {
+    private static final double CONFIDENCE_95 = 1.959964;
+    private static final double PSEUDO_COUNT = 0.5;
+
+    private int wins;
+    private int draws;
+    private int losses;
+
+    public synchronized void record(final double score) {
+        if (score > 0.5) {
+            wins++;
+        } else if (score < 0.5) {
+            losses++;
+        } else {
+            draws++;
+        }
+    }
+
+    public synchronized int getWins() {
+        return wins;
+    }
+
+    public synchronized int getDraws() {
+        return draws;
+    }
+
+    public synchronized int getLosses() {
+        return losses;
+    }
+
+    public synchronized int getGames() {
+        return wins + draws + losses;
+    }
+
+    public synchronized double getScore() {
+        final int games = getGames();
+        return games == 0 ? 0.5 : (wins + draws * 0.5) / games;
+    }
+
+    public synchronized double getEloDifference() {
+        return eloOf(getScore());
+    }
+
+    public synchronized double getEloErrorMargin() {
+        final int games = getGames();
+        if (games == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        final double score = getScore();
+        final double deviation = Math.sqrt(variance() / games);
+        return (eloOf(score + CONFIDENCE_95 * deviation) - eloOf(score - CONFIDENCE_95 * deviation)) / 2;
+    }
+
+    public synchronized double getLogLikelihoodRatio(final double elo0, final double elo1) {
+        final int games = getGames();
+        if (games == 0) {
+            return 0;
+        }
+        final double score0 = scoreOf(elo0);
+        final double score1 = scoreOf(elo1);
+        return games * (score1 - score0) * (2 * regularizedScore() - score0 - score1) / (2 * variance());
+    }
+
+    private double regularizedScore() {
+        final double total = getGames() + 3 * PSEUDO_COUNT;
+        return (wins + PSEUDO_COUNT + (draws + PSEUDO_COUNT) * 0.5) / total;
+    }
+
+    private double variance() {
+        final double total = getGames() + 3 * PSEUDO_COUNT;
+        final double score = regularizedScore();
+        return ((wins + PSEUDO_COUNT) * (1 - score) * (1 - score)
+                + (draws + PSEUDO_COUNT) * (0.5 - score) * (0.5 - score)
+                + (losses + PSEUDO_COUNT) * score * score) / total;
+    }
+
+    static double eloOf(final double score) {
+        final double clamped = Math.max(1e-6, Math.min(1 - 1e-6, score));
+        return -400 * Math.log10(1 / clamped - 1);
+    }
+
+    static double scoreOf(final double elo) {
+        return 1 / (1 + Math.pow(10, -elo / 400));
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("games %d +%d =%d -%d score %.3f elo %.1f +/- %.1f",
+                getGames(), wins, draws, losses, getScore(), getEloDifference(), getEloErrorMargin());
+    }
+}
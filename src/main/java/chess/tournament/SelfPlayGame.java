@@ -0,0 +1,127 @@
+package chess.tournament;
+
+import chess.engine.board.Board;
+import chess.engine.board.Move;
+import chess.engine.player.MoveTransition;
+import chess.engine.player.ai.AlphaBeta;
+import chess.pgn.PGNGame;
+import chess.tablebase.Tablebases;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class SelfPlayGame {
+    private final Board startingBoard;
+    private final EngineConfig white;
+    private final EngineConfig black;
+    private final int maxPlies;
+    private final Tablebases tablebases;
+    private final List<Move> moves;
+    private String result;
+    private String termination;
+
+    SelfPlayGame(final Board startingBoard,
+                 final EngineConfig white,
+                 final EngineConfig black,
+                 final int maxPlies,
+                 final Tablebases tablebases) {
+        this.startingBoard = startingBoard;
+        this.white = white;
+        this.black = black;
+        this.maxPlies = maxPlies;
+        this.tablebases = tablebases;
+        this.moves = new ArrayList<>();
+    }
+
+    void play(final AtomicBoolean stopped) {
+        final AlphaBeta whiteSearch = white.createSearch();
+        final AlphaBeta blackSearch = black.createSearch();
+        Board board = startingBoard;
+        while (!adjudicate(board)) {
+            if (stopped.get()) {
+                finish(PGNGame.UNKNOWN_RESULT, "aborted");
+                return;
+            }
+            final boolean whiteToMove = board.currentPlayer().getAlliance().isWhite();
+            final EngineConfig engine = whiteToMove ? white : black;
+            final AlphaBeta search = whiteToMove ? whiteSearch : blackSearch;
+            final Move move = search.search(board, engine.getSearchLimits()).getBestMove();
+            final MoveTransition transition = board.currentPlayer().makeMove(move);
+            if (!transition.getMoveStatus().isDone()) {
+                finish(win(!whiteToMove), engine.getName() + " played an illegal move");
+                return;
+            }
+            moves.add(move);
+            board = transition.getTransitionBoard();
+        }
+    }
+
+    private boolean adjudicate(final Board board) {
+        final boolean whiteToMove = board.currentPlayer().getAlliance().isWhite();
+        if (board.currentPlayer().isInCheckMate()) {
+            return finish(win(!whiteToMove), "checkmate");
+        } else if (board.currentPlayer().isInStaleMate()) {
+            return finish(draw(), "stalemate");
+        } else if (board.isThreefoldRepetition()) {
+            return finish(draw(), "threefold repetition");
+        } else if (board.isFiftyMoveRule()) {
+            return finish(draw(), "fifty-move rule");
+        }
+        if (tablebases != null) {
+            final String tablebaseResult = tablebases.adjudicate(board);
+            if (tablebaseResult != null) {
+                return finish(tablebaseResult, "tablebase");
+            }
+        }
+        if (moves.size() >= maxPlies) {
+            return finish(draw(), "move limit");
+        }
+        return false;
+    }
+
+    private boolean finish(final String result, final String termination) {
+        this.result = result;
+        this.termination = termination;
+        return true;
+    }
+
+    private static String win(final boolean white) {
+        return PGNGame.resultText(white ? PGNGame.RESULT_WHITE_WINS : PGNGame.RESULT_BLACK_WINS);
+    }
+
+    private static String draw() {
+        return PGNGame.resultText(PGNGame.RESULT_DRAW);
+    }
+
+    Board getStartingBoard() {
+        return startingBoard;
+    }
+
+    List<Move> getMoves() {
+        return moves;
+    }
+
+    String getResult() {
+        return result;
+    }
+
+    String getTermination() {
+        return termination;
+    }
+
+    boolean isFinished() {
+        return !PGNGame.UNKNOWN_RESULT.equals(result);
+    }
+
+    double whiteScore() {
+        switch (PGNGame.resultCode(result)) {
+            case PGNGame.RESULT_WHITE_WINS:
+                return 1;
+            case PGNGame.RESULT_BLACK_WINS:
+                return 0;
+            default:
+                return 0.5;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package chess.tournament;
+
+public class Sprt {
+    public enum Decision {
+        CONTINUE,
+        ACCEPT_H0,
+        ACCEPT_H1
+    }
+
+    private final double elo0;
+    private final double elo1;
+    private final double lowerBound;
+    private final double upperBound;
+
+    public Sprt(final double elo0, final double elo1, final double alpha, final double beta) {
+        this.elo0 = elo0;
+        this.elo1 = elo1;
+        this.lowerBound = Math.log(beta / (1 - alpha));
+        this.upperBound = Math.log((1 - beta) / alpha);
+    }
+
+    public Decision decide(final MatchStatistics statistics) {
+        final double llr = statistics.getLogLikelihoodRatio(elo0, elo1);
+        if (llr >= upperBound) {
+            return Decision.ACCEPT_H1;
+        } else if (llr <= lowerBound) {
+            return Decision.ACCEPT_H0;
+        }
+        return Decision.CONTINUE;
+    }
+
+    public String describe(final MatchStatistics statistics) {
+        return String.format("LLR %.2f [%.2f, %.2f] elo0 %.1f elo1 %.1f",
+                statistics.getLogLikelihoodRatio(elo0, elo1), lowerBound, upperBound, elo0, elo1);
+    }
+}
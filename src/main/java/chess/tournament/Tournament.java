@@ -0,0 +1,332 @@
+package chess.tournament;
+
+import chess.engine.board.Board;
+import chess.pgn.FenUtilities;
+import chess.pgn.PGNWriter;
+import chess.tablebase.Tablebases;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class Tournament {
+    private final EngineConfig first;
+    private final EngineConfig second;
+    private final int games;
+    private final int concurrency;
+    private final List<String> openings;
+    private final int maxPlies;
+    private final Sprt sprt;
+    private final Path pgnOutput;
+    private final PrintStream progressOutput;
+    private final Tablebases tablebases;
+    private final MatchStatistics statistics;
+    private final AtomicBoolean stopped;
+    private volatile Sprt.Decision decision;
+    private PGNWriter pgnWriter;
+
+    private Tournament(final Builder builder) {
+        first = builder.first;
+        second = builder.second;
+        games = builder.games;
+        concurrency = builder.concurrency;
+        openings = builder.openings;
+        maxPlies = builder.maxPlies;
+        sprt = builder.sprt;
+        pgnOutput = builder.pgnOutput;
+        progressOutput = builder.progressOutput;
+        tablebases = builder.tablebases;
+        statistics = new MatchStatistics();
+        stopped = new AtomicBoolean();
+        decision = Sprt.Decision.CONTINUE;
+    }
+
+    public MatchStatistics getStatistics() {
+        return statistics;
+    }
+
+    public Sprt.Decision getDecision() {
+        return decision;
+    }
+
+    public void stop() {
+        stopped.set(true);
+    }
+
+    public MatchStatistics run() throws IOException {
+        pgnWriter = pgnOutput != null ? PGNWriter.open(pgnOutput) : null;
+        final AtomicInteger threadNumber = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(concurrency, new ThreadFactory() {
+            @Override
+            public Thread newThread(final Runnable runnable) {
+                final Thread thread = new Thread(runnable, "tournament-game-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        report("match " + first + " vs " + second);
+        try {
+            for (int i = 0; i < games; i++) {
+                final int round = i;
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        playGame(round);
+                    }
+                });
+            }
+            executor.shutdown();
+            while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                if (stopped.get()) {
+                    executor.shutdownNow();
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopped.set(true);
+            executor.shutdownNow();
+            throw new IOException("Tournament interrupted", e);
+        } finally {
+            if (pgnWriter != null) {
+                pgnWriter.close();
+            }
+        }
+        report("final " + describe());
+        return statistics;
+    }
+
+    private void playGame(final int round) {
+        if (stopped.get()) {
+            return;
+        }
+        final String opening = openings.get((round / 2) % openings.size());
+        final Board startingBoard = opening == null
+                ? Board.createStandardBoard()
+                : FenUtilities.createGameFromFEN(opening);
+        final boolean firstIsWhite = round % 2 == 0;
+        final EngineConfig white = firstIsWhite ? first : second;
+        final EngineConfig black = firstIsWhite ? second : first;
+        final SelfPlayGame game = new SelfPlayGame(startingBoard, white, black, maxPlies, tablebases);
+        try {
+            game.play(stopped);
+        } catch (final RuntimeException e) {
+            report("round " + (round + 1) + " failed: " + e);
+            return;
+        }
+        if (!game.isFinished()) {
+            return;
+        }
+        final double whiteScore = game.whiteScore();
+        statistics.record(firstIsWhite ? whiteScore : 1 - whiteScore);
+        writeGame(round, game, white, black);
+        report("round " + (round + 1) + " " + white.getName() + " - " + black.getName() + " "
+                + game.getResult() + " (" + game.getTermination() + ") " + describe());
+        if (sprt != null) {
+            final Sprt.Decision current = sprt.decide(statistics);
+            if (current != Sprt.Decision.CONTINUE) {
+                decision = current;
+                stopped.set(true);
+            }
+        }
+    }
+
+    private void writeGame(final int round, final SelfPlayGame game, final EngineConfig white, final EngineConfig black) {
+        if (pgnWriter == null) {
+            return;
+        }
+        final Map<String, String> tags = new LinkedHashMap<>();
+        tags.put("Event", "Self-play match");
+        tags.put("Round", Integer.toString(round + 1));
+        tags.put("White", white.getName());
+        tags.put("Black", black.getName());
+        tags.put("Termination", game.getTermination());
+        synchronized (pgnWriter) {
+            try {
+                pgnWriter.writeGame(tags, game.getStartingBoard(), game.getMoves(), game.getResult());
+                pgnWriter.flush();
+            } catch (final IOException e) {
+                report("cannot write round " + (round + 1) + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private String describe() {
+        final String summary = statistics.toString();
+        if (sprt == null) {
+            return summary;
+        }
+        final String sprtSummary = summary + " " + sprt.describe(statistics);
+        return decision == Sprt.Decision.CONTINUE ? sprtSummary : sprtSummary + " " + decision;
+    }
+
+    private void report(final String message) {
+        if (progressOutput != null) {
+            synchronized (progressOutput) {
+                progressOutput.println(message);
+            }
+        }
+    }
+
+    public static List<String> loadOpenings(final Path path) throws IOException {
+        final List<String> openings = new ArrayList<>();
+        for (final String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            final String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            final String[] fields = trimmed.split("\\s+");
+            if (fields.length < 4) {
+                throw new IOException("Malformed opening " + trimmed);
+            }
+            final boolean hasCounters = fields.length >= 6
+                    && fields[4].matches("\\d+") && fields[5].matches("\\d+");
+            final StringBuilder fen = new StringBuilder();
+            for (int i = 0; i < (hasCounters ? 6 : 4); i++) {
+                fen.append(i == 0 ? "" : " ").append(fields[i]);
+            }
+            if (!hasCounters) {
+                fen.append(" 0 1");
+            }
+            FenUtilities.createGameFromFEN(fen.toString());
+            openings.add(fen.toString());
+        }
+        if (openings.isEmpty()) {
+            throw new IOException("No openings in " + path);
+        }
+        return openings;
+    }
+
+    public static void main(final String[] args) throws IOException {
+        final Map<String, String> options = new LinkedHashMap<>();
+        for (final String arg : args) {
+            final int separator = arg.indexOf('=');
+            if (separator < 0) {
+                System.err.println("malformed argument " + arg);
+                return;
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        if (!options.containsKey("engine1") || !options.containsKey("engine2")) {
+            System.err.println("usage: Tournament engine1=depth=3 engine2=movetime=100,name=fast [games=N] "
+                    + "[concurrency=N] [openings=file.epd] [maxplies=N] [sprt=elo0,elo1,alpha,beta] "
+                    + "[pgn=games.pgn] [tablebases=dir]");
+            return;
+        }
+        final Builder builder = new Builder(EngineConfig.parse("engine1", options.get("engine1")),
+                                            EngineConfig.parse("engine2", options.get("engine2")))
+                .setProgressOutput(System.err);
+        if (options.containsKey("games")) {
+            builder.setGames(Integer.parseInt(options.get("games")));
+        }
+        if (options.containsKey("concurrency")) {
+            builder.setConcurrency(Integer.parseInt(options.get("concurrency")));
+        }
+        if (options.containsKey("openings")) {
+            builder.setOpenings(loadOpenings(Paths.get(options.get("openings"))));
+        }
+        if (options.containsKey("maxplies")) {
+            builder.setMaxPlies(Integer.parseInt(options.get("maxplies")));
+        }
+        if (options.containsKey("sprt")) {
+            final String[] bounds = options.get("sprt").split(",");
+            builder.setSprt(new Sprt(Double.parseDouble(bounds[0]), Double.parseDouble(bounds[1]),
+                    bounds.length > 2 ? Double.parseDouble(bounds[2]) : 0.05,
+                    bounds.length > 3 ? Double.parseDouble(bounds[3]) : 0.05));
+        }
+        if (options.containsKey("pgn")) {
+            builder.setPgnOutput(Paths.get(options.get("pgn")));
+        }
+        Tablebases tablebases = null;
+        if (options.containsKey("tablebases")) {
+            tablebases = Tablebases.open(Paths.get(options.get("tablebases")));
+            builder.setTablebases(tablebases);
+        }
+        try {
+            builder.build().run();
+        } finally {
+            if (tablebases != null) {
+                tablebases.close();
+            }
+        }
+    }
+
+    public static class Builder {
+        private final EngineConfig first;
+        private final EngineConfig second;
+        private int games;
+        private int concurrency;
+        private List<String> openings;
+        private int maxPlies;
+        private Sprt sprt;
+        private Path pgnOutput;
+        private PrintStream progressOutput;
+        private Tablebases tablebases;
+
+        public Builder(final EngineConfig first, final EngineConfig second) {
+            this.first = first;
+            this.second = second;
+            this.games = 100;
+            this.concurrency = Runtime.getRuntime().availableProcessors();
+            this.openings = Collections.singletonList(null);
+            this.maxPlies = 400;
+        }
+
+        public Builder setGames(final int games) {
+            this.games = Math.max(1, games);
+            return this;
+        }
+
+        public Builder setConcurrency(final int concurrency) {
+            this.concurrency = Math.max(1, concurrency);
+            return this;
+        }
+
+        public Builder setOpenings(final List<String> openings) {
+            this.openings = openings.isEmpty() ? Collections.<String>singletonList(null) : openings;
+            return this;
+        }
+
+        public Builder setMaxPlies(final int maxPlies) {
+            this.maxPlies = Math.max(1, maxPlies);
+            return this;
+        }
+
+        public Builder setSprt(final Sprt sprt) {
+            this.sprt = sprt;
+            return this;
+        }
+
+        public Builder setPgnOutput(final Path pgnOutput) {
+            this.pgnOutput = pgnOutput;
+            return this;
+        }
+
+        public Builder setProgressOutput(final PrintStream progressOutput) {
+            this.progressOutput = progressOutput;
+            return this;
+        }
+
+        public Builder setTablebases(final Tablebases tablebases) {
+            this.tablebases = tablebases;
+            return this;
+        }
+
+        public Tournament build() {
+            return new Tournament(this);
+        }
+    }
+}
@@ -0,0 +1,477 @@
+package chess.uci;
+
+import chess.book.OpeningBook;
+import chess.engine.board.Board;
+import chess.engine.board.BoardUtils;
+import chess.engine.board.Move;
+import chess.engine.metrics.MetricsReporter;
+import chess.engine.player.MoveTransition;
+import chess.engine.player.ai.AlphaBeta;
+import chess.engine.player.ai.SearchInfo;
+import chess.engine.player.ai.SearchLimits;
+import chess.engine.player.ai.SearchListener;
+import chess.engine.player.ai.StandardBoardEvaluator;
+import chess.engine.player.ai.TranspositionTable;
+import chess.pgn.FenUtilities;
+import chess.tablebase.Tablebases;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+public class UciEngine {
+    private static final String ENGINE_NAME = "JChess";
+    private static final String ENGINE_AUTHOR = "wandel812";
+    private static final int MAX_HASH_MB = 1024;
+    private static final int MAX_THREADS = 64;
+    private static final int MAX_MULTI_PV = 32;
+    private static final int DEFAULT_MOVES_TO_GO = 30;
+    private static final long MOVE_OVERHEAD_MILLIS = 50;
+
+    private final BufferedReader input;
+    private final PrintStream output;
+    private final ExecutorService searchExecutor;
+    private final Random bookRandom;
+
+    private Board board;
+    private int hashSizeMb;
+    private int threads;
+    private int multiPv;
+    private TranspositionTable transpositionTable;
+    private OpeningBook openingBook;
+    private Tablebases tablebases;
+    private boolean ownBook;
+    private volatile AlphaBeta activeSearch;
+    private volatile boolean infiniteSearch;
+    private Future<?> searchFuture;
+
+    public UciEngine(final InputStream input, final PrintStream output) {
+        this.input = new BufferedReader(new InputStreamReader(input));
+        this.output = output;
+        this.searchExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(final Runnable runnable) {
+                final Thread thread = new Thread(runnable, "uci-search");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        this.hashSizeMb = TranspositionTable.DEFAULT_SIZE_MB;
+        this.threads = 1;
+        this.multiPv = 1;
+        this.bookRandom = new Random();
+    }
+
+    public static void main(final String[] args) throws IOException {
+        MetricsReporter.startIfEnabled(System.err);
+        new UciEngine(System.in, System.out).run();
+    }
+
+    public void run() throws IOException {
+        String line;
+        while ((line = input.readLine()) != null) {
+            final String command = line.trim();
+            if (command.isEmpty()) {
+                continue;
+            }
+            if (!handleCommand(command)) {
+                break;
+            }
+        }
+        stopSearch();
+        searchExecutor.shutdown();
+        closeBook();
+        closeTablebases();
+    }
+
+    private boolean handleCommand(final String command) {
+        final String[] tokens = command.split("\\s+");
+        try {
+            return dispatch(tokens);
+        } catch (final NumberFormatException e) {
+            send("info string invalid number in " + tokens[0] + ": " + e.getMessage());
+            return true;
+        }
+    }
+
+    private boolean dispatch(final String[] tokens) {
+        switch (tokens[0]) {
+            case "uci":
+                send("id name " + ENGINE_NAME);
+                send("id author " + ENGINE_AUTHOR);
+                send("option name Hash type spin default " + TranspositionTable.DEFAULT_SIZE_MB
+                        + " min 1 max " + MAX_HASH_MB);
+                send("option name Threads type spin default 1 min 1 max " + MAX_THREADS);
+                send("option name MultiPV type spin default 1 min 1 max " + MAX_MULTI_PV);
+                send("option name OwnBook type check default false");
+                send("option name BookFile type string default <empty>");
+                send("option name TablebasePath type string default <empty>");
+                send("uciok");
+                break;
+            case "isready":
+                send("readyok");
+                break;
+            case "setoption":
+                stopSearch();
+                setOption(tokens);
+                break;
+            case "ucinewgame":
+                stopSearch();
+                if (transpositionTable != null) {
+                    transpositionTable.clear();
+                }
+                board = null;
+                break;
+            case "position":
+                stopSearch();
+                setPosition(tokens);
+                break;
+            case "go":
+                stopSearch();
+                go(tokens);
+                break;
+            case "stop":
+                stopSearch();
+                break;
+            case "quit":
+                return false;
+            default:
+                send("info string unknown command " + tokens[0]);
+                break;
+        }
+        return true;
+    }
+
+    private void setOption(final String[] tokens) {
+        final StringBuilder name = new StringBuilder();
+        String value = null;
+        for (int i = 1; i < tokens.length; i++) {
+            if ("name".equals(tokens[i])) {
+                continue;
+            }
+            if ("value".equals(tokens[i])) {
+                final StringBuilder text = new StringBuilder();
+                for (i++; i < tokens.length; i++) {
+                    text.append(text.length() == 0 ? "" : " ").append(tokens[i]);
+                }
+                value = text.length() > 0 ? text.toString() : null;
+                break;
+            }
+            name.append(name.length() == 0 ? "" : " ").append(tokens[i]);
+        }
+        if (value == null) {
+            return;
+        }
+        if ("Hash".equalsIgnoreCase(name.toString())) {
+            hashSizeMb = clamp(Integer.parseInt(value), 1, MAX_HASH_MB);
+            transpositionTable = null;
+        } else if ("Threads".equalsIgnoreCase(name.toString())) {
+            threads = clamp(Integer.parseInt(value), 1, MAX_THREADS);
+        } else if ("MultiPV".equalsIgnoreCase(name.toString())) {
+            multiPv = clamp(Integer.parseInt(value), 1, MAX_MULTI_PV);
+        } else if ("OwnBook".equalsIgnoreCase(name.toString())) {
+            ownBook = Boolean.parseBoolean(value);
+        } else if ("BookFile".equalsIgnoreCase(name.toString())) {
+            openBook(value);
+        } else if ("TablebasePath".equalsIgnoreCase(name.toString())) {
+            openTablebases(value);
+        } else {
+            send("info string unknown option " + name);
+        }
+    }
+
+    private void setPosition(final String[] tokens) {
+        int index = 1;
+        Board position;
+        if (index < tokens.length && "startpos".equals(tokens[index])) {
+            position = Board.createStandardBoard();
+            index++;
+        } else if (index < tokens.length && "fen".equals(tokens[index])) {
+            final StringBuilder fen = new StringBuilder();
+            for (index++; index < tokens.length && !"moves".equals(tokens[index]); index++) {
+                fen.append(tokens[index]).append(' ');
+            }
+            try {
+                position = FenUtilities.createGameFromFEN(fen.toString());
+            } catch (final RuntimeException e) {
+                send("info string " + e.getMessage());
+                return;
+            }
+        } else {
+            send("info string malformed position command");
+            return;
+        }
+        if (index < tokens.length && "moves".equals(tokens[index])) {
+            for (index++; index < tokens.length; index++) {
+                final Board next = applyMove(position, tokens[index]);
+                if (next == null) {
+                    send("info string illegal move " + tokens[index] + ", position unchanged");
+                    return;
+                }
+                position = next;
+            }
+        }
+        board = position;
+    }
+
+    private Board currentBoard() {
+        if (board == null) {
+            board = Board.createStandardBoard();
+        }
+        return board;
+    }
+
+    private TranspositionTable searchTable() {
+        if (transpositionTable == null) {
+            transpositionTable = new TranspositionTable(hashSizeMb);
+        }
+        return transpositionTable;
+    }
+
+    private void go(final String[] tokens) {
+        int depth = SearchLimits.MAX_DEPTH;
+        long moveTime = -1;
+        long nodes = -1;
+        long whiteTime = -1;
+        long blackTime = -1;
+        long whiteIncrement = 0;
+        long blackIncrement = 0;
+        int movesToGo = DEFAULT_MOVES_TO_GO;
+        boolean infinite = false;
+        for (int i = 1; i < tokens.length; i++) {
+            final String value = i + 1 < tokens.length ? tokens[i + 1] : "0";
+            switch (tokens[i]) {
+                case "depth":
+                    depth = Integer.parseInt(value);
+                    i++;
+                    break;
+                case "movetime":
+                    moveTime = Long.parseLong(value);
+                    i++;
+                    break;
+                case "nodes":
+                    nodes = Long.parseLong(value);
+                    i++;
+                    break;
+                case "wtime":
+                    whiteTime = Long.parseLong(value);
+                    i++;
+                    break;
+                case "btime":
+                    blackTime = Long.parseLong(value);
+                    i++;
+                    break;
+                case "winc":
+                    whiteIncrement = Long.parseLong(value);
+                    i++;
+                    break;
+                case "binc":
+                    blackIncrement = Long.parseLong(value);
+                    i++;
+                    break;
+                case "movestogo":
+                    movesToGo = Math.max(1, Integer.parseInt(value));
+                    i++;
+                    break;
+                case "infinite":
+                    infinite = true;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        final Board searchBoard = currentBoard();
+        final boolean whiteToMove = searchBoard.currentPlayer().getAlliance().isWhite();
+        final long remaining = whiteToMove ? whiteTime : blackTime;
+        final long increment = whiteToMove ? whiteIncrement : blackIncrement;
+        long timeLimit = -1;
+        if (!infinite) {
+            if (moveTime >= 0) {
+                timeLimit = moveTime;
+            } else if (remaining >= 0) {
+                timeLimit = Math.max(10, Math.min(remaining - MOVE_OVERHEAD_MILLIS,
+                        remaining / movesToGo + increment * 3 / 4));
+            }
+        }
+
+        if (ownBook && openingBook != null && !infinite) {
+            final Move bookMove = openingBook.selectMove(searchBoard, bookRandom);
+            if (bookMove != Move.NULL_MOVE) {
+                send("info string book move");
+                send("bestmove " + toUci(bookMove));
+                return;
+            }
+        }
+
+        final SearchLimits limits = SearchLimits.of(depth, timeLimit, infinite ? -1 : nodes);
+        final AlphaBeta search = new AlphaBeta(new StandardBoardEvaluator(), searchTable(), threads, depth);
+        search.setTablebases(tablebases);
+        search.setMultiPv(multiPv);
+        search.setSearchListener(new SearchListener() {
+            @Override
+            public void onSearchProgress(final SearchInfo searchInfo) {
+                send(formatInfo(searchInfo));
+            }
+        });
+        activeSearch = search;
+        infiniteSearch = infinite;
+        searchFuture = searchExecutor.submit(new Runnable() {
+            @Override
+            public void run() {
+                final SearchInfo result = search.search(searchBoard, limits);
+                synchronized (UciEngine.this) {
+                    while (infiniteSearch) {
+                        try {
+                            UciEngine.this.wait();
+                        } catch (final InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            break;
+                        }
+                    }
+                }
+                final Move bestMove = result != null ? result.getBestMove() : Move.NULL_MOVE;
+                send("bestmove " + toUci(bestMove));
+            }
+        });
+    }
+
+    private void stopSearch() {
+        final AlphaBeta search = activeSearch;
+        if (search == null) {
+            return;
+        }
+        search.stop();
+        synchronized (this) {
+            infiniteSearch = false;
+            notifyAll();
+        }
+        try {
+            searchFuture.get();
+        } catch (final Exception e) {
+            send("info string search failed " + e.getMessage());
+        }
+        activeSearch = null;
+    }
+
+    private void openBook(final String path) {
+        closeBook();
+        if ("<empty>".equals(path)) {
+            return;
+        }
+        try {
+            openingBook = OpeningBook.open(Paths.get(path));
+            send("info string book " + path + " with " + openingBook.getEntryCount() + " entries");
+        } catch (final IOException | RuntimeException e) {
+            send("info string cannot open book " + path + ": " + e.getMessage());
+        }
+    }
+
+    private void closeBook() {
+        if (openingBook == null) {
+            return;
+        }
+        try {
+            openingBook.close();
+        } catch (final IOException e) {
+            send("info string cannot close book: " + e.getMessage());
+        }
+        openingBook = null;
+    }
+
+    private void openTablebases(final String path) {
+        closeTablebases();
+        if ("<empty>".equals(path)) {
+            return;
+        }
+        try {
+            tablebases = Tablebases.open(Paths.get(path));
+            send("info string " + tablebases.getTableCount() + " tablebases up to "
+                    + tablebases.getMaxPieces() + " pieces in " + path);
+        } catch (final IOException | RuntimeException e) {
+            send("info string cannot open tablebases " + path + ": " + e.getMessage());
+        }
+    }
+
+    private void closeTablebases() {
+        if (tablebases == null) {
+            return;
+        }
+        try {
+            tablebases.close();
+        } catch (final IOException e) {
+            send("info string cannot close tablebases: " + e.getMessage());
+        }
+        tablebases = null;
+    }
+
+    private String formatInfo(final SearchInfo searchInfo) {
+        final StringBuilder sb = new StringBuilder("info depth ").append(searchInfo.getDepth());
+        if (multiPv > 1) {
+            sb.append(" multipv ").append(searchInfo.getMultiPv());
+        }
+        if (searchInfo.isMateScore()) {
+            sb.append(" score mate ").append(searchInfo.getMateInMoves());
+        } else {
+            sb.append(" score cp ").append(searchInfo.getScore());
+        }
+        sb.append(" nodes ").append(searchInfo.getNodes())
+          .append(" nps ").append(searchInfo.getNodesPerSecond())
+          .append(" time ").append(searchInfo.getTimeMillis())
+          .append(" pv");
+        for (final Move move : searchInfo.getPrincipalVariation()) {
+            sb.append(' ').append(toUci(move));
+        }
+        return sb.toString();
+    }
+
+    public static Board applyMove(final Board board, final String uciMove) {
+        final Move move = parseMove(board, uciMove);
+        final MoveTransition transition = board.currentPlayer().makeMove(move);
+        return transition.getMoveStatus().isDone() ? transition.getTransitionBoard() : null;
+    }
+
+    public static Move parseMove(final Board board, final String uciMove) {
+        if (uciMove.length() < 4 || uciMove.length() > 5) {
+            return Move.NULL_MOVE;
+        }
+        final Integer from = BoardUtils.POSITION_TO_COORDINATE.get(uciMove.substring(0, 2));
+        final Integer to = BoardUtils.POSITION_TO_COORDINATE.get(uciMove.substring(2, 4));
+        if (from == null || to == null) {
+            return Move.NULL_MOVE;
+        }
+        final Move move = Move.MoveFactory.createMove(board, from, to);
+        final boolean promotion = move instanceof Move.PawnPromotion;
+        final boolean queenSuffix = uciMove.length() == 5 && uciMove.charAt(4) == 'q';
+        if (promotion != queenSuffix) {
+            return Move.NULL_MOVE;
+        }
+        return move;
+    }
+
+    public static String toUci(final Move move) {
+        if (move == Move.NULL_MOVE) {
+            return "0000";
+        }
+        final String uciMove = BoardUtils.getPositionAtCoordinate(move.getCurrentCoordinate())
+                + BoardUtils.getPositionAtCoordinate(move.getDestinationCoordinate());
+        return move instanceof Move.PawnPromotion ? uciMove + "q" : uciMove;
+    }
+
+    private synchronized void send(final String message) {
+        output.println(message);
+        output.flush();
+    }
+
+    private static int clamp(final int value, final int min, final int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -0,0 +1,120 @@
+package chess.analysis;
+
+import chess.engine.board.Board;
+import chess.engine.board.Move;
+import chess.engine.player.ai.AlphaBeta;
+import chess.engine.player.ai.SearchInfo;
+import chess.engine.player.ai.SearchLimits;
+import chess.pgn.FenUtilities;
+import chess.pgn.PGNUtilities;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class AnalysisCacheTest {
+    private static final String ROOK_ENDING = "8/8/8/4k3/8/8/8/R3K3 w - - %d 60";
+    private static final String AFTER_NF3_NF6 = "rnbqkb1r/pppppppp/5n2/8/8/5N2/PPPPPPPP/RNBQKB1R w KQkq - 2 2";
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void storedResultsNeedEnoughDepthAndTheSameLineCount() {
+        final AnalysisCache cache = new AnalysisCache(AnalysisCache.DEFAULT_MAX_ENTRIES, AnalysisCache.DEFAULT_MAX_BYTES);
+        final Board board = Board.createStandardBoard();
+        cache.put(board, info(board, 6, 25, "e4", "e5"));
+
+        final SearchInfo cached = cache.get(board, 5);
+        assertNotNull(cached);
+        assertEquals(6, cached.getDepth());
+        assertEquals(25, cached.getScore());
+        assertEquals("e4", PGNUtilities.toSAN(cached.getPrincipalVariation().get(0)));
+        assertNull(cache.get(board, 7));
+        assertNull(cache.get(board, 6, 3));
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void resultsNearTheFiftyMoveLimitAreNotServed() {
+        final AnalysisCache cache = new AnalysisCache(AnalysisCache.DEFAULT_MAX_ENTRIES, AnalysisCache.DEFAULT_MAX_BYTES);
+        final Board fresh = FenUtilities.createGameFromFEN(String.format(ROOK_ENDING, 0));
+        cache.put(fresh, info(fresh, 4, 544, "Kd2"));
+        assertEquals(1, cache.size());
+
+        final Board late = FenUtilities.createGameFromFEN(String.format(ROOK_ENDING, 99));
+        assertEquals(fresh.getZobristHash(), late.getZobristHash());
+        assertNull(cache.get(late, 4));
+        assertNotNull(cache.get(fresh, 4));
+
+        cache.put(late, info(late, 4, 0, "Kd2"));
+        assertEquals(544, cache.get(fresh, 4).getScore());
+    }
+
+    @Test
+    public void resultsWhoseLineRepeatsThisGameAreNotServed() {
+        final AnalysisCache cache = new AnalysisCache(AnalysisCache.DEFAULT_MAX_ENTRIES, AnalysisCache.DEFAULT_MAX_BYTES);
+        final Board fresh = FenUtilities.createGameFromFEN(AFTER_NF3_NF6);
+        cache.put(fresh, info(fresh, 3, 10, "Ng1", "Ng8", "Nf3"));
+
+        Board played = Board.createStandardBoard();
+        for (final String san : new String[] {"Nf3", "Nf6", "Ng1", "Ng8", "Nf3", "Nf6"}) {
+            played = PGNUtilities.playMove(played, san).getTransitionBoard();
+        }
+        assertEquals(fresh.getZobristHash(), played.getZobristHash());
+        assertNull(cache.get(played, 3));
+        assertNotNull(cache.get(fresh, 3));
+    }
+
+    @Test
+    public void searchReusesFixedDepthResults() {
+        final AnalysisCache cache = new AnalysisCache(AnalysisCache.DEFAULT_MAX_ENTRIES, AnalysisCache.DEFAULT_MAX_BYTES);
+        final AlphaBeta search = new AlphaBeta();
+        final Board fresh = FenUtilities.createGameFromFEN(String.format(ROOK_ENDING, 0));
+        final SearchInfo first = cache.search(search, fresh, SearchLimits.depth(3));
+        final SearchInfo second = cache.search(search, fresh, SearchLimits.depth(3));
+        assertEquals(first.getScore(), second.getScore());
+        assertEquals(1, cache.getHits());
+
+        final Board late = FenUtilities.createGameFromFEN(String.format(ROOK_ENDING, 99));
+        assertEquals(search.search(late, SearchLimits.depth(3)).getScore(),
+                cache.search(search, late, SearchLimits.depth(3)).getScore());
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void entriesSurviveSaveAndLoad() throws IOException {
+        final Path path = folder.getRoot().toPath().resolve("analysis.cache");
+        final Board board = Board.createStandardBoard();
+        try (final AnalysisCache cache = AnalysisCache.open(path, 1000, 1 << 20)) {
+            cache.put(board, info(board, 8, 30, "d4", "d5", "c4"));
+            cache.put(board, info(board, 8, 20, "e4"), 2);
+        }
+        try (final AnalysisCache cache = AnalysisCache.open(path, 1000, 1 << 20)) {
+            assertEquals(2, cache.size());
+            assertEquals(30, cache.get(board, 8).getScore());
+            assertEquals(3, cache.get(board, 8).getPrincipalVariation().size());
+            assertEquals(20, cache.get(board, 8, 2).getScore());
+        }
+    }
+
+    private static SearchInfo info(final Board board, final int depth, final int score, final String... line) {
+        final List<Move> moves = new ArrayList<>(line.length);
+        Board current = board;
+        for (final String san : line) {
+            final Move move = PGNUtilities.createMove(current, san);
+            moves.add(move);
+            current = current.currentPlayer().makeMove(move).getTransitionBoard();
+        }
+        return new SearchInfo(depth, score, 1000, 0, moves);
+    }
+}
@@ -0,0 +1,83 @@
+package chess.book;
+
+import chess.engine.board.Board;
+import chess.engine.board.Move;
+import chess.pgn.PGNGame;
+import chess.pgn.PGNUtilities;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class OpeningBookTest {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void bookMovesAreWeightedByResults() throws IOException {
+        final Path path = folder.getRoot().toPath().resolve("book.bin");
+        final OpeningBookBuilder builder = new OpeningBookBuilder();
+        builder.addGame(game("1-0", "e4", "e5", "Nf3"));
+        builder.addGame(game("1-0", "e4", "c5"));
+        builder.addGame(game("1/2-1/2", "d4", "d5"));
+        builder.addGame(game("0-1", "c4", "e5"));
+        builder.addGame(game("*", "b3"));
+        assertEquals(4, builder.getGamesAdded());
+        builder.write(path);
+
+        try (final OpeningBook book = OpeningBook.open(path)) {
+            final Board start = Board.createStandardBoard();
+            final List<BookMove> moves = book.getBookMoves(start);
+            assertEquals(2, moves.size());
+            assertEquals("e4", PGNUtilities.toSAN(start, moves.get(0).getMove()));
+            assertEquals(4, moves.get(0).getWeight());
+            assertEquals("d4", PGNUtilities.toSAN(start, moves.get(1).getMove()));
+            assertEquals(1, moves.get(1).getWeight());
+            assertEquals(moves.get(0).getMove(), book.getBestMove(start));
+
+            final Board afterE4 = PGNUtilities.playMove(start, "e4").getTransitionBoard();
+            assertEquals(0, book.getBookMoves(afterE4).size());
+            assertSame(Move.NULL_MOVE, book.selectMove(afterE4, new Random(1)));
+        }
+    }
+
+    @Test
+    public void castlingAndPolyglotKeysSurviveTheFile() throws IOException {
+        final Path path = folder.getRoot().toPath().resolve("castle.bin");
+        final Random random = new Random(7);
+        final long[] randoms = new long[PolyglotHasher.RANDOM_COUNT];
+        for (int i = 0; i < randoms.length; i++) {
+            randoms[i] = random.nextLong();
+        }
+        final PolyglotHasher hasher = new PolyglotHasher(randoms);
+        final OpeningBookBuilder builder = new OpeningBookBuilder(hasher);
+        final List<String> line = Arrays.asList("e4", "e5", "Nf3", "Nc6", "Bc4", "Bc5", "O-O");
+        builder.addGame(new PGNGame(Collections.<String, String>emptyMap(), line, "1/2-1/2"));
+        builder.write(path);
+
+        try (final OpeningBook book = new OpeningBook(path, hasher)) {
+            assertEquals(line.size(), book.getEntryCount());
+            Board board = Board.createStandardBoard();
+            for (final String san : line) {
+                final Move bookMove = book.getBestMove(board);
+                assertEquals(san, PGNUtilities.toSAN(board, bookMove));
+                board = PGNUtilities.playMove(board, san).getTransitionBoard();
+            }
+            assertTrue(book.getBookMoves(board).isEmpty());
+        }
+    }
+
+    private static PGNGame game(final String result, final String... moves) {
+        return new PGNGame(Collections.<String, String>emptyMap(), Arrays.asList(moves), result);
+    }
+}
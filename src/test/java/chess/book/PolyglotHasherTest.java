@@ -0,0 +1,152 @@
+package chess.book;
+
+import chess.engine.board.Board;
+import chess.pgn.FenUtilities;
+import chess.pgn.PGNUtilities;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class PolyglotHasherTest {
+    private static final String PIECE_KINDS = "pPnNbBrRqQkK";
+    private static final long[] RANDOMS = randoms();
+    private static final PolyglotHasher HASHER = new PolyglotHasher(RANDOMS);
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void hashesFollowThePolyglotDefinition() {
+        final String[] fens = {
+                FenUtilities.STANDARD_START_FEN,
+                "rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1",
+                "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3",
+                "rnbqkbnr/ppp1pppp/8/8/3pP3/8/PPPP1PPP/RNBQKBNR b Kq e3 0 3",
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w Qk - 0 1",
+                "8/8/8/8/8/8/8/K6k b - - 0 70",
+        };
+        for (final String fen : fens) {
+            assertEquals(fen, polyglotKey(fen), HASHER.hash(FenUtilities.createGameFromFEN(fen)));
+        }
+    }
+
+    @Test
+    public void enPassantCountsOnlyWhenACaptureIsPossible() {
+        final Board afterE4 = PGNUtilities.playMove(Board.createStandardBoard(), "e4").getTransitionBoard();
+        final Board sameWithoutTarget = FenUtilities.createGameFromFEN(
+                "rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq - 0 1");
+        assertEquals(HASHER.hash(sameWithoutTarget), HASHER.hash(afterE4));
+
+        final Board capturable = FenUtilities.createGameFromFEN(
+                "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3");
+        final Board notCapturable = FenUtilities.createGameFromFEN(
+                "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq - 0 3");
+        assertEquals(HASHER.hash(notCapturable) ^ RANDOMS[772 + 5], HASHER.hash(capturable));
+    }
+
+    @Test
+    public void transpositionsHashAlike() {
+        Board first = Board.createStandardBoard();
+        for (final String san : new String[] {"Nf3", "Nf6", "Nc3"}) {
+            first = PGNUtilities.playMove(first, san).getTransitionBoard();
+        }
+        Board second = Board.createStandardBoard();
+        for (final String san : new String[] {"Nc3", "Nf6", "Nf3"}) {
+            second = PGNUtilities.playMove(second, san).getTransitionBoard();
+        }
+        assertEquals(HASHER.hash(first), HASHER.hash(second));
+        assertNotEquals(HASHER.hash(first), HASHER.hash(Board.createStandardBoard()));
+    }
+
+    @Test
+    public void loadsTheRandomTableFromText() throws IOException {
+        final StringBuilder text = new StringBuilder("const uint64 Random64[781] = {\n");
+        for (final long random : RANDOMS) {
+            text.append(String.format("   U64(0x%016X),%n", random));
+        }
+        text.append("};\n");
+        final Path path = folder.getRoot().toPath().resolve("random64.c");
+        Files.write(path, text.toString().getBytes(StandardCharsets.UTF_8));
+        final Board board = FenUtilities.createGameFromFEN(FenUtilities.STANDARD_START_FEN);
+        assertEquals(HASHER.hash(board), PolyglotHasher.load(path).hash(board));
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsTruncatedTables() throws IOException {
+        final Path path = folder.getRoot().toPath().resolve("short.c");
+        Files.write(path, "0x0123456789ABCDEF, 0x1\n".getBytes(StandardCharsets.UTF_8));
+        PolyglotHasher.load(path);
+    }
+
+    private static long polyglotKey(final String fen) {
+        final String[] fields = fen.split(" ");
+        long key = 0;
+        int row = 7;
+        int file = 0;
+        for (final char c : fields[0].toCharArray()) {
+            if (c == '/') {
+                row--;
+                file = 0;
+            } else if (Character.isDigit(c)) {
+                file += c - '0';
+            } else {
+                key ^= RANDOMS[64 * PIECE_KINDS.indexOf(c) + 8 * row + file];
+                file++;
+            }
+        }
+        final String castling = "KQkq";
+        for (int i = 0; i < castling.length(); i++) {
+            if (fields[2].indexOf(castling.charAt(i)) >= 0) {
+                key ^= RANDOMS[768 + i];
+            }
+        }
+        final boolean whiteToMove = fields[1].equals("w");
+        if (!fields[3].equals("-")) {
+            final Board board = FenUtilities.createGameFromFEN(fen);
+            final int epFile = fields[3].charAt(0) - 'a';
+            final int pawnRow = whiteToMove ? 4 : 3;
+            final char capturer = whiteToMove ? 'P' : 'p';
+            for (final int adjacent : new int[] {epFile - 1, epFile + 1}) {
+                if (adjacent >= 0 && adjacent < 8 && pieceAt(board, pawnRow, adjacent) == capturer) {
+                    key ^= RANDOMS[772 + epFile];
+                    break;
+                }
+            }
+        }
+        if (whiteToMove) {
+            key ^= RANDOMS[780];
+        }
+        return key;
+    }
+
+    private static char pieceAt(final Board board, final int row, final int file) {
+        final String placement = FenUtilities.createFENFromGame(board).split(" ")[0].split("/")[7 - row];
+        int current = 0;
+        for (final char c : placement.toCharArray()) {
+            if (Character.isDigit(c)) {
+                current += c - '0';
+            } else if (current++ == file) {
+                return c;
+            }
+        }
+        return ' ';
+    }
+
+    private static long[] randoms() {
+        final Random random = new Random(0x5EED);
+        final long[] randoms = new long[PolyglotHasher.RANDOM_COUNT];
+        for (int i = 0; i < randoms.length; i++) {
+            randoms[i] = random.nextLong();
+        }
+        return randoms;
+    }
+}
@@ -0,0 +1,45 @@
+package chess.engine.board;
+
+import chess.pgn.FenUtilities;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+public class MoveCodecTest {
+    private static final String[] FENS = {
+            FenUtilities.STANDARD_START_FEN,
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "rnbqkbnr/ppp1pppp/8/3pP3/8/8/PPPP1PPP/RNBQKBNR w KQkq d6 0 3",
+            "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 b kq - 0 1",
+    };
+
+    @Test
+    public void everyLegalMoveDecodesToItself() {
+        for (final String fen : FENS) {
+            final Board board = FenUtilities.createGameFromFEN(fen);
+            for (final Move move : board.currentPlayer().getLegalMoves()) {
+                final short code = MoveCodec.encode(move);
+                assertEquals(move.getCurrentCoordinate(), MoveCodec.currentCoordinate(code));
+                assertEquals(move.getDestinationCoordinate(), MoveCodec.destinationCoordinate(code));
+                assertEquals(fen + " " + move, move, MoveCodec.decode(board, code));
+            }
+        }
+    }
+
+    @Test
+    public void promotionsAreFlagged() {
+        final Board board = FenUtilities.createGameFromFEN(FENS[3]);
+        final Move promotion = Move.MoveFactory.createMove(board, 49, 56);
+        assertEquals(Move.PawnPromotion.class, promotion.getClass());
+        final short code = MoveCodec.encode(promotion);
+        assertNotEquals(MoveCodec.encodeSquares(promotion), code);
+        assertEquals(MoveCodec.encodeSquares(promotion), code & 0xFFF);
+    }
+
+    @Test
+    public void unknownSquaresDecodeToNullMove() {
+        assertSame(Move.NULL_MOVE, MoveCodec.decode(Board.createStandardBoard(), MoveCodec.encodeSquares(52, 20)));
+    }
+}
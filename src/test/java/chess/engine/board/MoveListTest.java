@@ -0,0 +1,112 @@
+package chess.engine.board;
+
+import chess.engine.player.MoveTransition;
+import chess.pgn.FenUtilities;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MoveListTest {
+    @Test
+    public void appendGrowsPastTheInitialCapacity() {
+        final List<Move> source = new ArrayList<>(Board.createStandardBoard().currentPlayer().getLegalMoves());
+        final MoveList moves = new MoveList(1);
+        for (final Move move : source) {
+            moves.append(move);
+        }
+        assertEquals(source, moves);
+        assertTrue(moves instanceof RandomAccess);
+        assertArrayEquals(source.toArray(), moves.toArray());
+
+        final MoveList doubled = new MoveList(0);
+        doubled.appendAll(moves);
+        doubled.appendAll(source);
+        assertEquals(2 * source.size(), doubled.size());
+        assertSame(source.get(0), doubled.get(source.size()));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getRejectsIndicesPastTheSize() {
+        final MoveList moves = new MoveList();
+        moves.append(Move.NULL_MOVE);
+        moves.get(1);
+    }
+
+    @Test
+    public void concatKeepsOrderAndIsSealed() {
+        final Board board = Board.createStandardBoard();
+        final MoveList moves = MoveList.concat(board.getWhitePlayer().getLegalMoves(),
+                board.getBlackPlayer().getLegalMoves());
+        assertEquals(40, moves.size());
+        assertSame(board.getWhitePlayer().getLegalMoves().iterator().next(), moves.get(0));
+        assertSealed(moves);
+    }
+
+    @Test
+    public void boardMoveListsAreSealed() {
+        final Board board = Board.createStandardBoard();
+        assertSealed((MoveList) board.currentPlayer().getLegalMoves());
+        assertSealed((MoveList) board.currentPlayer().getOpponent().getLegalMoves());
+        assertSealed((MoveList) board.getAllLegalMove());
+    }
+
+    @Test
+    public void allLegalMovesAreBuiltOnce() {
+        final Board board = FenUtilities.createGameFromFEN(
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        final Iterable<Move> moves = board.getAllLegalMove();
+        assertSame(moves, board.getAllLegalMove());
+        int count = 0;
+        for (final Move ignored : moves) {
+            count++;
+        }
+        assertEquals(board.getWhitePlayer().getLegalMoves().size()
+                + board.getBlackPlayer().getLegalMoves().size(), count);
+    }
+
+    @Test
+    public void legalMoveCountsMatchPerft() {
+        assertEquals(8902, perft(Board.createStandardBoard(), 3));
+        assertEquals(2039, perft(FenUtilities.createGameFromFEN(
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1"), 2));
+        assertEquals(2812, perft(FenUtilities.createGameFromFEN("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1"), 3));
+    }
+
+    private static void assertSealed(final MoveList moves) {
+        try {
+            moves.append(Move.NULL_MOVE);
+            fail("append changed a sealed list");
+        } catch (final UnsupportedOperationException expected) {
+            // expected
+        }
+        try {
+            moves.appendAll(Arrays.asList(Move.NULL_MOVE));
+            fail("appendAll changed a sealed list");
+        } catch (final UnsupportedOperationException expected) {
+            // expected
+        }
+    }
+
+    private static long perft(final Board board, final int depth) {
+        if (depth == 0) {
+            return 1;
+        }
+        long nodes = 0;
+        for (final Move move : board.currentPlayer().getLegalMoves()) {
+            final MoveTransition transition = board.currentPlayer().makeMove(move);
+            if (transition.getMoveStatus().isDone()) {
+                nodes += perft(transition.getTransitionBoard(), depth - 1);
+            }
+        }
+        return nodes;
+    }
+}
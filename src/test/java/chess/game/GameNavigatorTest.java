@@ -0,0 +1,132 @@
+package chess.game;
+
+import chess.engine.board.Board;
+import chess.engine.board.Move;
+import chess.engine.player.MoveTransition;
+import chess.pgn.PGNUtilities;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class GameNavigatorTest {
+    private GameNavigator navigator;
+
+    @Before
+    public void setUp() {
+        navigator = new GameNavigator(Board.createStandardBoard());
+        play("e4", "e5", "Nf3");
+    }
+
+    @Test
+    public void undoAndRedoMoveThroughTheSnapshots() {
+        final Board afterNf3 = navigator.getCurrentBoard();
+        assertTrue(navigator.undo());
+        assertTrue(navigator.undo());
+        assertEquals(1, navigator.getPly());
+        assertEquals(Arrays.asList("e4"), san(navigator.getPlayedMoves()));
+        assertTrue(navigator.canRedo());
+        navigator.goToPly(3);
+        assertSame(afterNf3, navigator.getCurrentBoard());
+        assertFalse(navigator.redo());
+        navigator.goToPly(0);
+        assertFalse(navigator.undo());
+        assertSame(navigator.getStartBoard(), navigator.getCurrentBoard());
+    }
+
+    @Test
+    public void replayingTheNextMoveKeepsTheLine() {
+        navigator.goToPly(1);
+        final Board afterE5 = navigator.getBoardAt(2);
+        final MoveTransition transition = navigator.play(move("e5"));
+        assertTrue(transition.getMoveStatus().isDone());
+        assertSame(afterE5, navigator.getCurrentBoard());
+        assertEquals(3, navigator.getLastPly());
+        assertTrue(navigator.getVariations(1).isEmpty());
+    }
+
+    @Test
+    public void newMovesBranchIntoVariations() {
+        navigator.goToPly(1);
+        play("c5");
+        assertEquals(Arrays.asList("e4", "c5"), san(navigator.getMoves()));
+        assertEquals(1, navigator.getVariations(1).size());
+        assertEquals(Arrays.asList("e5", "Nf3"), san(navigator.getVariations(1).get(0)));
+
+        navigator.switchToVariation(1, 0);
+        assertEquals(1, navigator.getPly());
+        assertEquals(Arrays.asList("e4", "e5", "Nf3"), san(navigator.getMoves()));
+        assertEquals(Arrays.asList("c5"), san(navigator.getVariations(1).get(0)));
+
+        play("c5");
+        assertEquals(Arrays.asList("e4", "c5"), san(navigator.getMoves()));
+        assertEquals(Arrays.asList("e5", "Nf3"), san(navigator.getVariations(1).get(0)));
+    }
+
+    @Test
+    public void illegalMovesLeaveTheGameAlone() {
+        final Move illegal = Move.MoveFactory.createMove(navigator.getCurrentBoard(), 12, 28);
+        final MoveTransition transition = navigator.play(illegal);
+        assertFalse(transition.getMoveStatus().isDone());
+        assertEquals(3, navigator.getPly());
+        assertEquals(3, navigator.getLastPly());
+    }
+
+    @Test
+    public void truncateDropsTheMovesAfterTheCurrentPly() {
+        navigator.goToPly(1);
+        navigator.truncate();
+        assertEquals(1, navigator.getLastPly());
+        assertFalse(navigator.canRedo());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void rejectsPliesPastTheEnd() {
+        navigator.goToPly(4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsMissingVariations() {
+        navigator.switchToVariation(1, 0);
+    }
+
+    @Test
+    public void exportsTheVariationsAsATree() {
+        navigator.goToPly(1);
+        play("c5");
+        final GameTree tree = navigator.toGameTree();
+        assertEquals(5, tree.size());
+        final GameTree.Node afterE4 = tree.getRoot().getMainChild();
+        assertEquals(2, afterE4.getEdges().size());
+        assertEquals("c5", PGNUtilities.toSAN(afterE4.getEdges().get(0).getMove()));
+        assertEquals("e5", PGNUtilities.toSAN(afterE4.getEdges().get(1).getMove()));
+        final GameTree.Node afterNf3 = tree.find(PGNUtilities.playMove(
+                PGNUtilities.playMove(navigator.getBoardAt(1), "e5").getTransitionBoard(), "Nf3").getTransitionBoard());
+        assertEquals(Arrays.asList("e4", "e5", "Nf3"), san(tree.getLine(afterNf3)));
+    }
+
+    private void play(final String... moves) {
+        for (final String san : moves) {
+            assertTrue(san, navigator.play(move(san)).getMoveStatus().isDone());
+        }
+    }
+
+    private Move move(final String san) {
+        return PGNUtilities.createMove(navigator.getCurrentBoard(), san);
+    }
+
+    private static List<String> san(final List<Move> moves) {
+        final List<String> san = new ArrayList<>(moves.size());
+        for (final Move move : moves) {
+            san.add(PGNUtilities.toSAN(move));
+        }
+        return san;
+    }
+}
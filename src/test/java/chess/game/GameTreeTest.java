@@ -0,0 +1,155 @@
+package chess.game;
+
+import chess.engine.board.Board;
+import chess.engine.board.Move;
+import chess.pgn.PGNUtilities;
+import chess.pgn.PGNWriter;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class GameTreeTest {
+    @Test
+    public void transpositionsShareANode() {
+        final GameTree tree = new GameTree(Board.createStandardBoard());
+        final GameTree.Node first = addLine(tree, tree.getRoot(), "Nf3", "Nf6", "Nc3");
+        final GameTree.Node second = addLine(tree, tree.getRoot(), "Nc3", "Nf6", "Nf3");
+        assertSame(first, second);
+        assertTrue(first.isTransposition());
+        assertEquals(2, first.getParents().size());
+        assertEquals(6, tree.size());
+        assertSame(first, tree.find(first.getBoard()));
+    }
+
+    @Test
+    public void transpositionsWithDifferentClocksShareANode() {
+        final GameTree tree = new GameTree(Board.createStandardBoard());
+        final GameTree.Node first = addLine(tree, tree.getRoot(), "d4", "Nf6", "c4", "e6");
+        final GameTree.Node second = addLine(tree, tree.getRoot(), "c4", "e6", "d4", "Nf6");
+        assertSame(first, second);
+        final GameTree.Edge viaE6 = first.getParents().get(0).getEdges().get(0);
+        final GameTree.Edge viaNf6 = first.getParents().get(1).getEdges().get(0);
+        assertEquals(0, viaE6.getBoard().getHalfMoveClock());
+        assertEquals(1, viaNf6.getBoard().getHalfMoveClock());
+        assertEquals(Arrays.asList("d4", "Nf6", "c4", "e6"), san(tree.getLine(first)));
+    }
+
+    @Test
+    public void returningToAnEarlierPositionDoesNotCreateACycle() {
+        final GameTree tree = new GameTree(Board.createStandardBoard());
+        final GameTree.Node back = addLine(tree, tree.getRoot(), "Nf3", "Nf6", "Ng1", "Ng8");
+        assertEquals(tree.getRoot().getBoard().getZobristHash(), back.getBoard().getZobristHash());
+        assertNotSame(tree.getRoot(), back);
+        assertFalse(tree.getRoot().isTransposition());
+        assertSame(tree.getRoot(), tree.find(back.getBoard()));
+        assertEquals(5, tree.size());
+
+        final GameTree.Node again = addLine(tree, back, "Nf3");
+        assertNotSame(tree.getRoot().getMainChild(), again);
+        assertEquals(Arrays.asList("Nf3", "Nf6", "Ng1", "Ng8", "Nf3"), san(tree.getLine(again)));
+    }
+
+    @Test
+    public void repeatedMovesReuseTheEdge() {
+        final GameTree tree = new GameTree(Board.createStandardBoard());
+        final GameTree.Node afterE4 = addLine(tree, tree.getRoot(), "e4");
+        assertSame(afterE4, addLine(tree, tree.getRoot(), "e4"));
+        assertEquals(1, tree.getRoot().getEdges().size());
+        assertEquals(2, tree.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsIllegalMoves() {
+        final GameTree tree = new GameTree(Board.createStandardBoard());
+        final Board afterE4 = PGNUtilities.playMove(Board.createStandardBoard(), "e4").getTransitionBoard();
+        tree.addMove(tree.getRoot(), PGNUtilities.createMove(afterE4, "e5"));
+    }
+
+    @Test
+    public void edgesKeepTheBoardOfTheirOwnPath() {
+        final GameTree tree = new GameTree(Board.createStandardBoard());
+        final GameTree.Node viaNf3 = addLine(tree, tree.getRoot(), "Nf3", "Nf6");
+        final GameTree.Node viaNc3 = addLine(tree, tree.getRoot(), "Nc3", "Nf6");
+        final GameTree.Node merged = addLine(tree, viaNf3, "Nc3");
+        addLine(tree, viaNc3, "Nf3");
+        final GameTree.Edge first = viaNf3.getEdges().get(0);
+        final GameTree.Edge second = viaNc3.getEdges().get(0);
+        assertSame(merged, first.getChild());
+        assertSame(merged, second.getChild());
+        assertSame(merged.getBoard(), first.getBoard());
+        assertNotSame(first.getBoard(), second.getBoard());
+        assertEquals(first.getBoard().getZobristHash(), second.getBoard().getZobristHash());
+        assertEquals("Nc3", PGNUtilities.toSAN(first.getMove()));
+        assertEquals("Nf3", PGNUtilities.toSAN(second.getMove()));
+    }
+
+    @Test
+    public void linesFollowTheMainLineFirst() {
+        final GameTree tree = new GameTree(Board.createStandardBoard());
+        final GameTree.Node merged = addLine(tree, tree.getRoot(), "Nf3", "Nf6", "Nc3");
+        addLine(tree, tree.getRoot(), "Nc3", "Nf6", "Nf3");
+        assertEquals(Arrays.asList("Nf3", "Nf6", "Nc3"), san(tree.getLine(merged)));
+
+        tree.getRoot().promote(tree.getRoot().getEdges().get(1).getMove());
+        assertEquals(Arrays.asList("Nc3", "Nf6", "Nf3"), san(tree.getLine(merged)));
+        assertTrue(tree.getLine(tree.getRoot()).isEmpty());
+    }
+
+    @Test
+    public void traversalVisitsEachNodeOnce() {
+        final GameTree tree = new GameTree(Board.createStandardBoard());
+        addLine(tree, tree.getRoot(), "Nf3", "Nf6", "Nc3", "Nc6");
+        addLine(tree, tree.getRoot(), "Nc3", "Nf6", "Nf3");
+        final List<GameTree.Node> visited = new ArrayList<>();
+        tree.traverse(new GameTree.Visitor() {
+            @Override
+            public void visit(final GameTree.Node node) {
+                visited.add(node);
+            }
+        });
+        assertEquals(tree.size(), visited.size());
+        assertSame(tree.getRoot(), visited.get(0));
+    }
+
+    @Test
+    public void writesVariationsAndComments() throws IOException {
+        final GameTree tree = new GameTree(Board.createStandardBoard());
+        final GameTree.Node afterE4 = addLine(tree, tree.getRoot(), "e4");
+        addLine(tree, afterE4, "e5", "Nf3", "Nc6");
+        addLine(tree, afterE4, "c5", "Nf3");
+        afterE4.getMainChild().setComment("open game");
+
+        final StringWriter out = new StringWriter();
+        final PGNWriter writer = new PGNWriter(out);
+        writer.writeGame(Collections.<String, String>emptyMap(), tree, "*");
+        writer.flush();
+        assertTrue(out.toString(), out.toString().contains("1. e4 e5 {open game} (1... c5 2. Nf3) 2. Nf3 Nc6 *"));
+    }
+
+    private static GameTree.Node addLine(final GameTree tree, final GameTree.Node start, final String... moves) {
+        GameTree.Node node = start;
+        for (final String move : moves) {
+            node = tree.addMove(node, PGNUtilities.createMove(node.getBoard(), move));
+        }
+        return node;
+    }
+
+    private static List<String> san(final List<Move> moves) {
+        final List<String> san = new ArrayList<>(moves.size());
+        for (final Move move : moves) {
+            san.add(PGNUtilities.toSAN(move));
+        }
+        return san;
+    }
+}
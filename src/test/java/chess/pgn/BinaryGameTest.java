@@ -0,0 +1,93 @@
+package chess.pgn;
+
+import chess.engine.board.Board;
+import chess.engine.board.Move;
+import chess.engine.board.MoveCodec;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class BinaryGameTest {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void gamesRoundTripThroughTheBinaryFile() throws IOException {
+        final PGNGame opera = new PGNGame(ImmutableMap.of("Event", "Paris", "White", "Morphy \u00e9"),
+                PGNUtilitiesTest.OPERA_GAME, "1-0");
+        final String fen = "4k3/8/8/8/8/8/4P3/4K3 b - - 3 40";
+        final PGNGame endgame = new PGNGame(ImmutableMap.of("FEN", fen), Arrays.asList("Kd7", "e4"), "1/2-1/2");
+        final Path path = folder.getRoot().toPath().resolve("games.bin");
+        try (final BinaryGameWriter writer = new BinaryGameWriter(path)) {
+            writer.writeGame(opera);
+            writer.writeGame(endgame);
+            writer.writeGame(Collections.<String, String>emptyMap(), Board.createStandardBoard(),
+                    Collections.<Move>emptyList(), null);
+            assertEquals(3, writer.getGameCount());
+        }
+
+        try (final BinaryGameReader reader = new BinaryGameReader(path)) {
+            assertEquals(3, reader.getGameCount());
+
+            final BinaryGame first = reader.readGame(0);
+            assertEquals(opera.getTags(), first.getTags());
+            assertEquals("1-0", first.getResult());
+            assertEquals(PGNUtilitiesTest.OPERA_GAME.size(), first.getPlyCount());
+            final List<Move> moves = first.replay();
+            final List<Move> expected = PGNUtilities.replayGame(opera);
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(MoveCodec.encode(expected.get(i)), MoveCodec.encode(moves.get(i)));
+                assertEquals(MoveCodec.encode(expected.get(i)), first.getEncodedMove(i));
+            }
+            assertEquals("Rd8#", PGNUtilities.toSAN(moves.get(moves.size() - 1)));
+            assertEquals(moves.get(moves.size() - 1).execute().getZobristHash(),
+                    first.getBoardAtPly(first.getPlyCount()).getZobristHash());
+
+            final BinaryGame second = reader.readGame(1);
+            assertEquals(fen, FenUtilities.createFENFromGame(second.getStartingBoard()));
+            assertEquals("1/2-1/2", second.getResult());
+            assertEquals("8/3k4/8/8/8/8/4P3/4K3 w - - 4 41", FenUtilities.createFENFromGame(second.getBoardAtPly(1)));
+
+            final BinaryGame third = reader.readGame(2);
+            assertEquals(0, third.getPlyCount());
+            assertEquals(PGNGame.UNKNOWN_RESULT, third.getResult());
+        }
+    }
+
+    @Test
+    public void oversizedTagsAreRejectedBeforeAnythingIsWritten() throws IOException {
+        final Path path = folder.getRoot().toPath().resolve("tags.bin");
+        try (final BinaryGameWriter writer = new BinaryGameWriter(path)) {
+            try {
+                writer.writeGame(new PGNGame(ImmutableMap.of("Annotator", Strings.repeat("x", 70000)),
+                        Arrays.asList("e4"), "*"));
+                fail("Accepted a 70000 byte tag");
+            } catch (final IllegalArgumentException expected) {
+                // expected
+            }
+            writer.writeGame(new PGNGame(ImmutableMap.of("Event", "kept"), Arrays.asList("e4"), "*"));
+        }
+        try (final BinaryGameReader reader = new BinaryGameReader(path)) {
+            assertEquals(1, reader.getGameCount());
+            assertEquals("kept", reader.readGame(0).getTags().get("Event"));
+            assertEquals(1, reader.readGame(0).getPlyCount());
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsFilesWithoutTheHeader() throws IOException {
+        final Path path = folder.newFile("empty.bin").toPath();
+        new BinaryGameReader(path).close();
+    }
+}
@@ -0,0 +1,82 @@
+package chess.pgn;
+
+import chess.engine.board.Board;
+import chess.engine.board.Move;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class FenUtilitiesTest {
+    private static final String[] ROUND_TRIP_FENS = {
+            FenUtilities.STANDARD_START_FEN,
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+            "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+            "rnbqkbnr/ppp1pppp/8/3pP3/8/8/PPPP1PPP/RNBQKBNR w KQkq d6 0 3",
+            "4k3/8/8/8/8/8/8/4K2R b K - 37 61",
+    };
+
+    @Test
+    public void standardBoardMatchesStartFen() {
+        assertEquals(FenUtilities.STANDARD_START_FEN, FenUtilities.createFENFromGame(Board.createStandardBoard()));
+    }
+
+    @Test
+    public void fenRoundTrips() {
+        for (final String fen : ROUND_TRIP_FENS) {
+            assertEquals(fen, FenUtilities.createFENFromGame(FenUtilities.createGameFromFEN(fen)));
+        }
+    }
+
+    @Test
+    public void parsedBoardHashesLikeThePlayedPosition() {
+        Board board = Board.createStandardBoard();
+        for (final String san : new String[] {"e4", "c5", "Nf3"}) {
+            board = PGNUtilities.playMove(board, san).getTransitionBoard();
+        }
+        final String fen = FenUtilities.createFENFromGame(board);
+        assertEquals("rnbqkbnr/pp1ppppp/8/2p5/4P3/5N2/PPPP1PPP/RNBQKB1R b KQkq - 1 2", fen);
+        assertEquals(board.getZobristHash(), FenUtilities.createGameFromFEN(fen).getZobristHash());
+    }
+
+    @Test
+    public void castlingRightsFollowTheFen() {
+        final Board board = FenUtilities.createGameFromFEN("r3k2r/8/8/8/8/8/8/R3K2R w Kq - 0 1");
+        assertEquals(FenUtilities.WHITE_KING_SIDE_CASTLE | FenUtilities.BLACK_QUEEN_SIDE_CASTLE,
+                FenUtilities.castlingRights(board));
+        int castles = 0;
+        for (final Move move : board.currentPlayer().getLegalMoves()) {
+            if (move.isCastlingMove()) {
+                castles++;
+            }
+        }
+        assertEquals(1, castles);
+    }
+
+    @Test
+    public void enPassantTargetIsPlayable() {
+        final Board board = FenUtilities.createGameFromFEN(ROUND_TRIP_FENS[4]);
+        assertTrue(PGNUtilities.playMove(board, "exd6").getMoveStatus().isDone());
+    }
+
+    @Test
+    public void malformedFensAreRejected() {
+        final String[] malformed = {
+                "",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP w KQkq - 0 1",
+                "rnbqkbnr/pppppppp/9/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNX w KQkq - 0 1",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR x KQkq - 0 1",
+        };
+        for (final String fen : malformed) {
+            try {
+                FenUtilities.createGameFromFEN(fen);
+                fail("Accepted " + fen);
+            } catch (final RuntimeException expected) {
+                // expected
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package chess.pgn;
+
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class PGNReaderTest {
+
+    @Test
+    public void readsTagsMovesAndResults() {
+        final PGNReader reader = new PGNReader(new StringReader(
+                "[Event \"Casual\"]\n"
+                        + "[White \"Morphy\"]\n"
+                        + "\n"
+                        + "1. e4 e5 2.Nf3 {a comment} d6 $1 3. d4 (3. Bc4 Be7) 3... Bg4 1-0\n"
+                        + "\n"
+                        + "[Event \"Second\"]\n"
+                        + "\n"
+                        + "1. d4 ; rest of line ignored\n"
+                        + "1... d5 1/2-1/2\n"));
+        assertTrue(reader.hasNext());
+        final PGNGame first = reader.next();
+        assertEquals("Casual", first.getTag("Event"));
+        assertEquals("Morphy", first.getTag("White"));
+        assertEquals(Arrays.asList("e4", "e5", "Nf3", "d6", "d4", "Bg4"), first.getMoves());
+        assertEquals("1-0", first.getResult());
+        assertEquals(PGNGame.RESULT_WHITE_WINS, first.getResultCode());
+        assertFalse(first.isMalformed());
+
+        final PGNGame second = reader.next();
+        assertEquals("Second", second.getTag("Event"));
+        assertEquals(Arrays.asList("d4", "d5"), second.getMoves());
+        assertEquals(PGNGame.RESULT_DRAW, second.getResultCode());
+        assertFalse(reader.hasNext());
+        assertEquals(2, reader.getGamesRead());
+    }
+
+    @Test
+    public void multiLineCommentsAndNestedVariationsAreSkipped() {
+        final PGNReader reader = new PGNReader(new StringReader(
+                "1. e4 {starts a\n"
+                        + "comment over ( two lines} e5 (1... c5 (1... e6 2. d4) 2. Nf3) 2. Nf3 *\n"));
+        final PGNGame game = reader.next();
+        assertEquals(Arrays.asList("e4", "e5", "Nf3"), game.getMoves());
+        assertEquals(PGNGame.UNKNOWN_RESULT, game.getResult());
+    }
+
+    @Test
+    public void malformedTagMarksOnlyItsOwnGame() {
+        final PGNReader reader = new PGNReader(new StringReader(
+                "[Event \"Broken\"]\n"
+                        + "[White\n"
+                        + "\n"
+                        + "1. e4 e5 1-0\n"
+                        + "\n"
+                        + "[Event \"Fine\"]\n"
+                        + "\n"
+                        + "1. d4 d5 0-1\n"));
+        final PGNGame broken = reader.next();
+        assertTrue(broken.isMalformed());
+        assertEquals("Broken", broken.getTag("Event"));
+        final PGNGame fine = reader.next();
+        assertFalse(fine.isMalformed());
+        assertNull(fine.getParseError());
+        assertEquals(Arrays.asList("d4", "d5"), fine.getMoves());
+        assertFalse(reader.hasNext());
+    }
+
+    @Test
+    public void gameWithoutResultEndsAtEndOfInput() {
+        final PGNReader reader = new PGNReader(new StringReader("[Event \"Open\"]\n\n1. c4 Nf6"));
+        final PGNGame game = reader.next();
+        assertEquals(Arrays.asList("c4", "Nf6"), game.getMoves());
+        assertEquals(PGNGame.UNKNOWN_RESULT, game.getResult());
+        assertFalse(reader.hasNext());
+    }
+
+    @Test
+    public void gameWithOnlyTagsEndsAtTheNextTagSection() {
+        final PGNReader reader = new PGNReader(new StringReader(
+                "[Event \"Empty\"]\n"
+                        + "[White \"Nobody\"]\n"
+                        + "\n"
+                        + "[Event \"Next\"]\n"
+                        + "[Black \"Somebody\"]\n"
+                        + "\n"
+                        + "1. e4 1-0\n"));
+        final PGNGame empty = reader.next();
+        assertEquals("Empty", empty.getTag("Event"));
+        assertEquals("Nobody", empty.getTag("White"));
+        assertNull(empty.getTag("Black"));
+        assertTrue(empty.getMoves().isEmpty());
+        final PGNGame next = reader.next();
+        assertEquals("Next", next.getTag("Event"));
+        assertEquals("Somebody", next.getTag("Black"));
+        assertEquals(Arrays.asList("e4"), next.getMoves());
+        assertFalse(reader.hasNext());
+    }
+}
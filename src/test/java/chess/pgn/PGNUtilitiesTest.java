@@ -0,0 +1,101 @@
+package chess.pgn;
+
+import chess.engine.board.Board;
+import chess.engine.board.Move;
+import chess.engine.player.MoveTransition;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PGNUtilitiesTest {
+    static final List<String> OPERA_GAME = Arrays.asList(
+            "e4", "e5", "Nf3", "d6", "d4", "Bg4", "dxe5", "Bxf3", "Qxf3", "dxe5",
+            "Bc4", "Nf6", "Qb3", "Qe7", "Nc3", "c6", "Bg5", "b5", "Nxb5", "cxb5",
+            "Bxb5+", "Nbd7", "O-O-O", "Rd8", "Rxd7", "Rxd7", "Rd1", "Qe6", "Bxd7+", "Nxd7",
+            "Qb8+", "Nxb8", "Rd8#");
+
+    @Test
+    public void sanRoundTripsThroughAFullGame() {
+        Board board = Board.createStandardBoard();
+        final List<String> printed = new ArrayList<>();
+        for (final String san : OPERA_GAME) {
+            final MoveTransition transition = PGNUtilities.playMove(board, san);
+            assertTrue(san, transition.getMoveStatus().isDone());
+            printed.add(PGNUtilities.toSAN(board, transition.getMove()));
+            board = transition.getTransitionBoard();
+        }
+        assertEquals(OPERA_GAME, printed);
+        assertTrue(board.currentPlayer().isInCheckMate());
+    }
+
+    @Test
+    public void replayGameFollowsTheMoveList() {
+        final PGNGame game = new PGNGame(Collections.<String, String>emptyMap(), OPERA_GAME, "1-0");
+        final List<Move> moves = PGNUtilities.replayGame(game);
+        assertEquals(OPERA_GAME.size(), moves.size());
+        assertEquals("Rd8#", PGNUtilities.toSAN(moves.get(moves.size() - 1)));
+    }
+
+    @Test
+    public void disambiguatesByFileAndRank() {
+        final Board knights = FenUtilities.createGameFromFEN("4k3/8/8/8/8/8/8/1N2KN2 w - - 0 1");
+        final Move fromF1 = PGNUtilities.createMove(knights, "Nfd2");
+        assertEquals(61, fromF1.getCurrentCoordinate());
+        assertEquals("Nfd2", PGNUtilities.toSAN(knights, fromF1));
+        assertEquals("Nbd2", PGNUtilities.toSAN(knights, PGNUtilities.createMove(knights, "Nbd2")));
+
+        final Board rooks = FenUtilities.createGameFromFEN("4k3/R7/8/8/8/8/8/R3K3 w - - 0 1");
+        final Move fromA1 = PGNUtilities.createMove(rooks, "R1a4");
+        assertEquals(56, fromA1.getCurrentCoordinate());
+        assertEquals("R1a4", PGNUtilities.toSAN(rooks, fromA1));
+    }
+
+    @Test
+    public void pinnedPieceDoesNotMakeAMoveAmbiguous() {
+        final Board board = FenUtilities.createGameFromFEN("4r1k1/8/8/8/8/8/4N3/1N2K3 w - - 0 1");
+        final Move move = PGNUtilities.createMove(board, "Nc3");
+        assertEquals(57, move.getCurrentCoordinate());
+        assertEquals("Nc3", PGNUtilities.toSAN(board, move));
+    }
+
+    @Test
+    public void acceptsCastlingVariantsAndAnnotations() {
+        final Board board = FenUtilities.createGameFromFEN("r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 0 1");
+        assertTrue(PGNUtilities.createMove(board, "O-O").isCastlingMove());
+        assertTrue(PGNUtilities.createMove(board, "0-0-0").isCastlingMove());
+        assertEquals(PGNUtilities.createMove(Board.createStandardBoard(), "e4"),
+                PGNUtilities.createMove(Board.createStandardBoard(), "e4!?"));
+    }
+
+    @Test
+    public void printsPromotionWithCheck() {
+        final Board board = FenUtilities.createGameFromFEN("k7/4P3/8/8/8/8/8/4K3 w - - 0 1");
+        assertEquals("e8=Q+", PGNUtilities.toSAN(board, PGNUtilities.createMove(board, "e8=Q")));
+    }
+
+    @Test
+    public void rejectsIllegalAndAmbiguousMoves() {
+        final Board knights = FenUtilities.createGameFromFEN("4k3/8/8/8/8/8/8/1N2KN2 w - - 0 1");
+        for (final String san : new String[] {"Nd2", "e5", "Ke3x", "O-O"}) {
+            try {
+                PGNUtilities.playMove(san.equals("e5") ? Board.createStandardBoard() : knights, san);
+                fail("Accepted " + san);
+            } catch (final ParsePGNException expected) {
+                // expected
+            }
+        }
+    }
+
+    @Test(expected = ParsePGNException.class)
+    public void malformedGamesCannotBeReplayed() {
+        PGNUtilities.replayGame(new PGNGame(ImmutableMap.of("Event", "x"), OPERA_GAME, "1-0", "Malformed tag"));
+    }
+}
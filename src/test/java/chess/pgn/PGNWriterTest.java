@@ -0,0 +1,104 @@
+package chess.pgn;
+
+import chess.engine.board.Board;
+import chess.engine.board.Move;
+import chess.game.GameTree;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PGNWriterTest {
+
+    @Test
+    public void writtenGamesReadBack() throws IOException {
+        final PGNGame game = new PGNGame(ImmutableMap.of("Event", "Opera \"Game\"", "Annotator", "test"),
+                PGNUtilitiesTest.OPERA_GAME, "1-0");
+        final String text = write(game);
+        assertTrue(text.startsWith("[Event \"Opera \\\"Game\\\"\"]\n[Site \"?\"]"));
+        for (final String line : text.split("\n")) {
+            assertTrue(line, line.length() <= 80);
+        }
+
+        final PGNReader reader = new PGNReader(new StringReader(text));
+        final PGNGame read = reader.next();
+        assertEquals(PGNUtilitiesTest.OPERA_GAME, read.getMoves());
+        assertEquals("1-0", read.getResult());
+        assertEquals("test", read.getTag("Annotator"));
+        assertEquals("Opera \"Game\"", read.getTag("Event"));
+        assertFalse(reader.hasNext());
+    }
+
+    @Test
+    public void customStartPositionIsWrittenAsFen() throws IOException {
+        final String fen = "4k3/8/8/8/8/8/4P3/4K3 b - - 0 40";
+        final PGNGame game = new PGNGame(ImmutableMap.of("FEN", fen, "SetUp", "1"),
+                Arrays.asList("Kd7", "e4"), PGNGame.UNKNOWN_RESULT);
+        final String text = write(game);
+        assertTrue(text, text.contains("[FEN \"" + fen + "\"]"));
+        assertTrue(text, text.contains("40... Kd7 41. e4 *"));
+        final PGNGame read = new PGNReader(new StringReader(text)).next();
+        assertEquals(fen, FenUtilities.createFENFromGame(PGNUtilities.createStartingBoard(read)));
+        assertEquals(Arrays.asList("Kd7", "e4"), read.getMoves());
+    }
+
+    @Test
+    public void customStartPositionIsKeptWithoutMoves() throws IOException {
+        final String fen = "4k3/8/8/8/8/8/4P3/4K3 w - - 0 1";
+        final String text = write(new PGNGame(ImmutableMap.of("FEN", fen), Collections.<String>emptyList(), "*"));
+        assertTrue(text, text.contains("[FEN \"" + fen + "\"]"));
+        final PGNGame read = new PGNReader(new StringReader(text)).next();
+        assertEquals(fen, FenUtilities.createFENFromGame(PGNUtilities.createStartingBoard(read)));
+
+        final StringWriter out = new StringWriter();
+        final PGNWriter writer = new PGNWriter(out);
+        writer.writeGame(Collections.<String, String>emptyMap(), new GameTree(FenUtilities.createGameFromFEN(fen)), null);
+        writer.flush();
+        assertTrue(out.toString(), out.toString().contains("[FEN \"" + fen + "\"]"));
+    }
+
+    @Test
+    public void closingParenthesesRespectTheLineLength() throws IOException {
+        for (int padding = 1; padding <= 70; padding++) {
+            final GameTree tree = new GameTree(Board.createStandardBoard());
+            tree.getRoot().setComment(Strings.repeat("x", padding));
+            GameTree.Node node = tree.getRoot();
+            for (final String san : PGNUtilitiesTest.OPERA_GAME.subList(0, 12)) {
+                final GameTree.Node next = tree.addMove(node, PGNUtilities.createMove(node.getBoard(), san));
+                for (final Move move : node.getBoard().currentPlayer().getLegalMoves()) {
+                    if (node.getEdges().size() == 3) {
+                        break;
+                    }
+                    if (node.getBoard().currentPlayer().makeMove(move).getMoveStatus().isDone()) {
+                        tree.addMove(node, move);
+                    }
+                }
+                node = next;
+            }
+            final StringWriter out = new StringWriter();
+            final PGNWriter writer = new PGNWriter(out);
+            writer.writeGame(Collections.<String, String>emptyMap(), tree, null);
+            writer.flush();
+            for (final String line : out.toString().split("\n")) {
+                assertTrue(line, line.length() <= 80);
+            }
+        }
+    }
+
+    private static String write(final PGNGame game) throws IOException {
+        final StringWriter out = new StringWriter();
+        final PGNWriter writer = new PGNWriter(out);
+        writer.writeGame(game);
+        writer.flush();
+        return out.toString();
+    }
+}
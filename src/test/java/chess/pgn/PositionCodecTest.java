@@ -0,0 +1,41 @@
+package chess.pgn;
+
+import chess.engine.board.Board;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertEquals;
+
+public class PositionCodecTest {
+    private static final String[] FENS = {
+            FenUtilities.STANDARD_START_FEN,
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "rnbqkbnr/ppp1pppp/8/3pP3/8/8/PPPP1PPP/RNBQKBNR w KQkq d6 0 3",
+            "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 b kq - 0 1",
+            "4k3/8/8/8/8/8/8/4K2R b K - 99 300",
+    };
+
+    @Test
+    public void positionsRoundTrip() {
+        for (final String fen : FENS) {
+            final Board board = FenUtilities.createGameFromFEN(fen);
+            final byte[] packed = PositionCodec.encode(board);
+            assertEquals(PositionCodec.POSITION_BYTES, packed.length);
+            final Board decoded = PositionCodec.decode(packed);
+            assertEquals(fen, FenUtilities.createFENFromGame(decoded));
+            assertEquals(board.getZobristHash(), decoded.getZobristHash());
+        }
+    }
+
+    @Test
+    public void encodesAtAnOffsetWithoutTouchingNeighbours() {
+        final ByteBuffer buffer = ByteBuffer.allocate(PositionCodec.POSITION_BYTES + 8);
+        buffer.putInt(0, 0x12345678);
+        buffer.putInt(PositionCodec.POSITION_BYTES + 4, 0x9ABCDEF0);
+        PositionCodec.encode(FenUtilities.createGameFromFEN(FENS[1]), buffer, 4);
+        assertEquals(0x12345678, buffer.getInt(0));
+        assertEquals(0x9ABCDEF0, buffer.getInt(PositionCodec.POSITION_BYTES + 4));
+        assertEquals(FENS[1], FenUtilities.createFENFromGame(PositionCodec.decode(buffer, 4)));
+    }
+}
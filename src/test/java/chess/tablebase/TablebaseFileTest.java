@@ -0,0 +1,65 @@
+package chess.tablebase;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TablebaseFileTest {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void valuesRoundTripAcrossBlocks() throws IOException {
+        final byte[] values = new byte[10000];
+        final Random random = new Random(3);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (byte) (i % 7 == 0 ? random.nextInt(60) : 0);
+        }
+        final Path path = folder.getRoot().toPath().resolve("KQvK" + Tablebases.FILE_EXTENSION);
+        TablebaseFile.write(path, "KQvK", values, 1000);
+
+        final BlockCache cache = new BlockCache(2);
+        try (final TablebaseFile table = new TablebaseFile(path, 0, cache)) {
+            assertEquals("KQvK", table.getSignature());
+            assertEquals(3, table.getPieceCount());
+            assertEquals(values.length, table.getEntryCount());
+            for (int i = 0; i < values.length; i++) {
+                assertEquals(values[i], table.valueAt(i));
+            }
+            assertEquals(values[9999], table.valueAt(9999));
+        }
+        assertTrue(cache.getHits() > cache.getMisses());
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsIndicesOutsideTheTable() throws IOException {
+        final Path path = folder.getRoot().toPath().resolve("KRvK" + Tablebases.FILE_EXTENSION);
+        TablebaseFile.write(path, "KRvK", new byte[100], TablebaseFile.DEFAULT_ENTRIES_PER_BLOCK);
+        try (final TablebaseFile table = new TablebaseFile(path, 0, new BlockCache(1))) {
+            table.valueAt(100);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsFilesThatAreNotTablebases() throws IOException {
+        final Path path = folder.getRoot().toPath().resolve("bogus" + Tablebases.FILE_EXTENSION);
+        Files.write(path, "not a tablebase, just some text".getBytes(StandardCharsets.US_ASCII));
+        Tablebases.open(folder.getRoot().toPath()).close();
+    }
+
+    @Test(expected = IOException.class)
+    public void refusesTablesWithMoreThanThreePieces() throws IOException {
+        final Path path = folder.getRoot().toPath().resolve("KQvKR" + Tablebases.FILE_EXTENSION);
+        TablebaseFile.write(path, "KQvKR", new byte[100], TablebaseFile.DEFAULT_ENTRIES_PER_BLOCK);
+        Tablebases.open(folder.getRoot().toPath()).close();
+    }
+}
@@ -0,0 +1,119 @@
+package chess.tablebase;
+
+import chess.engine.board.Board;
+import chess.engine.board.Move;
+import chess.engine.player.MoveTransition;
+import chess.pgn.FenUtilities;
+import chess.pgn.PGNUtilities;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TablebaseGeneratorTest {
+    @ClassRule
+    public static final TemporaryFolder FOLDER = new TemporaryFolder();
+
+    private static final String[] SIGNATURES = {"KQvK", "KPvK"};
+
+    private static Tablebases tablebases;
+
+    @BeforeClass
+    public static void generate() throws IOException {
+        final TablebaseGenerator generator = new TablebaseGenerator(FOLDER.getRoot().toPath());
+        for (final String signature : SIGNATURES) {
+            generator.generate(signature);
+        }
+        tablebases = Tablebases.open(FOLDER.getRoot().toPath());
+    }
+
+    @AfterClass
+    public static void close() throws IOException {
+        tablebases.close();
+    }
+
+    @Test
+    public void opensEveryGeneratedTable() {
+        assertEquals(SIGNATURES.length, tablebases.getTableCount());
+        assertEquals(TablebaseGenerator.MAX_PIECES, tablebases.getMaxPieces());
+    }
+
+    @Test
+    public void probesMatesForEitherColour() {
+        assertResult(TablebaseResult.Outcome.WIN, 1, "7k/Q7/6K1/8/8/8/8/8 w - - 0 1");
+        assertResult(TablebaseResult.Outcome.WIN, 1, "8/8/8/8/8/6k1/q7/7K b - - 0 1");
+        assertResult(TablebaseResult.Outcome.LOSS, 0, "7k/6Q1/6K1/8/8/8/8/8 b - - 0 1");
+    }
+
+    @Test
+    public void probesDraws() {
+        assertSame(TablebaseResult.DRAW, probe("7K/8/8/8/8/8/1Q6/k7 b - - 0 1"));
+        assertSame(TablebaseResult.DRAW, probe("k7/2Q5/1K6/8/8/8/8/8 b - - 0 1"));
+        assertSame(TablebaseResult.DRAW, probe("7k/8/8/8/8/8/7P/7K w - - 0 1"));
+        assertSame(TablebaseResult.DRAW, probe("8/8/3k4/8/8/8/8/4K3 w - - 0 1"));
+        assertEquals(TablebaseResult.Outcome.WIN, probe("4k3/8/4K3/4P3/8/8/8/8 w - - 0 1").getOutcome());
+    }
+
+    @Test
+    public void bestMovesShortenTheMate() {
+        Board board = FenUtilities.createGameFromFEN("8/8/8/4k3/8/8/8/1Q2K3 w - - 0 1");
+        TablebaseResult result = tablebases.probe(board);
+        assertEquals(TablebaseResult.Outcome.WIN, result.getOutcome());
+        while (!board.currentPlayer().isInCheckMate()) {
+            final Move move = tablebases.bestMove(board);
+            final MoveTransition transition = board.currentPlayer().makeMove(move);
+            assertTrue(transition.getMoveStatus().isDone());
+            board = transition.getTransitionBoard();
+            final TablebaseResult next = tablebases.probe(board);
+            assertEquals(result.getPliesToMate() - 1, next.getPliesToMate());
+            assertTrue(next.getOutcome() != result.getOutcome());
+            result = next;
+        }
+        assertEquals(0, result.getPliesToMate());
+    }
+
+    @Test
+    public void adjudicatesFromTheSideToMove() {
+        assertEquals("1-0", tablebases.adjudicate(FenUtilities.createGameFromFEN("7k/Q7/6K1/8/8/8/8/8 w - - 0 1")));
+        assertEquals("0-1", tablebases.adjudicate(FenUtilities.createGameFromFEN("8/8/8/8/8/6k1/q7/7K b - - 0 1")));
+        assertEquals("1/2-1/2", tablebases.adjudicate(FenUtilities.createGameFromFEN("k7/2Q5/1K6/8/8/8/8/8 b - - 0 1")));
+    }
+
+    @Test
+    public void refusesPositionsOutsideTheTables() {
+        final Board start = Board.createStandardBoard();
+        assertFalse(tablebases.canProbe(start));
+        assertSame(TablebaseResult.UNKNOWN, tablebases.probe(start));
+        assertSame(Move.NULL_MOVE, tablebases.bestMove(start));
+        assertNull(tablebases.adjudicate(start));
+        assertFalse(tablebases.canProbe(FenUtilities.createGameFromFEN("4k3/8/8/8/8/8/8/R3K3 w Q - 0 1")));
+        assertSame(TablebaseResult.UNKNOWN, probe("4k3/8/8/8/8/8/8/R3K3 w - - 0 1"));
+        final Board afterMove = PGNUtilities.playMove(
+                FenUtilities.createGameFromFEN("4k3/8/8/8/8/8/8/R3K3 w Q - 0 1"), "Kd2").getTransitionBoard();
+        assertTrue(tablebases.canProbe(afterMove));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsSignaturesWithoutBothKings() throws IOException {
+        new TablebaseGenerator(FOLDER.getRoot().toPath()).generate("KQvQ");
+    }
+
+    private static TablebaseResult probe(final String fen) {
+        return tablebases.probe(FenUtilities.createGameFromFEN(fen));
+    }
+
+    private static void assertResult(final TablebaseResult.Outcome outcome, final int plies, final String fen) {
+        final TablebaseResult result = probe(fen);
+        assertEquals(fen, outcome, result.getOutcome());
+        assertEquals(fen, plies, result.getPliesToMate());
+    }
+}